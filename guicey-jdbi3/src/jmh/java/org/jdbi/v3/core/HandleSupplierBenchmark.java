@@ -0,0 +1,81 @@
+package org.jdbi.v3.core;
+
+import org.jdbi.v3.core.config.ConfigRegistry;
+import org.jdbi.v3.core.extension.ExtensionMethod;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import ru.vyarus.guicey.jdbi3.unit.UnitManager;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Measures sql object call context switch overhead ({@link TransactionalHandleSupplier#invokeInContext}):
+ * usual call (config and extension method swap) and re-entrant call (context already installed).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@State(Scope.Thread)
+public class HandleSupplierBenchmark {
+
+    private UnitManager manager;
+    private TransactionalHandleSupplier supplier;
+    private ExtensionMethod method;
+    private ConfigRegistry config;
+    private Callable<Integer> task;
+
+    @Setup
+    public void setup() throws Exception {
+        final Jdbi jdbi = Jdbi.create("jdbc:h2:mem:bench");
+        manager = new UnitManager(jdbi);
+        supplier = new TransactionalHandleSupplier(jdbi, manager);
+        method = new ExtensionMethod(Runnable.class, Runnable.class.getMethod("run"));
+        manager.beginUnit();
+        config = manager.get().getConfig().createCopy();
+        task = () -> 1;
+    }
+
+    @TearDown
+    public void tearDown() {
+        manager.endUnit();
+    }
+
+    @Benchmark
+    public Integer switchContext() throws Exception {
+        return supplier.invokeInContext(method, config, task);
+    }
+
+    @Benchmark
+    public Integer installedContext(final Installed installed) throws Exception {
+        return supplier.invokeInContext(installed.method, config, task);
+    }
+
+    /**
+     * Installs benchmark context into handle (as if called from the same sql object method).
+     */
+    @State(Scope.Thread)
+    public static class Installed {
+        private ExtensionMethod method;
+        private Handle handle;
+        private ConfigRegistry oldConfig;
+
+        @Setup
+        public void setup(final HandleSupplierBenchmark state) {
+            // new instance of the same method (jdbi creates new instance for each call)
+            method = new ExtensionMethod(Runnable.class, state.method.getMethod());
+            handle = state.manager.get();
+            oldConfig = handle.getConfig();
+            handle.setExtensionMethod(state.method);
+            handle.setConfig(state.config);
+        }
+
+        @TearDown
+        public void tearDown() {
+            handle.setConfig(oldConfig);
+            handle.setExtensionMethod(null);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package ru.vyarus.guicey.jdbi3.installer.repository.sql;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * Compares repository method call with prepared method handle ({@link RepositoryMethod#invoke(Object, Object[])})
+ * and with reflection (previous dispatch). Target is a jdk proxy, like jdbi sql object, so only dispatch cost
+ * is measured.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@State(Scope.Benchmark)
+public class RepositoryDispatchBenchmark {
+
+    private Object target;
+    private Method method;
+    private RepositoryMethod desc;
+    private Object[] args;
+
+    @Setup
+    public void setup() throws Exception {
+        target = Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{Repo.class},
+                (proxy, m, a) -> ((String) a[0]).length() + (Long) a[1]);
+        method = Repo.class.getMethod("count", String.class, long.class);
+        desc = new RepositoryMethod(method);
+        args = new Object[]{"sample", 1L};
+    }
+
+    @Benchmark
+    public Object reflection() throws Throwable {
+        return RepositoryMethod.invoke(method, target, args);
+    }
+
+    @Benchmark
+    public Object methodHandle() throws Throwable {
+        return desc.invoke(target, args);
+    }
+
+    /**
+     * Sample repository.
+     */
+    public interface Repo {
+        long count(String name, long id);
+    }
+}
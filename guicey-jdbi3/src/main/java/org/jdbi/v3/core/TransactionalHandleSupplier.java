@@ -3,6 +3,7 @@ package org.jdbi.v3.core;
 import org.jdbi.v3.core.config.ConfigRegistry;
 import org.jdbi.v3.core.extension.ExtensionMethod;
 import org.jdbi.v3.core.extension.HandleSupplier;
+import ru.vyarus.guicey.jdbi3.unit.UnitManager;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
@@ -12,6 +13,10 @@ import java.util.concurrent.Callable;
 /**
  * Bridge have to lie in jdbi package in order have access to internal methods. Implementation is the same
  * as in {@link ConstantHandleSupplier}, except handler and config are obtained dynamically.
+ * <p>
+ * Supplier is called for each sql object method call, so handle is obtained directly from {@link UnitManager}
+ * (not through guice provider). When handle already uses required config and extension method (e.g. re-entrant
+ * call of the same sql object method), context is not switched at all.
  *
  * @author Vyacheslav Rusakov
  * @since 31.08.2018
@@ -23,6 +28,18 @@ public class TransactionalHandleSupplier implements HandleSupplier {
     private final Provider<Handle> handleProvider;
 
     @Inject
+    public TransactionalHandleSupplier(final Jdbi jdbi, final UnitManager manager) {
+        this.jdbi = jdbi;
+        this.handleProvider = manager;
+    }
+
+    /**
+     * @param jdbi           jdbi instance
+     * @param handleProvider current unit handle provider
+     * @deprecated use {@link #TransactionalHandleSupplier(Jdbi, UnitManager)} instead (guice provider adds
+     * indirection to each repository call)
+     */
+    @Deprecated
     public TransactionalHandleSupplier(final Jdbi jdbi, final Provider<Handle> handleProvider) {
         this.jdbi = jdbi;
         this.handleProvider = handleProvider;
@@ -46,10 +63,14 @@ public class TransactionalHandleSupplier implements HandleSupplier {
         // implementation copied from ConstantHandleSupplier
         final Handle handle = getHandle();
         final ExtensionMethod oldExtensionMethod = handle.getExtensionMethod();
+        final ConfigRegistry oldConfig = handle.getConfig();
+        if (oldConfig == config && isSameMethod(oldExtensionMethod, extensionMethod)) {
+            // fast path: context is already installed
+            return task.call();
+        }
         try {
             handle.setExtensionMethod(extensionMethod);
 
-            final ConfigRegistry oldConfig = handle.getConfig();
             try {
                 handle.setConfig(config);
                 return task.call();
@@ -61,6 +82,13 @@ public class TransactionalHandleSupplier implements HandleSupplier {
         }
     }
 
+    private boolean isSameMethod(final ExtensionMethod current, final ExtensionMethod required) {
+        // extension method instance is created for each call
+        return current != null
+                && current.getType() == required.getType()
+                && current.getMethod().equals(required.getMethod());
+    }
+
     @Override
     public ConfigRegistry getConfig() {
         return jdbi.getConfig();
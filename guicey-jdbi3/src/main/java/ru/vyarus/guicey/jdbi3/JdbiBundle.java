@@ -1,5 +1,6 @@
 package ru.vyarus.guicey.jdbi3;
 
+import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import io.dropwizard.Configuration;
@@ -11,18 +12,52 @@ import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyBootstrap;
 import ru.vyarus.dropwizard.guice.module.installer.bundle.GuiceyEnvironment;
 import ru.vyarus.guicey.jdbi3.dbi.ConfigAwareProvider;
 import ru.vyarus.guicey.jdbi3.dbi.SimpleDbiProvider;
+import ru.vyarus.guicey.jdbi3.dbi.replica.Replica;
+import ru.vyarus.guicey.jdbi3.dbi.replica.ReplicaBalancer;
+import ru.vyarus.guicey.jdbi3.dbi.replica.ReplicaLagHealthCheck;
+import ru.vyarus.guicey.jdbi3.dbi.replica.Replicas;
+import ru.vyarus.guicey.jdbi3.dbi.replica.ReplicasProvider;
+import ru.vyarus.guicey.jdbi3.dbi.replica.RoundRobinBalancer;
+import ru.vyarus.guicey.jdbi3.dbi.shard.HashShardResolver;
+import ru.vyarus.guicey.jdbi3.dbi.shard.ShardResolver;
+import ru.vyarus.guicey.jdbi3.dbi.shard.Shards;
+import ru.vyarus.guicey.jdbi3.dbi.shard.ShardsProvider;
 import ru.vyarus.guicey.jdbi3.installer.MapperInstaller;
 import ru.vyarus.guicey.jdbi3.installer.repository.JdbiRepository;
 import ru.vyarus.guicey.jdbi3.installer.repository.RepositoryInstaller;
+import ru.vyarus.guicey.jdbi3.mapper.ColumnarResultMapper;
+import ru.vyarus.guicey.jdbi3.metrics.DefaultMetricNaming;
+import ru.vyarus.guicey.jdbi3.metrics.JdbiMetrics;
+import ru.vyarus.guicey.jdbi3.metrics.MetricNaming;
 import ru.vyarus.guicey.jdbi3.module.JdbiModule;
+import ru.vyarus.guicey.jdbi3.module.JdbiOptions;
+import ru.vyarus.guicey.jdbi3.slowlog.SlowQueryLog;
+import ru.vyarus.guicey.jdbi3.slowlog.SlowQueryTask;
+import ru.vyarus.guicey.jdbi3.stream.StreamingOutputReleaser;
 import ru.vyarus.guicey.jdbi3.tx.InTransaction;
+import ru.vyarus.guicey.jdbi3.tx.LazyAsyncPool;
 import ru.vyarus.guicey.jdbi3.tx.TransactionTemplate;
+import ru.vyarus.guicey.jdbi3.tx.TxCallbackExecutor;
+import ru.vyarus.guicey.jdbi3.tx.TxExecutor;
+import ru.vyarus.guicey.jdbi3.tx.bulkhead.Bulkhead;
+import ru.vyarus.guicey.jdbi3.tx.bulkhead.BulkheadFullException;
+import ru.vyarus.guicey.jdbi3.tx.bulkhead.Bulkheads;
+import ru.vyarus.guicey.jdbi3.unit.NPlusOneDetector;
+import ru.vyarus.guicey.jdbi3.unit.ThreadLocalUnitStorage;
 import ru.vyarus.guicey.jdbi3.unit.UnitManager;
+import ru.vyarus.guicey.jdbi3.unit.UnitStorage;
+import ru.vyarus.guicey.jdbi3.unit.UnitWatchdog;
 
 import java.lang.annotation.Annotation;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 /**
@@ -45,6 +80,12 @@ import java.util.function.Consumer;
  * automatically.</li>
  * </ul>
  * <p>
+ * Read only transactions could be routed to read replicas: use
+ * {@link #forReplicatedDatabase(ConfigAwareProvider, ConfigAwareProvider)} to declare replicas.
+ * <p>
+ * Units of work could be routed to database shards by shard key: use {@link #forShardedDatabase(ConfigAwareProvider)}
+ * to declare shards.
+ * <p>
  *  Only one bundle instance will be actually used (in case of multiple registrations).
  *
  * @author Vyacheslav Rusakov
@@ -57,6 +98,26 @@ import java.util.function.Consumer;
 public final class JdbiBundle extends UniqueGuiceyBundle {
 
     private final ConfigAwareProvider<Jdbi, ?> jdbi;
+    private final ConfigAwareProvider<List<Replica>, ?> replicas;
+    private final ConfigAwareProvider<List<Jdbi>, ?> shards;
+    private ShardResolver shardResolver = new HashShardResolver();
+    private ReplicaBalancer balancer = new RoundRobinBalancer();
+    private String replicaLagQuery;
+    private Duration replicaMaxLag;
+    private ExecutorService asyncExecutor;
+    private ExecutorService callbackExecutor;
+    private int asyncThreads = 8;
+    private int asyncQueueSize = 1024;
+    private UnitStorage unitStorage = new ThreadLocalUnitStorage();
+    private MetricNaming metricNaming;
+    private Duration slowQueryThreshold;
+    private int slowQueryBufferSize;
+    private Duration unitBudget;
+    private boolean unitStackCapture;
+    private boolean closeLeakedUnits;
+    private int nPlusOneThreshold;
+    private final List<Bulkhead> bulkheads = new ArrayList<>();
+    private int warmupThreads;
     private List<Class<? extends Annotation>> txAnnotations = ImmutableList
             .<Class<? extends Annotation>>builder()
             .add(InTransaction.class)
@@ -64,8 +125,12 @@ public final class JdbiBundle extends UniqueGuiceyBundle {
     private List<JdbiPlugin> plugins = Collections.emptyList();
     private Consumer<Jdbi> configurer;
 
-    private JdbiBundle(final ConfigAwareProvider<Jdbi, ?> jdbi) {
+    private JdbiBundle(final ConfigAwareProvider<Jdbi, ?> jdbi,
+                       final ConfigAwareProvider<List<Replica>, ?> replicas,
+                       final ConfigAwareProvider<List<Jdbi>, ?> shards) {
         this.jdbi = jdbi;
+        this.replicas = replicas;
+        this.shards = shards;
     }
 
     /**
@@ -105,23 +170,329 @@ public final class JdbiBundle extends UniqueGuiceyBundle {
         return this;
     }
 
+    /**
+     * Replica selection strategy for read only units of work. By default, {@link RoundRobinBalancer} used.
+     * Use {@link ru.vyarus.guicey.jdbi3.dbi.replica.LeastActiveBalancer} to select replica with the lowest
+     * count of opened handles.
+     * <p>
+     * Ignored when no replicas configured.
+     *
+     * @param balancer replica balancer
+     * @return bundle instance for chained calls
+     */
+    public JdbiBundle withReplicaBalancer(final ReplicaBalancer balancer) {
+        this.balancer = balancer;
+        return this;
+    }
+
+    /**
+     * Shard selection strategy for units of work with shard key. By default, {@link HashShardResolver} used.
+     * <p>
+     * Ignored when no shards configured.
+     *
+     * @param resolver shard resolver
+     * @return bundle instance for chained calls
+     * @see ru.vyarus.guicey.jdbi3.dbi.shard.ShardKey
+     */
+    public JdbiBundle withShardResolver(final ShardResolver resolver) {
+        this.shardResolver = resolver;
+        return this;
+    }
+
+    /**
+     * Registers replication lag health check for each replica (named "replica name-lag"). Replica availability
+     * is checked by default dropwizard health check (registered for each replica automatically).
+     * <p>
+     * Ignored when no replicas configured.
+     *
+     * @param lagQuery database specific query returning replication lag in seconds (or null if lag unknown)
+     * @param maxLag   maximum allowed lag
+     * @return bundle instance for chained calls
+     * @see ReplicaLagHealthCheck
+     */
+    public JdbiBundle withReplicaLagCheck(final String lagQuery, final Duration maxLag) {
+        this.replicaLagQuery = lagQuery;
+        this.replicaMaxLag = maxLag;
+        return this;
+    }
+
+    /**
+     * Configures default executor for asynchronous transactions
+     * ({@link TransactionTemplate#inTransactionAsync(ru.vyarus.guicey.jdbi3.tx.TxConfig,
+     * ru.vyarus.guicey.jdbi3.tx.TxAction)} and {@link InTransaction} methods returning
+     * {@link java.util.concurrent.CompletionStage}). Pool is created on first asynchronous transaction (no threads
+     * started if asynchronous transactions are not used) and shut down with application (see
+     * {@link LazyAsyncPool}). Tasks exceeding queue size are rejected (future completed exceptionally).
+     * <p>
+     * By default, 8 threads and queue of 1024 tasks are used. Note that each running async transaction holds
+     * connection, so it makes no sense to use more threads than connection pool size.
+     *
+     * @param threads   executor threads count
+     * @param queueSize maximum count of waiting tasks
+     * @return bundle instance for chained calls
+     */
+    public JdbiBundle withAsyncPool(final int threads, final int queueSize) {
+        this.asyncThreads = threads;
+        this.asyncQueueSize = queueSize;
+        return this;
+    }
+
+    /**
+     * Custom executor for asynchronous transactions (instead of default pool, configured with
+     * {@link #withAsyncPool(int, int)}). Executor lifecycle must be managed manually.
+     *
+     * @param executor executor for asynchronous transactions
+     * @return bundle instance for chained calls
+     */
+    public JdbiBundle withAsyncExecutor(final ExecutorService executor) {
+        this.asyncExecutor = executor;
+        return this;
+    }
+
+    /**
+     * Executor for asynchronous transaction callbacks ({@link ru.vyarus.guicey.jdbi3.tx.TxSynchronization}).
+     * By default, asynchronous transactions executor is used. Executor lifecycle must be managed manually.
+     *
+     * @param executor executor for asynchronous transaction callbacks
+     * @return bundle instance for chained calls
+     */
+    public JdbiBundle withCallbackExecutor(final ExecutorService executor) {
+        this.callbackExecutor = executor;
+        return this;
+    }
+
+    /**
+     * Unit of work storage. By default, {@link ThreadLocalUnitStorage} is used (the fastest option). Use
+     * {@link ru.vyarus.guicey.jdbi3.unit.ThreadMapUnitStorage} to avoid thread locals (e.g. when application
+     * use huge amount of short-living threads), but note that map lookup is slower than thread local access.
+     *
+     * @param storage unit of work storage
+     * @return bundle instance for chained calls
+     */
+    public JdbiBundle withUnitStorage(final UnitStorage storage) {
+        this.unitStorage = Preconditions.checkNotNull(storage, "Unit storage required");
+        return this;
+    }
+
+    /**
+     * Shortcut for {@link #withMetrics(MetricNaming)} with default naming ({@link DefaultMetricNaming}).
+     *
+     * @return bundle instance for chained calls
+     */
+    public JdbiBundle withMetrics() {
+        return withMetrics(new DefaultMetricNaming());
+    }
+
+    /**
+     * Enables metrics for transactional methods (time, commits, rollbacks and nested calls), repository methods
+     * (time) and handle hold time. Metrics are registered in environment metrics registry. When metrics not
+     * enabled, no additional actions are performed.
+     *
+     * @param naming metric names strategy
+     * @return bundle instance for chained calls
+     * @see JdbiMetrics
+     */
+    public JdbiBundle withMetrics(final MetricNaming naming) {
+        this.metricNaming = naming;
+        return this;
+    }
+
+    /**
+     * Shortcut for {@link #withSlowQueryLog(Duration, int)} with buffer of 100 queries.
+     *
+     * @param threshold minimal query duration to record
+     * @return bundle instance for chained calls
+     */
+    public JdbiBundle withSlowQueryLog(final Duration threshold) {
+        return withSlowQueryLog(threshold, 100);
+    }
+
+    /**
+     * Enables slow queries log: queries, executed longer than threshold, are stored in memory buffer
+     * (only the latest queries are kept). Records contain sql, arguments, duration, repository method and
+     * transactional method. Log is available with admin task ({@code POST /tasks/jdbi-slow-queries}) or
+     * with {@link SlowQueryLog} bean.
+     *
+     * @param threshold  minimal query duration to record
+     * @param bufferSize maximum count of stored queries
+     * @return bundle instance for chained calls
+     * @see SlowQueryTask
+     */
+    public JdbiBundle withSlowQueryLog(final Duration threshold, final int bufferSize) {
+        this.slowQueryThreshold = threshold;
+        this.slowQueryBufferSize = bufferSize;
+        return this;
+    }
+
+    /**
+     * Enables units of work watchdog: all active units are tracked and periodically checked (each half of budget,
+     * but not more often than each second). Units, exceeding hold time budget, are logged (with start stack trace,
+     * if enabled). Units started in already dead threads (leaked units) are logged and, optionally, closed
+     * (to return connection into pool). Active units are available with {@link UnitWatchdog} bean.
+     * <p>
+     * When metrics enabled ({@link #withMetrics()}), active units count and the longest unit duration gauges and
+     * over budget and leaked units meters are registered.
+     *
+     * @param budget       unit hold time budget
+     * @param captureStack true to capture unit start stack trace (useful to find leak source, but costs
+     *                     stack trace creation for each unit)
+     * @param closeLeaked  true to close units, leaked in dead threads
+     * @return bundle instance for chained calls
+     */
+    public JdbiBundle withUnitWatchdog(final Duration budget,
+                                       final boolean captureStack,
+                                       final boolean closeLeaked) {
+        this.unitBudget = budget;
+        this.unitStackCapture = captureStack;
+        this.closeLeakedUnits = closeLeaked;
+        return this;
+    }
+
+    /**
+     * Enables N+1 queries detector (diagnostic mode, e.g. for staging load tests): executions of each sql template
+     * are counted inside unit of work and statements, executed more times than threshold, are reported at unit end
+     * (with transactional and repository method names). Detected statements are logged and available with
+     * {@link NPlusOneDetector} bean.
+     * <p>
+     * When metrics enabled ({@link #withMetrics()}), detections meter is registered.
+     *
+     * @param threshold max allowed executions of the same statement in one unit
+     * @return bundle instance for chained calls
+     */
+    public JdbiBundle withNPlusOneDetector(final int threshold) {
+        this.nPlusOneThreshold = threshold;
+        return this;
+    }
+
+    /**
+     * Limits concurrent transactions for methods group: transactional methods declare bulkhead with
+     * {@link InTransaction#bulkhead()}. Use {@link Bulkheads#DEFAULT} name to limit transactions without declared
+     * bulkhead. When limit is reached, transaction either fails immediately (zero wait) or waits for permit
+     * (bounded by wait time) and fails with {@link BulkheadFullException} (could be mapped to 503 response).
+     * <p>
+     * Separate bulkheads for critical and low priority methods (with total limit not exceeding connection pool
+     * size) prevent low priority methods from starving critical methods. Limit is applied only for transactions
+     * started by annotations (by transaction, started unit of work).
+     *
+     * @param name          bulkhead name
+     * @param maxConcurrent max concurrent transactions
+     * @param maxWait       max time to wait for permit (zero for fail fast)
+     * @return bundle instance for chained calls
+     */
+    public JdbiBundle withBulkhead(final String name, final int maxConcurrent, final Duration maxWait) {
+        bulkheads.add(new Bulkhead(name, maxConcurrent, maxWait));
+        return this;
+    }
+
+    /**
+     * Shortcut for {@link #withEagerRepositories(int)} with threads count equal to available processors.
+     *
+     * @return bundle instance for chained calls
+     */
+    public JdbiBundle withEagerRepositories() {
+        return withEagerRepositories(Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * By default, jdbi sql proxy for repository is created on first repository call (and so first calls
+     * are slower). Eager mode creates all proxies in parallel at startup (just after mappers registration).
+     * Creation time of each repository is logged.
+     *
+     * @param threads threads to use for proxies creation
+     * @return bundle instance for chained calls
+     * @see ru.vyarus.guicey.jdbi3.module.RepositoryWarmup
+     */
+    public JdbiBundle withEagerRepositories(final int threads) {
+        this.warmupThreads = threads;
+        return this;
+    }
+
     @Override
     public void initialize(final GuiceyBootstrap bootstrap) {
         bootstrap.installers(
                 RepositoryInstaller.class,
-                MapperInstaller.class);
+                MapperInstaller.class)
+                // primitive columnar results support
+                .extensions(ColumnarResultMapper.class,
+                        // rollback of not written streaming responses
+                        StreamingOutputReleaser.class);
 
     }
 
     @Override
     public void run(final GuiceyEnvironment environment) {
-        final Jdbi jdbi = this.jdbi.get(environment.configuration(), environment.environment());
+        final List<Jdbi> shards = this.shards == null ? Collections.emptyList()
+                : this.shards.get(environment.configuration(), environment.environment());
+        shards.forEach(this::configure);
+        final Jdbi jdbi;
+        if (this.shards == null) {
+            jdbi = this.jdbi.get(environment.configuration(), environment.environment());
+            configure(jdbi);
+        } else {
+            Preconditions.checkState(!shards.isEmpty(), "No shards configured");
+            // first shard is primary database (used by units without shard key)
+            jdbi = shards.get(0);
+        }
+
+        final List<Replica> replicas = this.replicas == null ? Collections.emptyList()
+                : this.replicas.get(environment.configuration(), environment.environment());
+        for (Replica replica : replicas) {
+            configure(replica.getJdbi());
+            if (replicaLagQuery != null) {
+                environment.environment().healthChecks().register(replica.getName() + "-lag",
+                        new ReplicaLagHealthCheck(replica, replicaLagQuery, replicaMaxLag));
+            }
+        }
+
+        final Executor executor = asyncExecutor != null ? asyncExecutor : buildAsyncPool(environment);
+
+        final SlowQueryLog slowQueryLog = slowQueryThreshold == null ? null
+                : new SlowQueryLog(slowQueryThreshold, slowQueryBufferSize);
+        if (slowQueryLog != null) {
+            environment.environment().admin().addTask(new SlowQueryTask(slowQueryLog));
+        }
+
+        final JdbiMetrics metrics = metricNaming == null ? JdbiMetrics.disabled()
+                : new JdbiMetrics(environment.environment().metrics(), metricNaming);
+
+        environment.modules(new JdbiModule(jdbi, txAnnotations, new JdbiOptions()
+                .replicas(new Replicas(replicas, balancer))
+                .shards(new Shards(shards, shardResolver))
+                .executor(new TxExecutor(executor))
+                .callbackExecutor(new TxCallbackExecutor(callbackExecutor != null ? callbackExecutor : executor))
+                .unitStorage(unitStorage)
+                .metrics(metrics)
+                .slowQueryLog(slowQueryLog)
+                .watchdog(buildWatchdog(environment, metrics))
+                .nPlusOneDetector(nPlusOneThreshold > 0 ? new NPlusOneDetector(nPlusOneThreshold, metrics) : null)
+                .warmupThreads(warmupThreads)
+                .bulkheads(new Bulkheads(bulkheads, metrics))));
+    }
+
+    private Executor buildAsyncPool(final GuiceyEnvironment environment) {
+        // pool threads started only when async transactions are actually used
+        final LazyAsyncPool pool = new LazyAsyncPool(asyncThreads, asyncQueueSize);
+        environment.environment().lifecycle().manage(pool);
+        return pool;
+    }
+
+    private UnitWatchdog buildWatchdog(final GuiceyEnvironment environment, final JdbiMetrics metrics) {
+        if (unitBudget == null) {
+            return null;
+        }
+        final UnitWatchdog watchdog = new UnitWatchdog(unitBudget, unitStackCapture, closeLeakedUnits, metrics);
+        final ScheduledExecutorService scheduler = environment.environment().lifecycle()
+                .scheduledExecutorService("jdbi-unit-watchdog").threads(1).build();
+        final long period = Math.max(TimeUnit.SECONDS.toMillis(1), unitBudget.toMillis() / 2);
+        scheduler.scheduleAtFixedRate(watchdog::check, period, period, TimeUnit.MILLISECONDS);
+        return watchdog;
+    }
+
+    private void configure(final Jdbi jdbi) {
         plugins.forEach(jdbi::installPlugin);
         if (configurer != null) {
             configurer.accept(jdbi);
         }
-
-        environment.modules(new JdbiModule(jdbi, txAnnotations));
     }
 
     /**
@@ -132,7 +503,25 @@ public final class JdbiBundle extends UniqueGuiceyBundle {
      * @return bundle instance
      */
     public static <C extends Configuration> JdbiBundle forDbi(final ConfigAwareProvider<Jdbi, C> dbi) {
-        return new JdbiBundle(dbi);
+        return new JdbiBundle(dbi, null, null);
+    }
+
+    /**
+     * Builds bundle for custom JDBI instances: primary database and read replicas. Read only units of work
+     * ({@link ru.vyarus.guicey.jdbi3.tx.TxConfig#isReadOnly()}) would use replica, selected with
+     * {@link #withReplicaBalancer(ReplicaBalancer)}. All other units use primary database.
+     * <p>
+     * Configured plugins and configuration action ({@link #withConfig(Consumer)}) are applied to all instances.
+     *
+     * @param dbi      primary JDBI instance provider
+     * @param replicas replica instances provider
+     * @param <C>      configuration type
+     * @return bundle instance
+     */
+    public static <C extends Configuration> JdbiBundle forReplicatedDbi(
+            final ConfigAwareProvider<Jdbi, C> dbi,
+            final ConfigAwareProvider<List<Replica>, C> replicas) {
+        return new JdbiBundle(dbi, replicas, null);
     }
 
     /**
@@ -146,4 +535,53 @@ public final class JdbiBundle extends UniqueGuiceyBundle {
             final ConfigAwareProvider<PooledDataSourceFactory, C> db) {
         return forDbi(new SimpleDbiProvider<C>(db));
     }
+
+    /**
+     * Builds bundle, by using only database factories from configuration: primary database and read replicas.
+     * Read only units of work ({@link ru.vyarus.guicey.jdbi3.tx.TxConfig#isReadOnly()}) would use replica,
+     * selected with {@link #withReplicaBalancer(ReplicaBalancer)}. All other units use primary database.
+     *
+     * @param db       primary database configuration provider
+     * @param replicas replica databases configuration provider
+     * @param <C>      configuration type
+     * @return bundle instance
+     * @see ReplicasProvider
+     */
+    public static <C extends Configuration> JdbiBundle forReplicatedDatabase(
+            final ConfigAwareProvider<PooledDataSourceFactory, C> db,
+            final ConfigAwareProvider<List<PooledDataSourceFactory>, C> replicas) {
+        return forReplicatedDbi(new SimpleDbiProvider<C>(db), new ReplicasProvider<C>(replicas));
+    }
+
+    /**
+     * Builds bundle for custom sharded JDBI instances. Units of work with shard key
+     * ({@link ru.vyarus.guicey.jdbi3.tx.TxConfig#getShardKey()} or {@link ru.vyarus.guicey.jdbi3.dbi.shard.ShardKey}
+     * parameter of transactional method) would use shard, selected with {@link #withShardResolver(ShardResolver)}.
+     * Units without shard key use the first shard. Repositories transparently use current unit's shard.
+     * <p>
+     * Configured plugins and configuration action ({@link #withConfig(Consumer)}) are applied to all instances.
+     *
+     * @param shards shard instances provider
+     * @param <C>    configuration type
+     * @return bundle instance
+     */
+    public static <C extends Configuration> JdbiBundle forShardedDbi(
+            final ConfigAwareProvider<List<Jdbi>, C> shards) {
+        return new JdbiBundle(null, null, shards);
+    }
+
+    /**
+     * Builds bundle, by using only database factories from configuration: database shards. Units of work with
+     * shard key would use shard, selected with {@link #withShardResolver(ShardResolver)}. Units without shard key
+     * use the first shard.
+     *
+     * @param shards shard databases configuration provider
+     * @param <C>    configuration type
+     * @return bundle instance
+     * @see ShardsProvider
+     */
+    public static <C extends Configuration> JdbiBundle forShardedDatabase(
+            final ConfigAwareProvider<List<PooledDataSourceFactory>, C> shards) {
+        return forShardedDbi(new ShardsProvider<C>(shards));
+    }
 }
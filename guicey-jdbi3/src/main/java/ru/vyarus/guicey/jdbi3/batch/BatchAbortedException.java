@@ -0,0 +1,27 @@
+package ru.vyarus.guicey.jdbi3.batch;
+
+/**
+ * Thrown by {@link BatchTemplate} when batch processing was aborted due to chunk failure (according to
+ * {@link ChunkFailurePolicy}). Cause is the failed chunk error. Batch progress (count of already committed
+ * items) is available with {@link #getResult()}.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class BatchAbortedException extends RuntimeException {
+
+    private final transient BatchResult result;
+
+    public BatchAbortedException(final BatchResult result) {
+        super("Chunked batch '" + result.getName() + "' aborted after " + result.getItems()
+                + " processed items", result.getFailure());
+        this.result = result;
+    }
+
+    /**
+     * @return aborted batch progress
+     */
+    public BatchResult getResult() {
+        return result;
+    }
+}
@@ -0,0 +1,154 @@
+package ru.vyarus.guicey.jdbi3.batch;
+
+import com.google.common.base.Preconditions;
+import ru.vyarus.guicey.jdbi3.tx.TxConfig;
+
+import java.util.function.Consumer;
+
+/**
+ * Chunked batch configuration (see {@link BatchTemplate}).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
+public final class BatchConfig {
+
+    /**
+     * Default batch name.
+     */
+    public static final String DEFAULT = "default";
+
+    private String name = DEFAULT;
+    private int chunkSize = 1000;
+    private int parallelism = 1;
+    private ChunkFailurePolicy failurePolicy = ChunkFailurePolicy.ABORT;
+    private int retryAttempts = 3;
+    private TxConfig tx = new TxConfig();
+    private Consumer<BatchResult> progress;
+
+    /**
+     * @return batch name (used for metrics and logs)
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return items count in one chunk
+     */
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * @return count of chunks, processed in parallel
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * @return chunk failure policy
+     */
+    public ChunkFailurePolicy getFailurePolicy() {
+        return failurePolicy;
+    }
+
+    /**
+     * @return maximum chunk processing attempts for {@link ChunkFailurePolicy#RETRY} policy
+     */
+    public int getRetryAttempts() {
+        return retryAttempts;
+    }
+
+    /**
+     * @return chunk transaction config
+     */
+    public TxConfig getTx() {
+        return tx;
+    }
+
+    /**
+     * @return progress listener or null
+     */
+    public Consumer<BatchResult> getProgress() {
+        return progress;
+    }
+
+    /**
+     * @param name batch name (used for metrics and logs)
+     * @return config itself for chained calls
+     */
+    public BatchConfig name(final String name) {
+        Preconditions.checkArgument(name != null && !name.isEmpty(), "Batch name required");
+        this.name = name;
+        return this;
+    }
+
+    /**
+     * @param chunkSize items count in one chunk (1000 by default)
+     * @return config itself for chained calls
+     */
+    public BatchConfig chunkSize(final int chunkSize) {
+        Preconditions.checkArgument(chunkSize > 0, "Chunk size must be positive");
+        this.chunkSize = chunkSize;
+        return this;
+    }
+
+    /**
+     * Each parallel chunk uses its own connection, so parallelism must not exceed connection pool size.
+     *
+     * @param parallelism count of chunks processed in parallel (1 by default - processing in caller thread)
+     * @return config itself for chained calls
+     */
+    public BatchConfig parallelism(final int parallelism) {
+        Preconditions.checkArgument(parallelism > 0, "Parallelism must be positive");
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * @param failurePolicy chunk failure policy ({@link ChunkFailurePolicy#ABORT} by default)
+     * @return config itself for chained calls
+     */
+    public BatchConfig onFailure(final ChunkFailurePolicy failurePolicy) {
+        this.failurePolicy = Preconditions.checkNotNull(failurePolicy, "Failure policy required");
+        return this;
+    }
+
+    /**
+     * Shortcut for {@link ChunkFailurePolicy#RETRY} policy declaration.
+     *
+     * @param attempts maximum chunk processing attempts, including first execution (3 by default)
+     * @return config itself for chained calls
+     */
+    public BatchConfig retry(final int attempts) {
+        Preconditions.checkArgument(attempts > 0, "Attempts count must be positive");
+        this.failurePolicy = ChunkFailurePolicy.RETRY;
+        this.retryAttempts = attempts;
+        return this;
+    }
+
+    /**
+     * Transaction retry policy is ignored for {@link ChunkFailurePolicy#RETRY} (chunk is retried instead).
+     *
+     * @param tx chunk transaction config (default transaction by default)
+     * @return config itself for chained calls
+     */
+    public BatchConfig tx(final TxConfig tx) {
+        this.tx = Preconditions.checkNotNull(tx, "Transaction config required");
+        return this;
+    }
+
+    /**
+     * Listener is called after each chunk completion (processed or skipped) from chunk processing thread.
+     *
+     * @param progress progress listener
+     * @return config itself for chained calls
+     */
+    public BatchConfig progress(final Consumer<BatchResult> progress) {
+        this.progress = progress;
+        return this;
+    }
+}
@@ -0,0 +1,121 @@
+package ru.vyarus.guicey.jdbi3.batch;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Chunked batch progress (see {@link BatchTemplate}). Counters are updated during processing (could be
+ * observed with {@link BatchConfig#progress(java.util.function.Consumer)} listener).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public final class BatchResult {
+
+    private final String name;
+    private final long startedAt = System.nanoTime();
+    private final AtomicLong items = new AtomicLong();
+    private final AtomicLong chunks = new AtomicLong();
+    private final AtomicLong skippedItems = new AtomicLong();
+    private final AtomicLong skippedChunks = new AtomicLong();
+    private final AtomicLong retries = new AtomicLong();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    private volatile long finishedAt;
+
+    BatchResult(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * @return batch name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return count of processed (committed) items
+     */
+    public long getItems() {
+        return items.get();
+    }
+
+    /**
+     * @return count of processed (committed) chunks
+     */
+    public long getChunks() {
+        return chunks.get();
+    }
+
+    /**
+     * @return count of items in skipped chunks
+     */
+    public long getSkippedItems() {
+        return skippedItems.get();
+    }
+
+    /**
+     * @return count of skipped chunks
+     */
+    public long getSkippedChunks() {
+        return skippedChunks.get();
+    }
+
+    /**
+     * @return count of chunk retries
+     */
+    public long getRetries() {
+        return retries.get();
+    }
+
+    /**
+     * @return true if batch was aborted
+     */
+    public boolean isAborted() {
+        return failure.get() != null;
+    }
+
+    /**
+     * @return abort cause or null
+     */
+    public Throwable getFailure() {
+        return failure.get();
+    }
+
+    /**
+     * @return processing time in milliseconds (current processing time for not finished batch)
+     */
+    public long getDuration() {
+        final long end = finishedAt == 0 ? System.nanoTime() : finishedAt;
+        return TimeUnit.NANOSECONDS.toMillis(end - startedAt);
+    }
+
+    @Override
+    public String toString() {
+        return name + ": " + getItems() + " items in " + getChunks() + " chunks (" + getSkippedChunks()
+                + " skipped, " + getRetries() + " retries) in " + getDuration() + " ms";
+    }
+
+    void processed(final int size) {
+        items.addAndGet(size);
+        chunks.incrementAndGet();
+    }
+
+    void skipped(final int size) {
+        skippedItems.addAndGet(size);
+        skippedChunks.incrementAndGet();
+    }
+
+    void retried() {
+        retries.incrementAndGet();
+    }
+
+    void abort(final Throwable cause) {
+        failure.compareAndSet(null, cause);
+    }
+
+    void finish() {
+        finishedAt = System.nanoTime();
+    }
+}
@@ -0,0 +1,306 @@
+package ru.vyarus.guicey.jdbi3.batch;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.guicey.jdbi3.metrics.JdbiMetrics;
+import ru.vyarus.guicey.jdbi3.tx.TransactionTemplate;
+import ru.vyarus.guicey.jdbi3.tx.TxConfig;
+import ru.vyarus.guicey.jdbi3.unit.UnitManager;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Chunked batch processing template: source items are split into chunks and each chunk is processed in its own
+ * unit of work and transaction (so repositories could be used inside chunk action as usual). Usage:
+ * <pre><code>
+ *    {@literal @}Inject BatchTemplate batch;
+ *     ...
+ *     batch.process(new BatchConfig().chunkSize(500).parallelism(4).onFailure(ChunkFailurePolicy.SKIP),
+ *             source, chunk -&gt; repository.update(chunk));
+ * </code></pre>
+ * <p>
+ * Source is read in caller thread. With parallelism greater than 1, chunks are processed on dedicated worker
+ * threads (created for each batch run) and source reading is blocked while all workers are busy, so no more
+ * than parallelism + 1 chunks are kept in memory.
+ * <p>
+ * Chunk failure is handled according to {@link ChunkFailurePolicy}. Aborted batch fails with
+ * {@link BatchAbortedException}. Errors ({@link Error}) are never skipped or retried: batch is aborted.
+ * When source fails, batch fails with source exception (after completion of already started chunks).
+ * <p>
+ * When metrics enabled, processed and skipped items and chunks, retries and chunk processing time are measured
+ * (metrics named by batch name).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Singleton
+public class BatchTemplate {
+
+    private final Logger logger = LoggerFactory.getLogger(BatchTemplate.class);
+
+    private final TransactionTemplate template;
+    private final UnitManager manager;
+    private final JdbiMetrics metrics;
+
+    @Inject
+    public BatchTemplate(final TransactionTemplate template, final UnitManager manager, final JdbiMetrics metrics) {
+        this.template = template;
+        this.manager = manager;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Process items with default configuration (chunks of 1000 items, processed in caller thread, abort on
+     * failure).
+     *
+     * @param source items source
+     * @param action chunk action
+     * @param <T>    item type
+     * @return batch result
+     * @throws BatchAbortedException if batch was aborted
+     */
+    public <T> BatchResult process(final Iterator<T> source, final ChunkAction<T> action) {
+        return process(new BatchConfig(), source, action);
+    }
+
+    /**
+     * Same as {@link #process(BatchConfig, Iterator, ChunkAction)}, but also closes source stream after
+     * processing.
+     *
+     * @param config batch config
+     * @param source items source
+     * @param action chunk action
+     * @param <T>    item type
+     * @return batch result
+     * @throws BatchAbortedException if batch was aborted
+     */
+    public <T> BatchResult process(final BatchConfig config, final Stream<T> source, final ChunkAction<T> action) {
+        try (Stream<T> items = source) {
+            return process(config, items.iterator(), action);
+        }
+    }
+
+    /**
+     * Process items by chunks. Each chunk is processed in new unit of work and transaction.
+     *
+     * @param config batch config
+     * @param source items source
+     * @param action chunk action
+     * @param <T>    item type
+     * @return batch result
+     * @throws BatchAbortedException if batch was aborted
+     * @throws IllegalStateException if called inside unit of work
+     */
+    public <T> BatchResult process(final BatchConfig config, final Iterator<T> source, final ChunkAction<T> action) {
+        // otherwise chunks executed in caller thread would participate in current transaction
+        Preconditions.checkState(!manager.isUnitStarted(),
+                "Chunked batch could not be started inside unit of work");
+        final BatchResult result = new BatchResult(config.getName());
+        final Chunks<T> chunks = new Chunks<>(config, action, result, new BatchMeters(config.getName()));
+        try {
+            if (config.getParallelism() == 1) {
+                while (!result.isAborted() && source.hasNext()) {
+                    chunks.process(nextChunk(source, config.getChunkSize()));
+                }
+            } else {
+                processParallel(config, source, chunks, result);
+            }
+        } finally {
+            result.finish();
+        }
+        if (result.isAborted()) {
+            throw new BatchAbortedException(result);
+        }
+        logger.info("Chunked batch {}", result);
+        return result;
+    }
+
+    private <T> void processParallel(final BatchConfig config,
+                                     final Iterator<T> source,
+                                     final Chunks<T> chunks,
+                                     final BatchResult result) {
+        final int parallelism = config.getParallelism();
+        final ExecutorService pool = Executors.newFixedThreadPool(parallelism, new ThreadFactoryBuilder()
+                .setNameFormat("batch-" + config.getName() + "-%d")
+                .setDaemon(true)
+                .build());
+        // limits count of chunks in memory
+        final Semaphore slots = new Semaphore(parallelism);
+        try {
+            while (!result.isAborted() && source.hasNext()) {
+                final List<T> chunk = nextChunk(source, config.getChunkSize());
+                slots.acquire();
+                if (result.isAborted()) {
+                    slots.release();
+                    break;
+                }
+                pool.execute(() -> {
+                    try {
+                        chunks.process(chunk);
+                    } finally {
+                        slots.release();
+                    }
+                });
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            result.abort(ex);
+            pool.shutdownNow();
+        } finally {
+            // wait for running chunks (also when source fails)
+            awaitChunks(pool, result);
+        }
+    }
+
+    private void awaitChunks(final ExecutorService pool, final BatchResult result) {
+        pool.shutdown();
+        try {
+            while (!pool.awaitTermination(1, TimeUnit.MINUTES)) {
+                logger.debug("Waiting for running chunks of batch {}", result.getName());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            result.abort(ex);
+            pool.shutdownNow();
+        }
+    }
+
+    private <T> List<T> nextChunk(final Iterator<T> source, final int size) {
+        final List<T> res = new ArrayList<>(size);
+        while (res.size() < size && source.hasNext()) {
+            res.add(source.next());
+        }
+        return res;
+    }
+
+    /**
+     * Chunk processing with failure policy applied.
+     *
+     * @param <T> item type
+     */
+    private class Chunks<T> {
+        private final BatchConfig config;
+        private final TxConfig tx;
+        private final ChunkAction<T> action;
+        private final BatchResult result;
+        private final BatchMeters meters;
+
+        Chunks(final BatchConfig config,
+               final ChunkAction<T> action,
+               final BatchResult result,
+               final BatchMeters meters) {
+            this.config = config;
+            // chunk retry replaces transaction retry (otherwise attempts would multiply)
+            this.tx = config.getFailurePolicy() == ChunkFailurePolicy.RETRY
+                    ? config.getTx().copy().retry(null) : config.getTx();
+            this.action = action;
+            this.result = result;
+            this.meters = meters;
+        }
+
+        @SuppressWarnings("PMD.AvoidCatchingThrowable")
+        public void process(final List<T> chunk) {
+            final int attempts = config.getFailurePolicy() == ChunkFailurePolicy.RETRY
+                    ? config.getRetryAttempts() : 1;
+            int attempt = 1;
+            while (true) {
+                final long start = System.nanoTime();
+                try {
+                    template.inTransaction(tx, handle -> {
+                        action.process(chunk);
+                        return null;
+                    });
+                    meters.processed(chunk.size(), System.nanoTime() - start);
+                    result.processed(chunk.size());
+                    break;
+                } catch (Throwable th) {
+                    if (th instanceof Error) {
+                        result.abort(th);
+                        throw (Error) th;
+                    }
+                    if (attempt < attempts) {
+                        logger.debug("Chunk of batch {} failed (attempt {}), retrying: {}",
+                                config.getName(), attempt, th.getMessage());
+                        meters.retried();
+                        result.retried();
+                        attempt++;
+                        continue;
+                    }
+                    if (config.getFailurePolicy() == ChunkFailurePolicy.SKIP) {
+                        logger.warn("Chunk of " + chunk.size() + " items skipped in batch " + config.getName(), th);
+                        meters.skipped(chunk.size());
+                        result.skipped(chunk.size());
+                        break;
+                    }
+                    result.abort(th);
+                    return;
+                }
+            }
+            if (config.getProgress() != null) {
+                config.getProgress().accept(result);
+            }
+        }
+    }
+
+    /**
+     * Batch metrics (does nothing when metrics disabled).
+     */
+    private class BatchMeters {
+        private final Meter items;
+        private final Meter chunks;
+        private final Meter skipped;
+        private final Meter retries;
+        private final Timer chunk;
+
+        BatchMeters(final String name) {
+            if (metrics.isEnabled()) {
+                final MetricRegistry registry = metrics.getRegistry();
+                items = registry.meter(metrics.chunkedBatchMetric(name, "items"));
+                chunks = registry.meter(metrics.chunkedBatchMetric(name, "chunks"));
+                skipped = registry.meter(metrics.chunkedBatchMetric(name, "skipped"));
+                retries = registry.meter(metrics.chunkedBatchMetric(name, "retries"));
+                chunk = registry.timer(metrics.chunkedBatchMetric(name, "chunk"));
+            } else {
+                items = null;
+                chunks = null;
+                skipped = null;
+                retries = null;
+                chunk = null;
+            }
+        }
+
+        public void processed(final int size, final long time) {
+            if (items != null) {
+                items.mark(size);
+                chunks.mark();
+                chunk.update(time, TimeUnit.NANOSECONDS);
+            }
+        }
+
+        public void skipped(final int size) {
+            if (skipped != null) {
+                skipped.mark(size);
+            }
+        }
+
+        public void retried() {
+            if (retries != null) {
+                retries.mark();
+            }
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package ru.vyarus.guicey.jdbi3.batch;
+
+import java.util.List;
+
+/**
+ * Chunk processing action for {@link BatchTemplate}. Called within unit of work and transaction, so
+ * repositories could be used as usual.
+ *
+ * @param <T> item type
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@FunctionalInterface
+public interface ChunkAction<T> {
+
+    /**
+     * @param chunk items chunk
+     * @throws Exception on error (transaction is rolled back and chunk failure policy applied)
+     */
+    @SuppressWarnings("PMD.SignatureDeclareThrowsException")
+    void process(List<T> chunk) throws Exception;
+}
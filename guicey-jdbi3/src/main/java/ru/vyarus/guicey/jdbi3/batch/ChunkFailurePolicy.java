@@ -0,0 +1,26 @@
+package ru.vyarus.guicey.jdbi3.batch;
+
+/**
+ * Chunk failure handling policy for {@link BatchTemplate}.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public enum ChunkFailurePolicy {
+
+    /**
+     * Stop batch processing on first chunk failure (chunks, already submitted to workers, are completed).
+     */
+    ABORT,
+    /**
+     * Ignore failed chunk (its transaction is rolled back) and continue processing.
+     */
+    SKIP,
+    /**
+     * Retry failed chunk (in new transaction) up to {@link BatchConfig#getRetryAttempts()} attempts and abort
+     * processing if all attempts fail. Transaction retry policy
+     * ({@link ru.vyarus.guicey.jdbi3.tx.TxConfig#getRetry()}) is not applied for chunk transactions with this policy
+     * (otherwise attempts would multiply).
+     */
+    RETRY
+}
@@ -0,0 +1,32 @@
+package ru.vyarus.guicey.jdbi3.batch;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Streaming batch for repository {@link org.jdbi.v3.sqlobject.statement.SqlBatch} methods: method accepts
+ * {@link java.util.Iterator}, {@link java.util.stream.Stream} or lazy {@link Iterable} parameter and rows are
+ * consumed by chunks of configured size. Each chunk is executed as separate jdbc batch on current unit handle,
+ * so only one chunk is kept in memory at a time (source stream is closed after processing).
+ * <p>
+ * All chunks are executed in current transaction. To limit transaction size in long imports use
+ * {@link BatchTemplate} (each chunk processed in its own transaction).
+ * <p>
+ * Only one method parameter could be streamed (other parameters are passed as is for each chunk).
+ * Method must return void. Processed rows count and speed (rows/sec) are logged after batch completion
+ * and rows meter is registered when metrics enabled.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface StreamingBatch {
+
+    /**
+     * @return rows count in one jdbc batch
+     */
+    int chunkSize() default 1000;
+}
@@ -0,0 +1,27 @@
+package ru.vyarus.guicey.jdbi3.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Shared cache version, incremented on each cache invalidation. Used to fence in-flight loads: value, loaded
+ * before invalidation (possibly stale), must not be stored after invalidation (see
+ * {@link RepositoryCaches#getVersion(com.google.common.cache.Cache)}).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public final class CacheVersion {
+
+    private final AtomicLong version = new AtomicLong();
+
+    /**
+     * @return current cache version
+     */
+    public long get() {
+        return version.get();
+    }
+
+    void increment() {
+        version.incrementAndGet();
+    }
+}
@@ -0,0 +1,48 @@
+package ru.vyarus.guicey.jdbi3.cache;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Enables shared (second-level) cache for repository method: method result is cached for method arguments
+ * and shared between all units of work. Cache is bounded by size and (optionally) entry time to live.
+ * <p>
+ * Cache is invalidated by tags: modifying repository methods, annotated with {@link InvalidateCache}, declare
+ * affected tags (e.g. table names). Invalidation is performed only after transaction commit. Inside transaction,
+ * performing modification, cache is not used for affected tags (to not see stale or uncommitted data).
+ * <p>
+ * Note that the same result instance is returned for all calls, so returned objects must not be modified.
+ * Methods returning lazy results ({@link java.util.stream.Stream}, {@link java.util.Iterator},
+ * {@link org.jdbi.v3.core.result.ResultIterable}) can't be cached.
+ *
+ * @author Vyacheslav Rusakov
+ * @see RepositoryCaches for statistics and manual invalidation
+ * @since 18.10.2026
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface Cached {
+
+    /**
+     * @return cache tags (e.g. table names), used for invalidation
+     */
+    String[] tags() default {};
+
+    /**
+     * @return maximum cache size
+     */
+    long maxSize() default 1000;
+
+    /**
+     * @return entry time to live (0 to live until eviction by size or invalidation)
+     */
+    long expireAfterWrite() default 0;
+
+    /**
+     * @return time unit for {@link #expireAfterWrite()}
+     */
+    TimeUnit timeUnit() default TimeUnit.SECONDS;
+}
@@ -0,0 +1,24 @@
+package ru.vyarus.guicey.jdbi3.cache;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares shared cache tags (see {@link Cached#tags()}), affected by repository method call. Caches are
+ * invalidated after transaction commit (or immediately, when called inside manually started unit of work,
+ * because there is no transaction).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface InvalidateCache {
+
+    /**
+     * @return affected cache tags
+     */
+    String[] value();
+}
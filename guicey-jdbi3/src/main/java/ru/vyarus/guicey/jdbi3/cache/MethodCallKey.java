@@ -0,0 +1,52 @@
+package ru.vyarus.guicey.jdbi3.cache;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+/**
+ * Cache key for method call: method and call arguments (arrays compared by content).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public final class MethodCallKey {
+
+    private final Method method;
+    private final Object[] args;
+    private final int hash;
+
+    public MethodCallKey(final Method method, final Object... args) {
+        this.method = method;
+        this.args = args;
+        this.hash = 31 * method.hashCode() + Arrays.deepHashCode(args);
+    }
+
+    /**
+     * @return called method
+     */
+    public Method getMethod() {
+        return method;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof MethodCallKey)) {
+            return false;
+        }
+        final MethodCallKey that = (MethodCallKey) o;
+        return hash == that.hash && method.equals(that.method) && Arrays.deepEquals(args, that.args);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return method.getName() + Arrays.deepToString(args);
+    }
+}
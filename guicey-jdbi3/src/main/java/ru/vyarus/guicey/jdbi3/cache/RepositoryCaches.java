@@ -0,0 +1,112 @@
+package ru.vyarus.guicey.jdbi3.cache;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ImmutableMap;
+
+import javax.inject.Singleton;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registry of shared repository caches ({@link Cached}). Could be used to get caches statistics or
+ * for manual invalidation.
+ * <p>
+ * Each invalidation increments cache version ({@link CacheVersion}): value must be stored in cache only if
+ * cache version was not changed during value loading (otherwise value, loaded before concurrent transaction
+ * commit, could stay in cache forever).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Singleton
+public class RepositoryCaches {
+
+    private final Map<String, Cache<?, ?>> caches = new ConcurrentHashMap<>();
+    private final Map<String, List<Cache<?, ?>>> tags = new ConcurrentHashMap<>();
+    // guava caches use identity equality
+    private final Map<Cache<?, ?>, CacheVersion> versions = new ConcurrentHashMap<>();
+
+    /**
+     * Register cache. Method is called automatically for all annotated repository methods.
+     *
+     * @param name      cache name (repository and method name)
+     * @param cacheTags cache tags
+     * @param cache     cache instance
+     * @return actual cache name (could be different when duplicate name used)
+     */
+    public synchronized String register(final String name, final Collection<String> cacheTags,
+                                        final Cache<?, ?> cache) {
+        String res = name;
+        int i = 1;
+        while (caches.containsKey(res)) {
+            res = name + "-" + ++i;
+        }
+        caches.put(res, cache);
+        versions.putIfAbsent(cache, new CacheVersion());
+        for (String tag : cacheTags) {
+            tags.computeIfAbsent(tag, key -> new CopyOnWriteArrayList<>()).add(cache);
+        }
+        return res;
+    }
+
+    /**
+     * @param cache registered cache
+     * @return cache version (incremented on each invalidation)
+     * @throws IllegalArgumentException if cache is not registered
+     */
+    public CacheVersion getVersion(final Cache<?, ?> cache) {
+        final CacheVersion res = versions.get(cache);
+        Preconditions.checkArgument(res != null, "Cache is not registered");
+        return res;
+    }
+
+    /**
+     * Invalidate all caches with provided tags.
+     *
+     * @param cacheTags tags to invalidate
+     */
+    public void invalidate(final Collection<String> cacheTags) {
+        for (String tag : cacheTags) {
+            final List<Cache<?, ?>> tagged = tags.get(tag);
+            if (tagged != null) {
+                tagged.forEach(this::invalidate);
+            }
+        }
+    }
+
+    /**
+     * Invalidate all caches.
+     */
+    public void invalidateAll() {
+        caches.values().forEach(this::invalidate);
+    }
+
+    private void invalidate(final Cache<?, ?> cache) {
+        // version incremented first: load, completed after this point, would not store value
+        versions.get(cache).increment();
+        cache.invalidateAll();
+    }
+
+    /**
+     * @return statistics of all registered caches (by cache name)
+     */
+    public Map<String, CacheStats> getStats() {
+        final ImmutableMap.Builder<String, CacheStats> res = ImmutableMap.builder();
+        caches.forEach((name, cache) -> res.put(name, cache.stats()));
+        return res.build();
+    }
+
+    /**
+     * @return registered caches size (by cache name)
+     */
+    public Map<String, Long> getSizes() {
+        final ImmutableMap.Builder<String, Long> res = ImmutableMap.builder();
+        caches.forEach((name, cache) -> res.put(name, cache.size()));
+        return res.build();
+    }
+}
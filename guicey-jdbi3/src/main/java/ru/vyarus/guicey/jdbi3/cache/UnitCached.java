@@ -0,0 +1,27 @@
+package ru.vyarus.guicey.jdbi3.cache;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Enables first-level (unit of work scoped) cache for repository method: method result is memoized for
+ * method arguments inside current unit of work. Repeated calls with the same arguments (inside the same unit)
+ * would not reach database. Cache is cleared on any modifying repository call ({@code @SqlUpdate},
+ * {@code @SqlBatch}, {@code @SqlCall}) in current unit and dropped at unit end.
+ * <p>
+ * Note that the same result instance is returned for repeated calls, so returned collections must not be
+ * modified. Methods returning lazy results ({@link java.util.stream.Stream}, {@link java.util.Iterator},
+ * {@link org.jdbi.v3.core.result.ResultIterable}) can't be cached.
+ * <p>
+ * Modifications performed directly with handle are not tracked.
+ *
+ * @author Vyacheslav Rusakov
+ * @see ru.vyarus.guicey.jdbi3.unit.UnitManager#getCache()
+ * @since 18.10.2026
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+public @interface UnitCached {
+}
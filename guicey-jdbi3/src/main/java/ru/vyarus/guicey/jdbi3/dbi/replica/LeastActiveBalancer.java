@@ -0,0 +1,27 @@
+package ru.vyarus.guicey.jdbi3.dbi.replica;
+
+import java.util.List;
+
+/**
+ * Selects replica with the lowest count of opened handles (first one in case of equal counts).
+ * Note that only handles opened by current application units are counted.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class LeastActiveBalancer implements ReplicaBalancer {
+
+    @Override
+    public Replica select(final List<Replica> replicas) {
+        Replica res = null;
+        int min = Integer.MAX_VALUE;
+        for (Replica replica : replicas) {
+            final int active = replica.getActive();
+            if (active < min) {
+                min = active;
+                res = replica;
+            }
+        }
+        return res;
+    }
+}
@@ -0,0 +1,76 @@
+package ru.vyarus.guicey.jdbi3.dbi.replica;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Read replica database. Tracks count of currently opened (by units of work) handles in order to be able
+ * to select less loaded replica ({@link LeastActiveBalancer}).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class Replica {
+
+    private final String name;
+    private final Jdbi jdbi;
+    private final AtomicInteger active = new AtomicInteger();
+
+    public Replica(final String name, final Jdbi jdbi) {
+        this.name = name;
+        this.jdbi = jdbi;
+    }
+
+    /**
+     * @return replica name (used for metrics and health checks)
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return replica jdbi instance
+     */
+    public Jdbi getJdbi() {
+        return jdbi;
+    }
+
+    /**
+     * @return count of currently opened handles on replica
+     */
+    public int getActive() {
+        return active.get();
+    }
+
+    /**
+     * Opens new handle. Method is used by {@link ru.vyarus.guicey.jdbi3.unit.UnitManager}, do not use it directly.
+     * Each opened handle must be released with {@link #release(Handle)}.
+     *
+     * @return opened handle
+     */
+    public Handle open() {
+        final Handle handle = jdbi.open();
+        active.incrementAndGet();
+        return handle;
+    }
+
+    /**
+     * Closes handle, opened with {@link #open()}.
+     *
+     * @param handle handle to close
+     */
+    public void release(final Handle handle) {
+        try {
+            handle.close();
+        } finally {
+            active.decrementAndGet();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
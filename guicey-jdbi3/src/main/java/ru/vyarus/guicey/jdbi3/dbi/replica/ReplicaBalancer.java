@@ -0,0 +1,23 @@
+package ru.vyarus.guicey.jdbi3.dbi.replica;
+
+import java.util.List;
+
+/**
+ * Selects read replica for read only unit of work.
+ *
+ * @author Vyacheslav Rusakov
+ * @see RoundRobinBalancer
+ * @see LeastActiveBalancer
+ * @since 18.10.2026
+ */
+@FunctionalInterface
+public interface ReplicaBalancer {
+
+    /**
+     * Called for each read only unit of work, so implementation must be fast and thread safe.
+     *
+     * @param replicas all configured replicas (never empty)
+     * @return selected replica
+     */
+    Replica select(List<Replica> replicas);
+}
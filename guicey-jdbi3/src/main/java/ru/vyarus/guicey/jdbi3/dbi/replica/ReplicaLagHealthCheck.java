@@ -0,0 +1,44 @@
+package ru.vyarus.guicey.jdbi3.dbi.replica;
+
+import com.codahale.metrics.health.HealthCheck;
+import org.jdbi.v3.core.Handle;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Checks replication lag with provided database-specific query. Query must return lag in seconds (or null when
+ * lag is unknown). For example, for postgres:
+ * {@code select extract(epoch from now() - pg_last_xact_replay_timestamp())}.
+ * <p>
+ * Replica availability is checked by default dropwizard jdbi health check, registered for each replica.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class ReplicaLagHealthCheck extends HealthCheck {
+
+    private final Replica replica;
+    private final String lagQuery;
+    private final Duration maxLag;
+
+    public ReplicaLagHealthCheck(final Replica replica, final String lagQuery, final Duration maxLag) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+    }
+
+    @Override
+    protected Result check() throws Exception {
+        final Optional<Double> lag;
+        try (Handle handle = replica.getJdbi().open()) {
+            lag = handle.createQuery(lagQuery).mapTo(Double.class).findOne();
+        }
+        if (!lag.isPresent()) {
+            return Result.healthy("Replication lag is unknown");
+        }
+        final long lagMs = (long) (lag.get() * 1000);
+        final String msg = String.format("Replication lag %s ms (max allowed %s ms)", lagMs, maxLag.toMillis());
+        return lagMs > maxLag.toMillis() ? Result.unhealthy(msg) : Result.healthy(msg);
+    }
+}
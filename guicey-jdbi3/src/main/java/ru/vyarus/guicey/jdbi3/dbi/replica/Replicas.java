@@ -0,0 +1,58 @@
+package ru.vyarus.guicey.jdbi3.dbi.replica;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import ru.vyarus.guicey.jdbi3.tx.TxConfig;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Configured read replicas. Read only units of work ({@link TxConfig#isReadOnly()}) open handle on replica,
+ * selected by balancer. When no replicas configured, all units use primary database.
+ * <p>
+ * Available for injection.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class Replicas {
+
+    private final List<Replica> replicas;
+    private final ReplicaBalancer balancer;
+
+    public Replicas(final List<Replica> replicas, final ReplicaBalancer balancer) {
+        Preconditions.checkNotNull(balancer, "Replica balancer required");
+        this.replicas = ImmutableList.copyOf(replicas);
+        this.balancer = balancer;
+    }
+
+    /**
+     * @return true if at least one replica configured
+     */
+    public boolean isAvailable() {
+        return !replicas.isEmpty();
+    }
+
+    /**
+     * @return all configured replicas
+     */
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * @param config unit configuration (may be null)
+     * @return replica to use for unit or null if primary database must be used
+     */
+    public Replica select(final TxConfig config) {
+        return isAvailable() && config != null && config.isReadOnly() ? balancer.select(replicas) : null;
+    }
+
+    /**
+     * @return empty replicas configuration (all units use primary database)
+     */
+    public static Replicas none() {
+        return new Replicas(Collections.emptyList(), new RoundRobinBalancer());
+    }
+}
@@ -0,0 +1,40 @@
+package ru.vyarus.guicey.jdbi3.dbi.replica;
+
+import io.dropwizard.Configuration;
+import io.dropwizard.db.ManagedDataSource;
+import io.dropwizard.db.PooledDataSourceFactory;
+import io.dropwizard.jdbi3.JdbiFactory;
+import io.dropwizard.setup.Environment;
+import ru.vyarus.guicey.jdbi3.dbi.ConfigAwareProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Replicas configurer, requiring just replicas database configurations. Replica jdbi instances are
+ * created the same way as primary (with dropwizard jdbi factory, and so each replica would have registered
+ * metrics and health check). Replicas are named "db-replica-N" (N starts from 1).
+ *
+ * @param <C> configuration type
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class ReplicasProvider<C extends Configuration> implements ConfigAwareProvider<List<Replica>, C> {
+
+    private final ConfigAwareProvider<List<PooledDataSourceFactory>, C> databases;
+
+    public ReplicasProvider(final ConfigAwareProvider<List<PooledDataSourceFactory>, C> databases) {
+        this.databases = databases;
+    }
+
+    @Override
+    public List<Replica> get(final C configuration, final Environment environment) {
+        final List<Replica> res = new ArrayList<>();
+        for (PooledDataSourceFactory db : databases.get(configuration, environment)) {
+            final String name = "db-replica-" + (res.size() + 1);
+            final ManagedDataSource dataSource = db.build(environment.metrics(), name);
+            res.add(new Replica(name, new JdbiFactory().build(environment, db, dataSource, name)));
+        }
+        return res;
+    }
+}
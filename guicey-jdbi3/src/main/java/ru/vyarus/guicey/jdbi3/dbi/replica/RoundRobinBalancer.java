@@ -0,0 +1,20 @@
+package ru.vyarus.guicey.jdbi3.dbi.replica;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Selects replicas in turn. Default balancer.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class RoundRobinBalancer implements ReplicaBalancer {
+
+    private final AtomicInteger counter = new AtomicInteger();
+
+    @Override
+    public Replica select(final List<Replica> replicas) {
+        return replicas.get(Math.floorMod(counter.getAndIncrement(), replicas.size()));
+    }
+}
@@ -0,0 +1,15 @@
+package ru.vyarus.guicey.jdbi3.dbi.shard;
+
+/**
+ * Default shard resolver: shard is selected by key hash code modulo shards count.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class HashShardResolver implements ShardResolver {
+
+    @Override
+    public int resolve(final Object key, final int shards) {
+        return Math.floorMod(key.hashCode(), shards);
+    }
+}
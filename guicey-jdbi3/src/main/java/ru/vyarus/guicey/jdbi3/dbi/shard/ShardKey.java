@@ -0,0 +1,21 @@
+package ru.vyarus.guicey.jdbi3.dbi.shard;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks transactional method parameter as shard key: unit of work, started by method, would use shard,
+ * resolved by parameter value (see {@link Shards}). Null value means default (first) shard.
+ * <p>
+ * Only one method parameter could be annotated.
+ *
+ * @author Vyacheslav Rusakov
+ * @see ru.vyarus.guicey.jdbi3.tx.TxConfig#shardKey(Object)
+ * @since 18.10.2026
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+public @interface ShardKey {
+}
@@ -0,0 +1,21 @@
+package ru.vyarus.guicey.jdbi3.dbi.shard;
+
+/**
+ * Shard selection strategy: resolves shard index by shard key.
+ *
+ * @author Vyacheslav Rusakov
+ * @see HashShardResolver default implementation
+ * @since 18.10.2026
+ */
+@FunctionalInterface
+public interface ShardResolver {
+
+    /**
+     * Must always return the same shard for the same key.
+     *
+     * @param key    shard key (not null)
+     * @param shards shards count
+     * @return shard index (0 .. shards - 1)
+     */
+    int resolve(Object key, int shards);
+}
@@ -0,0 +1,75 @@
+package ru.vyarus.guicey.jdbi3.dbi.shard;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import org.jdbi.v3.core.Jdbi;
+import ru.vyarus.guicey.jdbi3.tx.TxConfig;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Configured database shards. Unit of work with shard key ({@link TxConfig#getShardKey()}) opens handle on
+ * shard, selected by {@link ShardResolver}. Units without shard key use the first shard (primary jdbi instance).
+ * Repositories always use current unit handle and so transparently work with unit's shard.
+ * <p>
+ * Available for injection.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class Shards {
+
+    private final List<Jdbi> shards;
+    private final ShardResolver resolver;
+
+    public Shards(final List<Jdbi> shards, final ShardResolver resolver) {
+        Preconditions.checkNotNull(resolver, "Shard resolver required");
+        this.shards = ImmutableList.copyOf(shards);
+        this.resolver = resolver;
+    }
+
+    /**
+     * @return true if sharding configured
+     */
+    public boolean isEnabled() {
+        return !shards.isEmpty();
+    }
+
+    /**
+     * @return all shards (the first one is primary jdbi instance)
+     */
+    public List<Jdbi> getShards() {
+        return shards;
+    }
+
+    /**
+     * @param key shard key (may be null)
+     * @return shard index (0 for null key or when sharding is not configured)
+     */
+    public int resolve(final Object key) {
+        if (key == null || !isEnabled()) {
+            return 0;
+        }
+        final int res = resolver.resolve(key, shards.size());
+        Preconditions.checkState(res >= 0 && res < shards.size(),
+                "Shard resolver returned incorrect shard %s for key %s (shards count %s)", res, key, shards.size());
+        return res;
+    }
+
+    /**
+     * @param config unit configuration (may be null)
+     * @return shard to use for unit or null if primary database must be used
+     */
+    public Jdbi select(final TxConfig config) {
+        return isEnabled() && config != null && config.getShardKey() != null
+                ? shards.get(resolve(config.getShardKey())) : null;
+    }
+
+    /**
+     * @return empty shards configuration (all units use primary database)
+     */
+    public static Shards none() {
+        return new Shards(Collections.emptyList(), new HashShardResolver());
+    }
+}
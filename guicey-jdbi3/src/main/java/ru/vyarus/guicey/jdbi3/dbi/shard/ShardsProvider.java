@@ -0,0 +1,41 @@
+package ru.vyarus.guicey.jdbi3.dbi.shard;
+
+import io.dropwizard.Configuration;
+import io.dropwizard.db.ManagedDataSource;
+import io.dropwizard.db.PooledDataSourceFactory;
+import io.dropwizard.jdbi3.JdbiFactory;
+import io.dropwizard.setup.Environment;
+import org.jdbi.v3.core.Jdbi;
+import ru.vyarus.guicey.jdbi3.dbi.ConfigAwareProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shards configurer, requiring just shard database configurations. Shard jdbi instances are created
+ * with dropwizard jdbi factory (and so each shard would have registered metrics and health check).
+ * Shards are named "db-shard-N" (N starts from 0).
+ *
+ * @param <C> configuration type
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class ShardsProvider<C extends Configuration> implements ConfigAwareProvider<List<Jdbi>, C> {
+
+    private final ConfigAwareProvider<List<PooledDataSourceFactory>, C> databases;
+
+    public ShardsProvider(final ConfigAwareProvider<List<PooledDataSourceFactory>, C> databases) {
+        this.databases = databases;
+    }
+
+    @Override
+    public List<Jdbi> get(final C configuration, final Environment environment) {
+        final List<Jdbi> res = new ArrayList<>();
+        for (PooledDataSourceFactory db : databases.get(configuration, environment)) {
+            final String name = "db-shard-" + res.size();
+            final ManagedDataSource dataSource = db.build(environment.metrics(), name);
+            res.add(new JdbiFactory().build(environment, db, dataSource, name));
+        }
+        return res;
+    }
+}
@@ -9,6 +9,8 @@ import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.install.binding.BindingInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.util.FeatureUtils;
 import ru.vyarus.dropwizard.guice.module.installer.util.Reporter;
+import ru.vyarus.guicey.jdbi3.mapper.GeneratedMapper;
+import ru.vyarus.guicey.jdbi3.mapper.GeneratedRowMapper;
 import ru.vyarus.guicey.jdbi3.module.MapperBinder;
 import ru.vyarus.java.generics.resolver.GenericsResolver;
 
@@ -19,6 +21,9 @@ import javax.inject.Singleton;
  * Register mappers as singletons. Reports all installed mappers to console.
  * <p>
  * Mappers are normal guice beans and so may use constructor injection, aop etc.
+ * <p>
+ * Also, recognize bean types annotated with {@link GeneratedMapper} and register {@link GeneratedRowMapper}
+ * for them (annotated type itself is not bound).
  *
  * @author Vyacheslav Rusakov
  * @see MapperBinder for actual installation
@@ -31,13 +36,19 @@ public class MapperInstaller implements FeatureInstaller, BindingInstaller {
 
     @Override
     public boolean matches(final Class<?> type) {
-        return FeatureUtils.is(type, RowMapper.class);
+        return FeatureUtils.is(type, RowMapper.class) || type.isAnnotationPresent(GeneratedMapper.class);
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public void bind(final Binder binder, final Class<?> type, final boolean lazy) {
-        binder.bind(type).in(Singleton.class);
-        register(binder, type);
+        if (isGenerated(type)) {
+            Multibinder.newSetBinder(binder, RowMapper.class).addBinding()
+                    .toInstance(new GeneratedRowMapper<>(type));
+        } else {
+            binder.bind(type).in(Singleton.class);
+            register(binder, type);
+        }
     }
 
     @Override
@@ -55,11 +66,19 @@ public class MapperInstaller implements FeatureInstaller, BindingInstaller {
     @Override
     public void extensionBound(final Stage stage, final Class<?> type) {
         if (stage != Stage.TOOL) {
-            final String target = GenericsResolver.resolve(type).type(RowMapper.class).genericAsString(0);
-            reporter.line("%-20s (%s)", target, type.getName());
+            if (isGenerated(type)) {
+                reporter.line("%-20s (generated)", type.getSimpleName());
+            } else {
+                final String target = GenericsResolver.resolve(type).type(RowMapper.class).genericAsString(0);
+                reporter.line("%-20s (%s)", target, type.getName());
+            }
         }
     }
 
+    private boolean isGenerated(final Class<?> type) {
+        return !RowMapper.class.isAssignableFrom(type) && type.isAnnotationPresent(GeneratedMapper.class);
+    }
+
     @Override
     public void report() {
         reporter.report();
@@ -5,11 +5,13 @@ import com.google.inject.Binder;
 import com.google.inject.Binding;
 import com.google.inject.Stage;
 import com.google.inject.matcher.Matchers;
+import com.google.inject.multibindings.Multibinder;
 import ru.vyarus.dropwizard.guice.debug.report.guice.util.GuiceModelUtils;
 import ru.vyarus.dropwizard.guice.module.installer.FeatureInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.install.binding.BindingInstaller;
 import ru.vyarus.dropwizard.guice.module.installer.util.Reporter;
 import ru.vyarus.guice.ext.core.generator.DynamicClassGenerator;
+import ru.vyarus.guicey.jdbi3.installer.repository.sql.SqlObjectDispatcher;
 import ru.vyarus.guicey.jdbi3.installer.repository.sql.SqlObjectProvider;
 import ru.vyarus.guicey.jdbi3.module.NoSyntheticMatcher;
 import ru.vyarus.guicey.jdbi3.tx.InTransaction;
@@ -17,9 +19,7 @@ import ru.vyarus.guicey.jdbi3.tx.TransactionTemplate;
 import ru.vyarus.guicey.jdbi3.unit.UnitManager;
 import ru.vyarus.java.generics.resolver.GenericsResolver;
 
-import javax.inject.Provider;
 import javax.inject.Singleton;
-import java.lang.reflect.InvocationTargetException;
 
 /**
  * Recognize classes annotated with {@link JdbiRepository} and register them. Such classes may be then
@@ -28,7 +28,7 @@ import java.lang.reflect.InvocationTargetException;
  * <p>
  * Dao may use any guice-related annotations because beans participate in guice aop. This is done by creating
  * special guice-managed proxy class (where guice could apply aop). These proxies delegate all method calls to
- * JDBI-managed proxies.
+ * JDBI-managed proxies (repository methods features and method handles are resolved at binding time).
  *
  * @author Vyacheslav Rusakov
  * @see InTransaction default annotation
@@ -50,14 +50,15 @@ public class RepositoryInstaller implements FeatureInstaller, BindingInstaller {
     }
 
     @Override
-    @SuppressWarnings({"unchecked", "checkstyle:Indentation"})
+    @SuppressWarnings("unchecked")
     public void bind(final Binder binder, final Class<?> type, final boolean lazy) {
         Preconditions.checkState(!lazy, "@LazyBinding not supported");
 
         // jdbi on demand proxy creator: laziness required to wait for global configuration complete
         // to let proxy factory create method configs with all global configurations (mappers)
-        final Provider<Object> jdbiProxy = new SqlObjectProvider(type);
-        binder.requestInjection(jdbiProxy);
+        final SqlObjectProvider jdbiProxy = new SqlObjectProvider(type);
+        // multibinding is also used for providers injection (required for optional eager initialization)
+        Multibinder.newSetBinder(binder, SqlObjectProvider.class).addBinding().toInstance(jdbiProxy);
 
         // prepare non abstract implementation class (instantiated by guice)
         final Class guiceType = DynamicClassGenerator.generate(type);
@@ -65,15 +66,9 @@ public class RepositoryInstaller implements FeatureInstaller, BindingInstaller {
 
         // interceptor registered for each dao and redirect calls to actual jdbi proxy
         // (at this point all guice interceptors are already involved)
-        binder.bindInterceptor(Matchers.subclassesOf(type), NoSyntheticMatcher.instance(),
-                invocation -> {
-                    try {
-                        return invocation.getMethod().invoke(jdbiProxy.get(), invocation.getArguments());
-                    } catch (InvocationTargetException th) {
-                        // avoid exception wrapping (simpler to handle outside)
-                        throw th.getCause();
-                    }
-                });
+        final SqlObjectDispatcher dispatcher = new SqlObjectDispatcher(type, jdbiProxy);
+        binder.requestInjection(dispatcher);
+        binder.bindInterceptor(Matchers.subclassesOf(type), NoSyntheticMatcher.instance(), dispatcher);
     }
 
     @Override
@@ -0,0 +1,271 @@
+package ru.vyarus.guicey.jdbi3.installer.repository.sql;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Timer;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.ImmutableList;
+import org.jdbi.v3.core.result.ResultIterable;
+import org.jdbi.v3.sqlobject.statement.SqlBatch;
+import org.jdbi.v3.sqlobject.statement.SqlCall;
+import org.jdbi.v3.sqlobject.statement.SqlUpdate;
+import ru.vyarus.guicey.jdbi3.batch.StreamingBatch;
+import ru.vyarus.guicey.jdbi3.cache.CacheVersion;
+import ru.vyarus.guicey.jdbi3.cache.Cached;
+import ru.vyarus.guicey.jdbi3.cache.InvalidateCache;
+import ru.vyarus.guicey.jdbi3.cache.MethodCallKey;
+import ru.vyarus.guicey.jdbi3.cache.RepositoryCaches;
+import ru.vyarus.guicey.jdbi3.cache.UnitCached;
+import ru.vyarus.guicey.jdbi3.metrics.JdbiMetrics;
+import ru.vyarus.guicey.jdbi3.page.KeysetPaging;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Repository method descriptor, resolved once at binding time: contains method features (caching, invalidation,
+ * batching, paging), so they are not resolved on each call. Method handle, calling sql object method directly
+ * (without reflection and exception wrapping), is also prepared here. Keyset paged methods
+ * ({@link ru.vyarus.guicey.jdbi3.page.KeysetPaged}) are validated here, so incorrect declaration fails on
+ * repository binding.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+final class RepositoryMethod {
+
+    // (target, args) -> result
+    private static final MethodType DISPATCH_TYPE = MethodType.methodType(Object.class, Object.class, Object[].class);
+
+    private final Method method;
+    // null when method is not accessible (called with reflection)
+    private final MethodHandle handle;
+    private final boolean unitCached;
+    private final boolean modifying;
+    // shared cache (null values stored as empty optional)
+    private final Cache<MethodCallKey, Optional<Object>> cache;
+    private final List<String> cacheTags;
+    // null when method is not cached
+    private CacheVersion cacheVersion;
+    private final List<String> invalidatedTags;
+    // null for usual methods
+    private final StreamingBatchExecutor batch;
+    // null for not paged methods
+    private final KeysetPaging paging;
+    private Runnable invalidation;
+    // null when metrics disabled
+    private Timer timer;
+    // null when metrics disabled or method is not streaming batch
+    private Meter batchRows;
+
+    RepositoryMethod(final Method method) {
+        this.method = method;
+        this.handle = prepareHandle(method);
+        this.unitCached = method.isAnnotationPresent(UnitCached.class);
+        this.modifying = method.isAnnotationPresent(SqlUpdate.class)
+                || method.isAnnotationPresent(SqlBatch.class)
+                || method.isAnnotationPresent(SqlCall.class);
+        if (unitCached) {
+            validateCacheable(method, UnitCached.class);
+        }
+        final Cached cached = method.getAnnotation(Cached.class);
+        if (cached != null) {
+            validateCacheable(method, Cached.class);
+            this.cache = buildCache(cached);
+            this.cacheTags = ImmutableList.copyOf(cached.tags());
+        } else {
+            this.cache = null;
+            this.cacheTags = Collections.emptyList();
+        }
+        final InvalidateCache invalidate = method.getAnnotation(InvalidateCache.class);
+        this.invalidatedTags = invalidate == null
+                ? Collections.emptyList() : ImmutableList.copyOf(invalidate.value());
+        final StreamingBatch streaming = method.getAnnotation(StreamingBatch.class);
+        this.batch = streaming == null ? null : new StreamingBatchExecutor(method, streaming);
+        this.paging = KeysetPaging.create(method);
+    }
+
+    /**
+     * @return repository method
+     */
+    public Method getMethod() {
+        return method;
+    }
+
+    /**
+     * @return true if method result must be cached in unit of work
+     */
+    public boolean isUnitCached() {
+        return unitCached;
+    }
+
+    /**
+     * @return true if method modifies database
+     */
+    public boolean isModifying() {
+        return modifying;
+    }
+
+    /**
+     * @return shared cache or null if method is not cached
+     */
+    public Cache<MethodCallKey, Optional<Object>> getCache() {
+        return cache;
+    }
+
+    /**
+     * @return shared cache version or null if method is not cached
+     */
+    public CacheVersion getCacheVersion() {
+        return cacheVersion;
+    }
+
+    /**
+     * @return shared cache tags (empty if method not cached)
+     */
+    public List<String> getCacheTags() {
+        return cacheTags;
+    }
+
+    /**
+     * @return shared cache tags, invalidated by method call (empty if method does not invalidate caches)
+     */
+    public List<String> getInvalidatedTags() {
+        return invalidatedTags;
+    }
+
+    /**
+     * @return action invalidating affected caches or null if method does not invalidate caches
+     */
+    public Runnable getInvalidation() {
+        return invalidation;
+    }
+
+    /**
+     * @return true if method is a streaming batch (see {@link StreamingBatch})
+     */
+    public boolean isStreamingBatch() {
+        return batch != null;
+    }
+
+    /**
+     * @return method timer or null if metrics disabled
+     */
+    public Timer getTimer() {
+        return timer;
+    }
+
+    /**
+     * Registers method timer (if metrics enabled).
+     *
+     * @param metrics metrics
+     */
+    public void bindMetrics(final JdbiMetrics metrics) {
+        if (metrics.isEnabled()) {
+            timer = metrics.repository(method);
+            if (batch != null) {
+                batchRows = metrics.batchRows(method);
+            }
+        }
+    }
+
+    /**
+     * Registers method cache (if method is cached) and prepares invalidation action.
+     *
+     * @param caches caches registry
+     */
+    public void bindCaches(final RepositoryCaches caches) {
+        if (cache != null) {
+            caches.register(method.getDeclaringClass().getSimpleName() + "." + method.getName(), cacheTags, cache);
+            cacheVersion = caches.getVersion(cache);
+        }
+        if (!invalidatedTags.isEmpty()) {
+            invalidation = () -> caches.invalidate(invalidatedTags);
+        }
+    }
+
+    /**
+     * @param target sql object instance
+     * @param args   method arguments
+     * @return method call result
+     * @throws Throwable method call errors (not wrapped)
+     */
+    public Object invoke(final Object target, final Object[] args) throws Throwable {
+        final Object res;
+        if (handle != null) {
+            res = handle.invokeExact(target, args);
+        } else {
+            res = invoke(method, target, args);
+        }
+        return paging == null ? res : paging.complete(res, args);
+    }
+
+    /**
+     * Executes streaming batch method by chunks.
+     *
+     * @param target sql object instance
+     * @param args   method arguments
+     * @throws Throwable method call errors (not wrapped)
+     */
+    public void invokeStreaming(final Object target, final Object[] args) throws Throwable {
+        batch.execute(this, target, args, batchRows);
+    }
+
+    /**
+     * @param method method to call
+     * @param target sql object instance
+     * @param args   method arguments
+     * @return method call result
+     * @throws Throwable method call errors (not wrapped)
+     */
+    public static Object invoke(final Method method, final Object target, final Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException th) {
+            // avoid exception wrapping (simpler to handle outside)
+            throw th.getCause();
+        }
+    }
+
+    private static MethodHandle prepareHandle(final Method method) {
+        try {
+            // fixed arity to spread varargs array as is
+            return MethodHandles.lookup().unreflect(method)
+                    .asFixedArity()
+                    .asSpreader(Object[].class, method.getParameterCount())
+                    .asType(DISPATCH_TYPE);
+        } catch (IllegalAccessException ex) {
+            return null;
+        }
+    }
+
+    private static void validateCacheable(final Method method, final Class<?> annotation) {
+        final Class<?> type = method.getReturnType();
+        Preconditions.checkState(type != void.class
+                        && !Stream.class.isAssignableFrom(type)
+                        && !Iterator.class.isAssignableFrom(type)
+                        && !ResultIterable.class.isAssignableFrom(type),
+                "@%s can't be used on method %s.%s: only methods returning complete result could be cached",
+                annotation.getSimpleName(), method.getDeclaringClass().getSimpleName(), method.getName());
+    }
+
+    private static Cache<MethodCallKey, Optional<Object>> buildCache(final Cached cached) {
+        Preconditions.checkState(cached.maxSize() > 0, "Cache size must be positive");
+        final CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder()
+                .maximumSize(cached.maxSize())
+                .recordStats();
+        if (cached.expireAfterWrite() > 0) {
+            builder.expireAfterWrite(cached.expireAfterWrite(), cached.timeUnit());
+        }
+        return builder.build();
+    }
+}
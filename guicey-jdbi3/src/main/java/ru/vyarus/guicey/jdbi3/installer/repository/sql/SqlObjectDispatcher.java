@@ -0,0 +1,158 @@
+package ru.vyarus.guicey.jdbi3.installer.repository.sql;
+
+import com.codahale.metrics.Timer;
+import com.google.common.collect.ImmutableMap;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import ru.vyarus.guicey.jdbi3.cache.MethodCallKey;
+import ru.vyarus.guicey.jdbi3.cache.RepositoryCaches;
+import ru.vyarus.guicey.jdbi3.metrics.JdbiMetrics;
+import ru.vyarus.guicey.jdbi3.unit.UnitCache;
+import ru.vyarus.guicey.jdbi3.unit.UnitManager;
+
+import javax.inject.Inject;
+import javax.inject.Provider;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Interceptor redirects guice proxy calls to jdbi sql object (with method handles, without exception wrapping).
+ * Repository methods descriptors are prepared in advance (at binding time). Methods without descriptor
+ * (e.g. {@link Object} methods) are simply redirected with reflection.
+ * <p>
+ * Also, applies unit of work cache for methods annotated with {@link ru.vyarus.guicey.jdbi3.cache.UnitCached}
+ * (and clears it on modifying methods) and shared cache for methods annotated with
+ * {@link ru.vyarus.guicey.jdbi3.cache.Cached} (invalidated after commit by methods annotated with
+ * {@link ru.vyarus.guicey.jdbi3.cache.InvalidateCache}).
+ * <p>
+ * Methods annotated with {@link ru.vyarus.guicey.jdbi3.batch.StreamingBatch} are executed by chunks.
+ * <p>
+ * When metrics enabled ({@link JdbiMetrics}), each method call is timed.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class SqlObjectDispatcher implements MethodInterceptor {
+
+    private final Provider<?> target;
+    private final Map<Method, RepositoryMethod> methods;
+
+    @Inject
+    private UnitManager manager;
+
+    public SqlObjectDispatcher(final Class<?> type, final Provider<?> target) {
+        this.target = target;
+        this.methods = prepareMethods(type);
+    }
+
+    /**
+     * Registers shared caches and prepares invalidation actions.
+     *
+     * @param caches caches registry
+     */
+    @Inject
+    public void bindCaches(final RepositoryCaches caches) {
+        methods.values().forEach(desc -> desc.bindCaches(caches));
+    }
+
+    /**
+     * Registers method timers (if metrics enabled).
+     *
+     * @param metrics metrics
+     */
+    @Inject
+    public void bindMetrics(final JdbiMetrics metrics) {
+        methods.values().forEach(desc -> desc.bindMetrics(metrics));
+    }
+
+    @Override
+    public Object invoke(final MethodInvocation invocation) throws Throwable {
+        final Method method = invocation.getMethod();
+        final RepositoryMethod desc = methods.get(method);
+        if (desc == null) {
+            return RepositoryMethod.invoke(method, target.get(), invocation.getArguments());
+        }
+        final Timer timer = desc.getTimer();
+        if (timer == null) {
+            return dispatch(desc, invocation.getArguments());
+        }
+        final Timer.Context time = timer.time();
+        try {
+            return dispatch(desc, invocation.getArguments());
+        } finally {
+            time.stop();
+        }
+    }
+
+    private Object dispatch(final RepositoryMethod desc, final Object[] args) throws Throwable {
+        if (desc.isModifying()) {
+            manager.invalidateCache();
+        }
+        final boolean invalidate = desc.getInvalidation() != null && manager.isUnitStarted();
+        if (invalidate) {
+            // shared cache could not be used for modified tags until commit
+            manager.getCache().markDirty(desc.getInvalidatedTags());
+        }
+        final Object res;
+        if (desc.isStreamingBatch()) {
+            desc.invokeStreaming(target.get(), args);
+            res = null;
+        } else {
+            res = desc.isUnitCached() && manager.isUnitStarted()
+                    ? invokeUnitCached(desc, args)
+                    : call(desc, args);
+        }
+        if (invalidate) {
+            // registered only after successful call: in manual unit (without transaction) invalidation is
+            // performed immediately, so it must go after the modification (otherwise concurrent load could
+            // cache old value)
+            manager.afterCommit(desc.getInvalidation());
+        }
+        return res;
+    }
+
+    private Object invokeUnitCached(final RepositoryMethod desc, final Object[] args) throws Throwable {
+        final UnitCache cache = manager.getCache();
+        final MethodCallKey key = new MethodCallKey(desc.getMethod(), args);
+        if (cache.contains(key)) {
+            return cache.get(key);
+        }
+        final Object res = call(desc, args);
+        cache.put(key, res);
+        return res;
+    }
+
+    private Object call(final RepositoryMethod desc, final Object[] args) throws Throwable {
+        if (desc.getCache() == null
+                || (manager.isUnitStarted() && manager.getCache().isDirty(desc.getCacheTags()))) {
+            return desc.invoke(target.get(), args);
+        }
+        final MethodCallKey key = new MethodCallKey(desc.getMethod(), args);
+        final Optional<Object> cached = desc.getCache().getIfPresent(key);
+        if (cached != null) {
+            return cached.orElse(null);
+        }
+        final long version = desc.getCacheVersion().get();
+        final Object res = desc.invoke(target.get(), args);
+        // value could be already stale if cache was invalidated during loading (concurrent commit)
+        if (desc.getCacheVersion().get() == version) {
+            desc.getCache().put(key, Optional.ofNullable(res));
+            if (desc.getCacheVersion().get() != version) {
+                // invalidated between check and put
+                desc.getCache().invalidate(key);
+            }
+        }
+        return res;
+    }
+
+    private static Map<Method, RepositoryMethod> prepareMethods(final Class<?> type) {
+        final ImmutableMap.Builder<Method, RepositoryMethod> res = ImmutableMap.builder();
+        for (Method method : type.getMethods()) {
+            if (!method.isSynthetic()) {
+                res.put(method, new RepositoryMethod(method));
+            }
+        }
+        return res.build();
+    }
+}
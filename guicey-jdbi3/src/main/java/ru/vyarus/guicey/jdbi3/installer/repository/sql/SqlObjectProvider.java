@@ -16,6 +16,9 @@ import javax.inject.Provider;
  * if some global row mapper will be registered after this moment, method config will not know about it.
  * Provider is created just before injector creation and all mappers are registered just after injector creation,
  * so without laziness nothing would work as planned.
+ * <p>
+ * Proxies could be created eagerly just after mappers registration (see
+ * {@link ru.vyarus.guicey.jdbi3.module.RepositoryWarmup}) to avoid first call delay.
  *
  * @param <T> sql proxy type
  * @author Vyacheslav Rusakov
@@ -37,6 +40,13 @@ public class SqlObjectProvider<T> implements Provider<T> {
         this.extensionType = extensionType;
     }
 
+    /**
+     * @return repository type
+     */
+    public Class<T> getType() {
+        return extensionType;
+    }
+
     @Override
     public T get() {
         // lazy sql proxy creation
@@ -0,0 +1,129 @@
+package ru.vyarus.guicey.jdbi3.installer.repository.sql;
+
+import com.codahale.metrics.Meter;
+import com.google.common.base.Preconditions;
+import org.jdbi.v3.sqlobject.statement.SqlBatch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.guicey.jdbi3.batch.StreamingBatch;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Executes {@link StreamingBatch} repository method: streamed parameter is consumed by chunks and sql object
+ * method is called for each chunk (so jdbi executes each chunk as separate batch).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+final class StreamingBatchExecutor {
+
+    private final Logger logger = LoggerFactory.getLogger(StreamingBatchExecutor.class);
+
+    private final Method method;
+    private final int chunkSize;
+    private final int param;
+    private final Class<?> paramType;
+
+    StreamingBatchExecutor(final Method method, final StreamingBatch config) {
+        this.method = method;
+        this.chunkSize = config.chunkSize();
+        Preconditions.checkState(method.isAnnotationPresent(SqlBatch.class),
+                "@%s could be used only with @%s in %s", StreamingBatch.class.getSimpleName(),
+                SqlBatch.class.getSimpleName(), name());
+        Preconditions.checkState(method.getReturnType() == void.class,
+                "@%s method %s must return void", StreamingBatch.class.getSimpleName(), name());
+        Preconditions.checkState(chunkSize > 0, "Batch chunk size must be positive in %s", name());
+        this.param = findStreamedParam(method);
+        this.paramType = method.getParameterTypes()[param];
+    }
+
+    /**
+     * @param desc   repository method
+     * @param target sql object
+     * @param args   method arguments
+     * @param meter  rows meter (may be null)
+     * @throws Throwable sql object errors
+     */
+    void execute(final RepositoryMethod desc,
+                 final Object target,
+                 final Object[] args,
+                 final Meter meter) throws Throwable {
+        final Object source = args[param];
+        if (source == null) {
+            return;
+        }
+        final long start = System.nanoTime();
+        final Object[] chunkArgs = args.clone();
+        final List<Object> chunk = new ArrayList<>(chunkSize);
+        long rows = 0;
+        int chunks = 0;
+        try {
+            final Iterator<?> it = iterator(source);
+            while (it.hasNext()) {
+                chunk.add(it.next());
+                if (chunk.size() == chunkSize || !it.hasNext()) {
+                    chunkArgs[param] = convert(chunk);
+                    desc.invoke(target, chunkArgs);
+                    rows += chunk.size();
+                    chunks++;
+                    if (meter != null) {
+                        meter.mark(chunk.size());
+                    }
+                    chunk.clear();
+                }
+            }
+        } finally {
+            if (source instanceof Stream) {
+                ((Stream) source).close();
+            }
+        }
+        report(rows, chunks, System.nanoTime() - start);
+    }
+
+    private void report(final long rows, final int chunks, final long nanos) {
+        final long ms = TimeUnit.NANOSECONDS.toMillis(nanos);
+        logger.info("Streaming batch {}: {} rows in {} chunks, {} ms ({} rows/sec)",
+                name(), rows, chunks, ms, nanos == 0 ? rows : rows * TimeUnit.SECONDS.toNanos(1) / nanos);
+    }
+
+    private Object convert(final List<Object> chunk) {
+        if (paramType == Iterator.class) {
+            return chunk.iterator();
+        }
+        return paramType == Stream.class ? chunk.stream() : chunk;
+    }
+
+    private String name() {
+        return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+    }
+
+    private static Iterator<?> iterator(final Object source) {
+        if (source instanceof Iterator) {
+            return (Iterator<?>) source;
+        }
+        return source instanceof Stream ? ((Stream<?>) source).iterator() : ((Iterable<?>) source).iterator();
+    }
+
+    private static int findStreamedParam(final Method method) {
+        int res = -1;
+        final Class<?>[] types = method.getParameterTypes();
+        for (int i = 0; i < types.length; i++) {
+            final Class<?> type = types[i];
+            if (type == Iterator.class || type == Stream.class || type == Iterable.class) {
+                Preconditions.checkState(res < 0, "Only one streamed parameter allowed in @%s method %s.%s",
+                        StreamingBatch.class.getSimpleName(), method.getDeclaringClass().getSimpleName(),
+                        method.getName());
+                res = i;
+            }
+        }
+        Preconditions.checkState(res >= 0, "@%s method %s.%s must declare Iterator, Stream or Iterable parameter",
+                StreamingBatch.class.getSimpleName(), method.getDeclaringClass().getSimpleName(), method.getName());
+        return res;
+    }
+}
@@ -0,0 +1,94 @@
+package ru.vyarus.guicey.jdbi3.mapper;
+
+import com.google.common.base.Preconditions;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Primitive columnar query result: each numeric column is stored as primitive array ({@link LongColumn} for
+ * integer columns and {@link DoubleColumn} for floating point and decimal columns) instead of row objects with
+ * boxed values. Use as repository method return type for large numeric results (reports, analytics):
+ * <pre><code>
+ *    {@literal @}SqlQuery("select id, amount from payments")
+ *     ColumnarResult payments();
+ * </code></pre>
+ * Filled by {@link ColumnarResultMapper} (registered automatically). Column names are case-insensitive.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public final class ColumnarResult {
+
+    static final int CHUNK_BITS = 13;
+    static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private final Map<String, Object> columns = new LinkedHashMap<>();
+    private int size;
+
+    /**
+     * @return rows count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return column names (in query order)
+     */
+    public List<String> getColumnNames() {
+        final List<String> res = new ArrayList<>();
+        for (Object column : columns.values()) {
+            res.add(column instanceof LongColumn
+                    ? ((LongColumn) column).getName() : ((DoubleColumn) column).getName());
+        }
+        return res;
+    }
+
+    /**
+     * @param name column name
+     * @return integer column
+     * @throws IllegalArgumentException if column not found or it is not integer column
+     */
+    public LongColumn getLongs(final String name) {
+        return getColumn(name, LongColumn.class);
+    }
+
+    /**
+     * @param name column name
+     * @return floating point column
+     * @throws IllegalArgumentException if column not found or it is not floating point column
+     */
+    public DoubleColumn getDoubles(final String name) {
+        return getColumn(name, DoubleColumn.class);
+    }
+
+    LongColumn addLongColumn(final String name) {
+        return addColumn(name, new LongColumn(name));
+    }
+
+    DoubleColumn addDoubleColumn(final String name) {
+        return addColumn(name, new DoubleColumn(name));
+    }
+
+    void rowAdded() {
+        size++;
+    }
+
+    private <T> T addColumn(final String name, final T column) {
+        Preconditions.checkState(columns.put(name.toLowerCase(Locale.ENGLISH), column) == null,
+                "Duplicate column %s in columnar result", name);
+        return column;
+    }
+
+    private <T> T getColumn(final String name, final Class<T> type) {
+        final Object res = columns.get(name.toLowerCase(Locale.ENGLISH));
+        Preconditions.checkArgument(res != null, "Column %s not found in columnar result", name);
+        Preconditions.checkArgument(type.isInstance(res), "Column %s is not %s", name, type.getSimpleName());
+        return type.cast(res);
+    }
+}
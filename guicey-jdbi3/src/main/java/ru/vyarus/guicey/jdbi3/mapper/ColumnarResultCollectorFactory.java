@@ -0,0 +1,45 @@
+package ru.vyarus.guicey.jdbi3.mapper;
+
+import org.jdbi.v3.core.collector.CollectorFactory;
+
+import java.lang.reflect.Type;
+import java.util.Optional;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+/**
+ * Collects {@link ColumnarResult} (registered for all jdbi instances). {@link ColumnarResultMapper} returns
+ * the entire result as single row, but it is not called at all for empty result set: in this case empty result
+ * with columns, prepared from result set metadata, is returned (instead of null).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class ColumnarResultCollectorFactory implements CollectorFactory {
+
+    @Override
+    public boolean accepts(final Type containerType) {
+        return containerType == ColumnarResult.class;
+    }
+
+    @Override
+    public Optional<Type> elementType(final Type containerType) {
+        return Optional.of(ColumnarResult.class);
+    }
+
+    @Override
+    public Collector<?, ?, ?> build(final Type containerType) {
+        return Collectors.collectingAndThen(
+                Collectors.<ColumnarResult>reducing(null, (prev, row) -> row),
+                ColumnarResultCollectorFactory::complete);
+    }
+
+    private static ColumnarResult complete(final ColumnarResult res) {
+        if (res != null) {
+            return res;
+        }
+        final ColumnarResult prepared = ColumnarResultMapper.takePrepared();
+        // mapper was not specialized (should not happen)
+        return prepared == null ? new ColumnarResult() : prepared;
+    }
+}
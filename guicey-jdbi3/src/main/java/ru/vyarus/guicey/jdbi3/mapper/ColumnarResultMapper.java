@@ -0,0 +1,137 @@
+package ru.vyarus.guicey.jdbi3.mapper;
+
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.statement.StatementContext;
+
+import java.lang.ref.WeakReference;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+
+/**
+ * Mapper for {@link ColumnarResult}: unlike usual mappers, reads all remaining rows of result set into one
+ * columnar result object, so method must return single {@link ColumnarResult} (not collection). Integer columns
+ * (including decimal columns with zero scale) are read with {@link ResultSet#getLong(int)} and other numeric
+ * columns with {@link ResultSet#getDouble(int)} (no boxing). Non numeric columns are not supported.
+ * <p>
+ * Columns are resolved from result set metadata when mapper is specialized for result set (before the first
+ * row), so empty result also contains all columns. Row mapper is not called for empty result set: in this case
+ * prepared result is returned by {@link ColumnarResultCollectorFactory} (used for repository methods and
+ * {@code query.collectInto(ColumnarResult.class)}). Prepared result is weakly referenced, so it is not held
+ * by (pooled) thread when mapper is used without collector.
+ * <p>
+ * Registered automatically by {@link ru.vyarus.guicey.jdbi3.JdbiBundle} (installed with
+ * {@link ru.vyarus.guicey.jdbi3.installer.MapperInstaller}).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class ColumnarResultMapper implements RowMapper<ColumnarResult> {
+
+    // result, prepared for the last specialized result set in current thread (mapping and collection are
+    // performed in one thread); collector can't access statement context and statement cleanables can't be used
+    // because jdbi closes statement context on result set end (before collector completion), so weak reference
+    // is used: prepared result is reachable (from result iterator) only until collection end
+    private static final ThreadLocal<WeakReference<ColumnarResult>> PREPARED = new ThreadLocal<>();
+
+    @Override
+    public ColumnarResult map(final ResultSet rs, final StatementContext ctx) throws SQLException {
+        return specialize(rs, ctx).map(rs, ctx);
+    }
+
+    @Override
+    public RowMapper<ColumnarResult> specialize(final ResultSet rs, final StatementContext ctx)
+            throws SQLException {
+        final ResultSetMetaData meta = rs.getMetaData();
+        final ColumnarResult res = new ColumnarResult();
+        final int count = meta.getColumnCount();
+        final LongColumn[] longs = new LongColumn[count];
+        final DoubleColumn[] doubles = new DoubleColumn[count];
+        for (int i = 0; i < count; i++) {
+            final String name = meta.getColumnLabel(i + 1);
+            if (isInteger(meta, i + 1)) {
+                longs[i] = res.addLongColumn(name);
+            } else {
+                doubles[i] = res.addDoubleColumn(name);
+            }
+        }
+        PREPARED.set(new WeakReference<>(res));
+        return new ColumnsReader(res, longs, doubles);
+    }
+
+    /**
+     * @return result, prepared for the last (empty) result set in current thread or null
+     */
+    static ColumnarResult takePrepared() {
+        final WeakReference<ColumnarResult> res = PREPARED.get();
+        PREPARED.remove();
+        return res == null ? null : res.get();
+    }
+
+    private boolean isInteger(final ResultSetMetaData meta, final int column) throws SQLException {
+        final int type = meta.getColumnType(column);
+        switch (type) {
+            case Types.BIT:
+            case Types.BOOLEAN:
+            case Types.TINYINT:
+            case Types.SMALLINT:
+            case Types.INTEGER:
+            case Types.BIGINT:
+                return true;
+            case Types.DECIMAL:
+            case Types.NUMERIC:
+                return meta.getScale(column) == 0;
+            case Types.REAL:
+            case Types.FLOAT:
+            case Types.DOUBLE:
+                return false;
+            default:
+                throw new IllegalStateException("Column " + meta.getColumnLabel(column) + " is not numeric: "
+                        + meta.getColumnTypeName(column) + " can't be stored in columnar result");
+        }
+    }
+
+    /**
+     * Mapper, specialized for result set: reads all remaining rows into prepared result.
+     */
+    private static class ColumnsReader implements RowMapper<ColumnarResult> {
+        private final ColumnarResult res;
+        private final LongColumn[] longs;
+        private final DoubleColumn[] doubles;
+
+        ColumnsReader(final ColumnarResult res, final LongColumn[] longs, final DoubleColumn[] doubles) {
+            this.res = res;
+            this.longs = longs;
+            this.doubles = doubles;
+        }
+
+        @Override
+        public ColumnarResult map(final ResultSet rs, final StatementContext ctx) throws SQLException {
+            // result set is not empty: prepared result would be returned as row
+            PREPARED.remove();
+            // current row is already selected
+            do {
+                for (int i = 0; i < longs.length; i++) {
+                    if (longs[i] != null) {
+                        final long value = rs.getLong(i + 1);
+                        if (rs.wasNull()) {
+                            longs[i].addNull();
+                        } else {
+                            longs[i].add(value);
+                        }
+                    } else {
+                        final double value = rs.getDouble(i + 1);
+                        if (rs.wasNull()) {
+                            doubles[i].addNull();
+                        } else {
+                            doubles[i].add(value);
+                        }
+                    }
+                }
+                res.rowAdded();
+            } while (rs.next());
+            return res;
+        }
+    }
+}
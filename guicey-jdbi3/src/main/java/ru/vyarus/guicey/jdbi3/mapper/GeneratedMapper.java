@@ -0,0 +1,22 @@
+package ru.vyarus.guicey.jdbi3.mapper;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks bean type for automatic row mapper registration: {@link ru.vyarus.guicey.jdbi3.installer.MapperInstaller}
+ * registers {@link GeneratedRowMapper} for annotated type (no need to write trivial column-to-property mappers).
+ * <p>
+ * Bean must have no-args constructor. Columns are mapped to bean properties (setters) by name, ignoring case
+ * and underscores (e.g. {@code first_name} column is mapped to {@code firstName} property). Not mapped columns
+ * and properties are ignored.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface GeneratedMapper {
+}
@@ -0,0 +1,275 @@
+package ru.vyarus.guicey.jdbi3.mapper;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.jdbi.v3.core.mapper.ColumnMapper;
+import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.statement.StatementContext;
+
+import java.beans.BeanInfo;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Method;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Row mapper for bean type (see {@link GeneratedMapper}). Bean constructor and property setters are resolved
+ * once into method handles. Column indexes are resolved once per result set shape (columns set) and cached, so
+ * each row mapping is a direct sequence of setter calls without name lookups. Primitive properties are read with
+ * typed result set getters and set without boxing. Other properties are read with jdbi column mappers.
+ * <p>
+ * Mapper is specialized for each result set ({@link #specialize(ResultSet, StatementContext)}). When used
+ * without specialization (direct {@link #map(ResultSet, StatementContext)} calls), the last specialized mapper
+ * is reused for rows of the same result set. Shapes cache is limited to {@value #MAX_SHAPES} column sets
+ * (dynamic queries could produce unlimited number of shapes).
+ *
+ * @param <T> bean type
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class GeneratedRowMapper<T> implements RowMapper<T> {
+
+    /**
+     * Maximum count of cached result set shapes.
+     */
+    public static final int MAX_SHAPES = 100;
+
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+
+    private final Class<T> type;
+    private final MethodHandle constructor;
+    private final List<Property> properties;
+    // result set shape (joined column labels) -> property index for each column (-1 when not mapped)
+    private final Cache<String, int[]> shapes = CacheBuilder.newBuilder().maximumSize(MAX_SHAPES).build();
+    // mapper specialized for the last result set (used for direct map calls)
+    private volatile LastShape last;
+
+    public GeneratedRowMapper(final Class<T> type) {
+        this.type = type;
+        final MethodHandles.Lookup lookup = MethodHandles.lookup();
+        try {
+            this.constructor = lookup.findConstructor(type, MethodType.methodType(void.class))
+                    .asType(CONSTRUCTOR_TYPE);
+        } catch (NoSuchMethodException | IllegalAccessException ex) {
+            throw new IllegalStateException("Public no-args constructor required for mapped type "
+                    + type.getName(), ex);
+        }
+        this.properties = findProperties(lookup, type);
+        Preconditions.checkState(!properties.isEmpty(), "No writable properties found in mapped type %s",
+                type.getName());
+    }
+
+    /**
+     * @return mapped type
+     */
+    public Class<T> getType() {
+        return type;
+    }
+
+    @Override
+    public T map(final ResultSet rs, final StatementContext ctx) throws SQLException {
+        // direct call without specialization: shape resolved once per result set
+        LastShape shape = last;
+        if (shape == null || shape.rs.get() != rs) {
+            shape = new LastShape(rs, specialize(rs, ctx));
+            last = shape;
+        }
+        return shape.mapper.map(rs, ctx);
+    }
+
+    @Override
+    public RowMapper<T> specialize(final ResultSet rs, final StatementContext ctx) throws SQLException {
+        final ResultSetMetaData meta = rs.getMetaData();
+        final String[] labels = new String[meta.getColumnCount()];
+        for (int i = 0; i < labels.length; i++) {
+            labels[i] = meta.getColumnLabel(i + 1);
+        }
+        final String key = String.join(",", labels);
+        int[] mapping = shapes.getIfPresent(key);
+        if (mapping == null) {
+            // concurrent resolution of the same shape is harmless
+            mapping = resolveShape(labels);
+            shapes.put(key, mapping);
+        }
+        final List<ColumnWriter> writers = new ArrayList<>();
+        for (int i = 0; i < mapping.length; i++) {
+            if (mapping[i] >= 0) {
+                writers.add(properties.get(mapping[i]).writer(i + 1, ctx));
+            }
+        }
+        return new ShapeMapper(writers.toArray(new ColumnWriter[0]));
+    }
+
+    private int[] resolveShape(final String[] labels) {
+        final int[] res = new int[labels.length];
+        Arrays.fill(res, -1);
+        for (int i = 0; i < labels.length; i++) {
+            final String column = normalize(labels[i]);
+            for (int j = 0; j < properties.size(); j++) {
+                if (properties.get(j).name.equals(column)) {
+                    res[i] = j;
+                    break;
+                }
+            }
+        }
+        return res;
+    }
+
+    private static List<Property> findProperties(final MethodHandles.Lookup lookup, final Class<?> type) {
+        final BeanInfo info;
+        try {
+            info = Introspector.getBeanInfo(type);
+        } catch (IntrospectionException ex) {
+            throw new IllegalStateException("Failed to introspect mapped type " + type.getName(), ex);
+        }
+        final List<Property> res = new ArrayList<>();
+        for (PropertyDescriptor prop : info.getPropertyDescriptors()) {
+            final Method setter = prop.getWriteMethod();
+            if (setter != null) {
+                try {
+                    res.add(new Property(normalize(prop.getName()), prop.getPropertyType(),
+                            lookup.unreflect(setter)));
+                } catch (IllegalAccessException ex) {
+                    throw new IllegalStateException("Setter is not accessible: " + setter, ex);
+                }
+            }
+        }
+        return res;
+    }
+
+    private static String normalize(final String name) {
+        return name.replace("_", "").toLowerCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Writes column value into bean property.
+     */
+    @FunctionalInterface
+    private interface ColumnWriter {
+        void write(ResultSet rs, Object target) throws Throwable;
+    }
+
+    /**
+     * Bean property with setter handle.
+     */
+    private static class Property {
+        private final String name;
+        private final Class<?> type;
+        private final MethodHandle setter;
+
+        Property(final String name, final Class<?> type, final MethodHandle setter) {
+            this.name = name;
+            this.type = type;
+            // exact types used to avoid primitives boxing
+            this.setter = setter.asType(MethodType.methodType(void.class, Object.class,
+                    type.isPrimitive() ? type : Object.class));
+        }
+
+        @SuppressWarnings({"checkstyle:CyclomaticComplexity", "PMD.CyclomaticComplexity"})
+        ColumnWriter writer(final int idx, final StatementContext ctx) {
+            final ColumnWriter res;
+            if (type == int.class) {
+                res = (rs, target) -> {
+                    setter.invokeExact(target, rs.getInt(idx));
+                };
+            } else if (type == long.class) {
+                res = (rs, target) -> {
+                    setter.invokeExact(target, rs.getLong(idx));
+                };
+            } else if (type == double.class) {
+                res = (rs, target) -> {
+                    setter.invokeExact(target, rs.getDouble(idx));
+                };
+            } else if (type == boolean.class) {
+                res = (rs, target) -> {
+                    setter.invokeExact(target, rs.getBoolean(idx));
+                };
+            } else if (type == float.class) {
+                res = (rs, target) -> {
+                    setter.invokeExact(target, rs.getFloat(idx));
+                };
+            } else if (type == short.class) {
+                res = (rs, target) -> {
+                    setter.invokeExact(target, rs.getShort(idx));
+                };
+            } else if (type == byte.class) {
+                res = (rs, target) -> {
+                    setter.invokeExact(target, rs.getByte(idx));
+                };
+            } else if (type == String.class) {
+                res = (rs, target) -> {
+                    setter.invokeExact(target, (Object) rs.getString(idx));
+                };
+            } else {
+                res = mapped(idx, ctx);
+            }
+            return res;
+        }
+
+        @SuppressWarnings("unchecked")
+        private ColumnWriter mapped(final int idx, final StatementContext ctx) {
+            final Class<?> target = type.isPrimitive() ? MethodType.methodType(type).wrap().returnType() : type;
+            final ColumnMapper<Object> mapper = (ColumnMapper<Object>) ctx.findColumnMapperFor(target)
+                    .orElseThrow(() -> new IllegalStateException("No column mapper found for property '"
+                            + name + "' type " + target.getName()));
+            final MethodHandle set = type.isPrimitive()
+                    ? setter.asType(MethodType.methodType(void.class, Object.class, Object.class)) : setter;
+            return (rs, bean) -> {
+                set.invokeExact(bean, mapper.map(rs, idx, ctx));
+            };
+        }
+    }
+
+    /**
+     * Specialized mapper of the last result set (result set is weakly referenced to not hold it after mapping).
+     */
+    private class LastShape {
+        private final WeakReference<ResultSet> rs;
+        private final RowMapper<T> mapper;
+
+        LastShape(final ResultSet rs, final RowMapper<T> mapper) {
+            this.rs = new WeakReference<>(rs);
+            this.mapper = mapper;
+        }
+    }
+
+    /**
+     * Mapper for resolved result set shape.
+     */
+    private class ShapeMapper implements RowMapper<T> {
+        private final ColumnWriter[] writers;
+
+        ShapeMapper(final ColumnWriter[] writers) {
+            this.writers = writers;
+        }
+
+        @Override
+        @SuppressWarnings({"unchecked", "PMD.AvoidCatchingThrowable"})
+        public T map(final ResultSet rs, final StatementContext ctx) throws SQLException {
+            try {
+                final Object res = constructor.invokeExact();
+                for (ColumnWriter writer : writers) {
+                    writer.write(rs, res);
+                }
+                return (T) res;
+            } catch (Throwable th) {
+                Throwables.throwIfInstanceOf(th, SQLException.class);
+                Throwables.throwIfUnchecked(th);
+                throw new IllegalStateException("Failed to map row to " + type.getName(), th);
+            }
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package ru.vyarus.guicey.jdbi3.mapper;
+
+import com.google.common.base.Preconditions;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+/**
+ * Primitive column of {@link ColumnarResult}: values are stored in fixed size {@code long[]} chunks (growth does
+ * not copy already stored values). Null values are stored as 0 and marked in nulls bitset.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public final class LongColumn {
+
+    private final String name;
+    private final List<long[]> chunks = new ArrayList<>();
+    private long[] current;
+    private int size;
+    // created on first null
+    private BitSet nulls;
+
+    LongColumn(final String name) {
+        this.name = name;
+    }
+
+    /**
+     * @return column name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return values count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @param index value index
+     * @return value (0 for null)
+     */
+    public long get(final int index) {
+        Preconditions.checkElementIndex(index, size);
+        return chunks.get(index >>> ColumnarResult.CHUNK_BITS)[index & ColumnarResult.CHUNK_MASK];
+    }
+
+    /**
+     * @param index value index
+     * @return true if value is null
+     */
+    public boolean isNull(final int index) {
+        Preconditions.checkElementIndex(index, size);
+        return nulls != null && nulls.get(index);
+    }
+
+    /**
+     * @param action action to call for each value
+     */
+    public void forEach(final LongConsumer action) {
+        int left = size;
+        for (long[] chunk : chunks) {
+            final int count = Math.min(left, chunk.length);
+            for (int i = 0; i < count; i++) {
+                action.accept(chunk[i]);
+            }
+            left -= count;
+        }
+    }
+
+    /**
+     * @return all values in one array (copy)
+     */
+    public long[] toArray() {
+        final long[] res = new long[size];
+        int pos = 0;
+        for (long[] chunk : chunks) {
+            final int count = Math.min(size - pos, chunk.length);
+            System.arraycopy(chunk, 0, res, pos, count);
+            pos += count;
+        }
+        return res;
+    }
+
+    void add(final long value) {
+        final int pos = size & ColumnarResult.CHUNK_MASK;
+        if (pos == 0) {
+            current = new long[ColumnarResult.CHUNK_SIZE];
+            chunks.add(current);
+        }
+        current[pos] = value;
+        size++;
+    }
+
+    void addNull() {
+        if (nulls == null) {
+            nulls = new BitSet();
+        }
+        nulls.set(size);
+        add(0);
+    }
+}
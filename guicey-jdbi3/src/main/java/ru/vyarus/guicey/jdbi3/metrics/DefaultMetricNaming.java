@@ -0,0 +1,67 @@
+package ru.vyarus.guicey.jdbi3.metrics;
+
+import com.codahale.metrics.MetricRegistry;
+
+import java.lang.reflect.Method;
+
+/**
+ * Default metric names: {@code prefix.tx.full.class.Name.method},
+ * {@code prefix.repository.full.class.Name.method}, {@code prefix.handle.hold}, {@code prefix.units.metric},
+ * {@code prefix.retry.metric}, {@code prefix.batch.full.class.Name.method.rows},
+ * {@code prefix.bulkhead.name.metric} and {@code prefix.chunked.name.metric}.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class DefaultMetricNaming implements MetricNaming {
+
+    private final String prefix;
+
+    public DefaultMetricNaming() {
+        this("jdbi3");
+    }
+
+    public DefaultMetricNaming(final String prefix) {
+        this.prefix = prefix;
+    }
+
+    @Override
+    public String transaction(final Method method) {
+        return MetricRegistry.name(prefix, "tx", method.getDeclaringClass().getName(), method.getName());
+    }
+
+    @Override
+    public String repository(final Method method) {
+        return MetricRegistry.name(prefix, "repository", method.getDeclaringClass().getName(), method.getName());
+    }
+
+    @Override
+    public String handleHold() {
+        return MetricRegistry.name(prefix, "handle", "hold");
+    }
+
+    @Override
+    public String units(final String metric) {
+        return MetricRegistry.name(prefix, "units", metric);
+    }
+
+    @Override
+    public String retry(final String metric) {
+        return MetricRegistry.name(prefix, "retry", metric);
+    }
+
+    @Override
+    public String batchRows(final Method method) {
+        return MetricRegistry.name(prefix, "batch", method.getDeclaringClass().getName(), method.getName(), "rows");
+    }
+
+    @Override
+    public String bulkhead(final String bulkhead, final String metric) {
+        return MetricRegistry.name(prefix, "bulkhead", bulkhead, metric);
+    }
+
+    @Override
+    public String chunkedBatch(final String batch, final String metric) {
+        return MetricRegistry.name(prefix, "chunked", batch, metric);
+    }
+}
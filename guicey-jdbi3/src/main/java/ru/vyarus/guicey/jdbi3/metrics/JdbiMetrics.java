@@ -0,0 +1,148 @@
+package ru.vyarus.guicey.jdbi3.metrics;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Timer;
+import com.google.common.base.Preconditions;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Jdbi metrics registry. When enabled, transactional methods, repository methods and handle hold time are
+ * measured (metrics registered in dropwizard {@link MetricRegistry}):
+ * <ul>
+ * <li>Transactional method timer and commit, rollback and nested calls meters ({@link TxMetrics})</li>
+ * <li>Repository method timer (and rows meter for streaming batches)</li>
+ * <li>Handle hold time timer (time from handle opening to unit end)</li>
+ * </ul>
+ * When disabled ({@link #disabled()}), instrumented components do not perform any additional actions.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class JdbiMetrics {
+
+    private final MetricRegistry registry;
+    private final MetricNaming naming;
+    private final Map<Method, TxMetrics> transactions = new ConcurrentHashMap<>();
+
+    public JdbiMetrics(final MetricRegistry registry, final MetricNaming naming) {
+        this.registry = registry;
+        this.naming = naming;
+    }
+
+    /**
+     * @return true if metrics enabled
+     */
+    public boolean isEnabled() {
+        return registry != null;
+    }
+
+    /**
+     * @param method transactional method
+     * @return method transaction metrics
+     * @throws IllegalStateException if metrics disabled
+     */
+    public TxMetrics transaction(final Method method) {
+        checkEnabled();
+        return transactions.computeIfAbsent(method, m -> {
+            final String name = naming.transaction(m);
+            return new TxMetrics(
+                    registry.timer(name),
+                    registry.meter(MetricRegistry.name(name, "commit")),
+                    registry.meter(MetricRegistry.name(name, "rollback")),
+                    registry.meter(MetricRegistry.name(name, "nested")));
+        });
+    }
+
+    /**
+     * @param method repository method
+     * @return repository method timer
+     * @throws IllegalStateException if metrics disabled
+     */
+    public Timer repository(final Method method) {
+        checkEnabled();
+        return registry.timer(naming.repository(method));
+    }
+
+    /**
+     * @param method streaming batch repository method
+     * @return batch rows meter (rate is rows per second)
+     * @throws IllegalStateException if metrics disabled
+     */
+    public Meter batchRows(final Method method) {
+        checkEnabled();
+        return registry.meter(naming.batchRows(method));
+    }
+
+    /**
+     * @return handle hold time timer
+     * @throws IllegalStateException if metrics disabled
+     */
+    public Timer handleHold() {
+        checkEnabled();
+        return registry.timer(naming.handleHold());
+    }
+
+    /**
+     * @param metric unit watchdog metric
+     * @return full metric name
+     * @throws IllegalStateException if metrics disabled
+     */
+    public String unitsMetric(final String metric) {
+        checkEnabled();
+        return naming.units(metric);
+    }
+
+    /**
+     * @param metric transaction retry metric
+     * @return full metric name
+     * @throws IllegalStateException if metrics disabled
+     */
+    public String retryMetric(final String metric) {
+        checkEnabled();
+        return naming.retry(metric);
+    }
+
+    /**
+     * @param bulkhead bulkhead name
+     * @param metric   bulkhead metric
+     * @return full metric name
+     * @throws IllegalStateException if metrics disabled
+     */
+    public String bulkheadMetric(final String bulkhead, final String metric) {
+        checkEnabled();
+        return naming.bulkhead(bulkhead, metric);
+    }
+
+    /**
+     * @param batch  chunked batch name
+     * @param metric chunked batch metric
+     * @return full metric name
+     * @throws IllegalStateException if metrics disabled
+     */
+    public String chunkedBatchMetric(final String batch, final String metric) {
+        checkEnabled();
+        return naming.chunkedBatch(batch, metric);
+    }
+
+    /**
+     * @return metrics registry (null when metrics disabled)
+     */
+    public MetricRegistry getRegistry() {
+        return registry;
+    }
+
+    /**
+     * @return disabled metrics instance
+     */
+    public static JdbiMetrics disabled() {
+        return new JdbiMetrics(null, null);
+    }
+
+    private void checkEnabled() {
+        Preconditions.checkState(isEnabled(), "Jdbi metrics are disabled");
+    }
+}
@@ -0,0 +1,73 @@
+package ru.vyarus.guicey.jdbi3.metrics;
+
+import java.lang.reflect.Method;
+
+/**
+ * Metric names strategy for {@link JdbiMetrics}.
+ *
+ * @author Vyacheslav Rusakov
+ * @see DefaultMetricNaming
+ * @since 18.10.2026
+ */
+public interface MetricNaming {
+
+    /**
+     * Transaction metrics name. Used as timer name and as base name for commit, rollback and nested
+     * meters ({@code name.commit}, {@code name.rollback}, {@code name.nested}).
+     *
+     * @param method transactional method
+     * @return transaction metrics name
+     */
+    String transaction(Method method);
+
+    /**
+     * @param method repository method
+     * @return repository method timer name
+     */
+    String repository(Method method);
+
+    /**
+     * @return handle hold time timer name
+     */
+    String handleHold();
+
+    /**
+     * Unit of work watchdog metrics (see {@link ru.vyarus.guicey.jdbi3.unit.UnitWatchdog}).
+     *
+     * @param metric metric name (active, longest, overBudget, leaked)
+     * @return full metric name
+     */
+    String units(String metric);
+
+    /**
+     * Transaction retry metrics (see {@link ru.vyarus.guicey.jdbi3.tx.RetryPolicy}).
+     *
+     * @param metric metric name (attempts, exhausted)
+     * @return full metric name
+     */
+    String retry(String metric);
+
+    /**
+     * @param method streaming batch repository method (see {@link ru.vyarus.guicey.jdbi3.batch.StreamingBatch})
+     * @return batch rows meter name
+     */
+    String batchRows(Method method);
+
+    /**
+     * Transaction bulkhead metrics (see {@link ru.vyarus.guicey.jdbi3.tx.bulkhead.Bulkheads}).
+     *
+     * @param bulkhead bulkhead name
+     * @param metric   metric name (active, waiting, rejected)
+     * @return full metric name
+     */
+    String bulkhead(String bulkhead, String metric);
+
+    /**
+     * Chunked batch metrics (see {@link ru.vyarus.guicey.jdbi3.batch.BatchTemplate}).
+     *
+     * @param batch  batch name
+     * @param metric metric name (items, chunks, skipped, retries, chunk)
+     * @return full metric name
+     */
+    String chunkedBatch(String batch, String metric);
+}
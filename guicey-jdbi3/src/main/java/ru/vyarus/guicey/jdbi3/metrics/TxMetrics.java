@@ -0,0 +1,53 @@
+package ru.vyarus.guicey.jdbi3.metrics;
+
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.Timer;
+
+/**
+ * Transactional method metrics.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public final class TxMetrics {
+
+    private final Timer timer;
+    private final Meter commits;
+    private final Meter rollbacks;
+    private final Meter nested;
+
+    TxMetrics(final Timer timer, final Meter commits, final Meter rollbacks, final Meter nested) {
+        this.timer = timer;
+        this.commits = commits;
+        this.rollbacks = rollbacks;
+        this.nested = nested;
+    }
+
+    /**
+     * @return method execution time (including nested calls)
+     */
+    public Timer getTimer() {
+        return timer;
+    }
+
+    /**
+     * @return committed transactions (started by method)
+     */
+    public Meter getCommits() {
+        return commits;
+    }
+
+    /**
+     * @return rolled back transactions (started by method)
+     */
+    public Meter getRollbacks() {
+        return rollbacks;
+    }
+
+    /**
+     * @return method calls inside already started transaction
+     */
+    public Meter getNested() {
+        return nested;
+    }
+}
@@ -8,15 +8,37 @@ import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Jdbi;
 import org.jdbi.v3.core.TransactionalHandleSupplier;
 import org.jdbi.v3.core.mapper.RowMapper;
+import org.jdbi.v3.core.statement.SqlStatements;
 import org.jdbi.v3.sqlobject.Handlers;
+import ru.vyarus.guicey.jdbi3.batch.BatchTemplate;
+import ru.vyarus.guicey.jdbi3.cache.RepositoryCaches;
+import ru.vyarus.guicey.jdbi3.dbi.replica.Replica;
+import ru.vyarus.guicey.jdbi3.dbi.replica.Replicas;
+import ru.vyarus.guicey.jdbi3.dbi.shard.Shards;
 import ru.vyarus.guicey.jdbi3.inject.InjectionHandlerFactory;
 import ru.vyarus.guicey.jdbi3.installer.repository.RepositoryInstaller;
+import ru.vyarus.guicey.jdbi3.installer.repository.sql.SqlObjectProvider;
+import ru.vyarus.guicey.jdbi3.mapper.ColumnarResultCollectorFactory;
+import ru.vyarus.guicey.jdbi3.metrics.JdbiMetrics;
+import ru.vyarus.guicey.jdbi3.page.PageCollectorFactory;
+import ru.vyarus.guicey.jdbi3.slowlog.SlowQueryLog;
+import ru.vyarus.guicey.jdbi3.slowlog.SlowQueryLogger;
 import ru.vyarus.guicey.jdbi3.tx.InTransaction;
 import ru.vyarus.guicey.jdbi3.tx.TransactionTemplate;
+import ru.vyarus.guicey.jdbi3.tx.TxCallbackExecutor;
+import ru.vyarus.guicey.jdbi3.tx.TxExecutor;
+import ru.vyarus.guicey.jdbi3.tx.TxStatementCustomizer;
+import ru.vyarus.guicey.jdbi3.tx.TxSynchronization;
 import ru.vyarus.guicey.jdbi3.tx.aop.TransactionalInterceptor;
+import ru.vyarus.guicey.jdbi3.tx.bulkhead.Bulkheads;
+import ru.vyarus.guicey.jdbi3.unit.NPlusOneDetector;
+import ru.vyarus.guicey.jdbi3.unit.QueryCountingLogger;
 import ru.vyarus.guicey.jdbi3.unit.UnitManager;
+import ru.vyarus.guicey.jdbi3.unit.UnitStorage;
+import ru.vyarus.guicey.jdbi3.unit.UnitWatchdog;
 
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -29,6 +51,17 @@ import java.util.List;
  * It is assumed that in most cases unit of work will be defined together with transaction using transaction
  * annotation (one or more). By default, only {@link InTransaction} annotation will be
  * recognized.
+ * <p>
+ * Read only units could be routed to read replicas (if configured). {@link Replicas} bean is always available
+ * for injection (even if no replicas configured).
+ * <p>
+ * Units with shard key could be routed to database shards (if configured). {@link Shards} bean is always
+ * available for injection.
+ * <p>
+ * Asynchronous transactions are executed with {@link TxExecutor} (common fork join pool used when executor
+ * not specified).
+ * <p>
+ * Optional features are configured with {@link JdbiOptions}.
  *
  * @author Vyacheslav Rusakov
  * @since 31.08.2018
@@ -36,12 +69,20 @@ import java.util.List;
 public class JdbiModule extends AbstractModule {
     private final Jdbi jdbi;
     private final List<Class<? extends Annotation>> txAnnotations;
+    private final JdbiOptions options;
 
     public JdbiModule(final Jdbi jdbi, final List<Class<? extends Annotation>> txAnnotations) {
+        this(jdbi, txAnnotations, new JdbiOptions());
+    }
+
+    public JdbiModule(final Jdbi jdbi,
+                      final List<Class<? extends Annotation>> txAnnotations,
+                      final JdbiOptions options) {
         Preconditions.checkState(!txAnnotations.isEmpty(),
                 "Provide at least one transactional annotation");
         this.jdbi = jdbi;
         this.txAnnotations = txAnnotations;
+        this.options = options;
     }
 
     @Override
@@ -50,24 +91,114 @@ public class JdbiModule extends AbstractModule {
         final InjectionHandlerFactory gettersInjector = new InjectionHandlerFactory();
         requestInjection(gettersInjector);
         jdbi.getConfig(Handlers.class).register(gettersInjector);
+        // transaction-level statement settings (timeout, fetch size, max rows)
+        final TxStatementCustomizer statementCustomizer = new TxStatementCustomizer();
+        requestInjection(statementCustomizer);
+        jdbi.getConfig(SqlStatements.class).addCustomizer(statementCustomizer);
+        // keyset pages support (see @KeysetPaged)
+        final PageCollectorFactory pageCollector = new PageCollectorFactory();
+        jdbi.registerCollector(pageCollector);
+        // empty columnar results support
+        final ColumnarResultCollectorFactory columnarCollector = new ColumnarResultCollectorFactory();
+        jdbi.registerCollector(columnarCollector);
+        for (Jdbi target : getSecondaryDatabases()) {
+            target.getConfig(Handlers.class).register(gettersInjector);
+            target.getConfig(SqlStatements.class).addCustomizer(statementCustomizer);
+            target.registerCollector(pageCollector);
+            target.registerCollector(columnarCollector);
+        }
 
         bind(Jdbi.class).toInstance(jdbi);
+        bind(Replicas.class).toInstance(options.getReplicas());
+        bind(Shards.class).toInstance(options.getShards());
+        bind(JdbiMetrics.class).toInstance(options.getMetrics());
 
         // init empty collection for case when no mappers registered
         Multibinder.newSetBinder(binder(), RowMapper.class);
         bind(MapperBinder.class).asEagerSingleton();
+        // repositories (for case when no repositories registered)
+        Multibinder.newSetBinder(binder(), SqlObjectProvider.class);
+        bind(JdbiOptions.class).toInstance(options);
+        if (options.getWarmupThreads() > 0) {
+            bind(RepositoryWarmup.class).asEagerSingleton();
+        }
 
         // unit of work support
+        bind(UnitStorage.class).toInstance(options.getUnitStorage());
         bind(UnitManager.class);
         bind(Handle.class).toProvider(UnitManager.class);
         // transactions support
         //      supplier provides correct handler into jdbi sql proxies
         bind(TransactionalHandleSupplier.class);
         bind(TransactionTemplate.class);
+        bind(TxExecutor.class).toInstance(options.getExecutor());
+        bind(TxCallbackExecutor.class).toInstance(options.getCallbackExecutor());
+        bind(TxSynchronization.class);
+        bind(BatchTemplate.class);
+        bind(Bulkheads.class).toInstance(options.getBulkheads());
+        // shared repository caches registry
+        bind(RepositoryCaches.class);
+
+        if (options.getWatchdog() != null) {
+            bind(UnitWatchdog.class).toInstance(options.getWatchdog());
+        }
+        if (options.getSlowQueryLog() != null) {
+            bindSlowQueryLog(options.getSlowQueryLog());
+        }
+        if (options.getNPlusOneDetector() != null) {
+            bindNPlusOneDetector(options.getNPlusOneDetector());
+        }
 
         bindAnnotationsSupport();
     }
 
+    private void bindSlowQueryLog(final SlowQueryLog log) {
+        bind(SlowQueryLog.class).toInstance(log);
+        registerSlowQueryLogger(jdbi, log);
+        for (Jdbi target : getSecondaryDatabases()) {
+            registerSlowQueryLogger(target, log);
+        }
+    }
+
+    private void bindNPlusOneDetector(final NPlusOneDetector detector) {
+        bind(NPlusOneDetector.class).toInstance(detector);
+        registerQueryCountingLogger(jdbi);
+        for (Jdbi target : getSecondaryDatabases()) {
+            registerQueryCountingLogger(target);
+        }
+    }
+
+    private void registerQueryCountingLogger(final Jdbi target) {
+        final SqlStatements statements = target.getConfig(SqlStatements.class);
+        final QueryCountingLogger logger = new QueryCountingLogger(statements.getSqlLogger());
+        requestInjection(logger);
+        statements.setSqlLogger(logger);
+    }
+
+    /**
+     * @return replicas and shards jdbi instances (except primary)
+     */
+    private List<Jdbi> getSecondaryDatabases() {
+        final List<Jdbi> res = new ArrayList<>();
+        for (Replica replica : options.getReplicas().getReplicas()) {
+            res.add(replica.getJdbi());
+        }
+        for (Jdbi shard : options.getShards().getShards()) {
+            // primary database is the first shard
+            if (shard != jdbi) {
+                res.add(shard);
+            }
+        }
+        return res;
+    }
+
+    private void registerSlowQueryLogger(final Jdbi target, final SlowQueryLog log) {
+        final SqlStatements statements = target.getConfig(SqlStatements.class);
+        final SlowQueryLogger logger = new SlowQueryLogger(log, statements.getSqlLogger());
+        requestInjection(logger);
+        statements.setSqlLogger(logger);
+    }
+
     private void bindAnnotationsSupport() {
         final TransactionalInterceptor interceptor = new TransactionalInterceptor(txAnnotations);
         requestInjection(interceptor);
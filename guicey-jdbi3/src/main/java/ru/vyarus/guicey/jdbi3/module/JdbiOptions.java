@@ -0,0 +1,214 @@
+package ru.vyarus.guicey.jdbi3.module;
+
+import ru.vyarus.guicey.jdbi3.dbi.replica.Replicas;
+import ru.vyarus.guicey.jdbi3.dbi.shard.Shards;
+import ru.vyarus.guicey.jdbi3.metrics.JdbiMetrics;
+import ru.vyarus.guicey.jdbi3.slowlog.SlowQueryLog;
+import ru.vyarus.guicey.jdbi3.tx.TxCallbackExecutor;
+import ru.vyarus.guicey.jdbi3.tx.TxExecutor;
+import ru.vyarus.guicey.jdbi3.tx.bulkhead.Bulkheads;
+import ru.vyarus.guicey.jdbi3.unit.NPlusOneDetector;
+import ru.vyarus.guicey.jdbi3.unit.ThreadLocalUnitStorage;
+import ru.vyarus.guicey.jdbi3.unit.UnitStorage;
+import ru.vyarus.guicey.jdbi3.unit.UnitWatchdog;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Optional {@link JdbiModule} features configuration. All options have defaults, so only required options
+ * should be set. Configured by {@link ru.vyarus.guicey.jdbi3.JdbiBundle}.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class JdbiOptions {
+
+    private Replicas replicas = Replicas.none();
+    private Shards shards = Shards.none();
+    private TxExecutor executor;
+    private TxCallbackExecutor callbackExecutor;
+    private UnitStorage unitStorage = new ThreadLocalUnitStorage();
+    private JdbiMetrics metrics = JdbiMetrics.disabled();
+    private SlowQueryLog slowQueryLog;
+    private UnitWatchdog watchdog;
+    private NPlusOneDetector nPlusOneDetector;
+    private int warmupThreads;
+    private Bulkheads bulkheads = Bulkheads.none();
+
+    /**
+     * @param replicas read replicas (none by default)
+     * @return options instance for chained calls
+     */
+    public JdbiOptions replicas(final Replicas replicas) {
+        this.replicas = replicas;
+        return this;
+    }
+
+    /**
+     * @param shards database shards (none by default)
+     * @return options instance for chained calls
+     */
+    public JdbiOptions shards(final Shards shards) {
+        this.shards = shards;
+        return this;
+    }
+
+    /**
+     * @param executor asynchronous transactions executor (common fork join pool by default)
+     * @return options instance for chained calls
+     */
+    public JdbiOptions executor(final TxExecutor executor) {
+        this.executor = executor;
+        return this;
+    }
+
+    /**
+     * @param callbackExecutor asynchronous transaction callbacks executor (transactions executor by default)
+     * @return options instance for chained calls
+     */
+    public JdbiOptions callbackExecutor(final TxCallbackExecutor callbackExecutor) {
+        this.callbackExecutor = callbackExecutor;
+        return this;
+    }
+
+    /**
+     * @param unitStorage unit of work storage (thread local by default)
+     * @return options instance for chained calls
+     */
+    public JdbiOptions unitStorage(final UnitStorage unitStorage) {
+        this.unitStorage = unitStorage;
+        return this;
+    }
+
+    /**
+     * @param metrics metrics (disabled by default)
+     * @return options instance for chained calls
+     */
+    public JdbiOptions metrics(final JdbiMetrics metrics) {
+        this.metrics = metrics;
+        return this;
+    }
+
+    /**
+     * @param slowQueryLog slow queries log (disabled by default)
+     * @return options instance for chained calls
+     */
+    public JdbiOptions slowQueryLog(final SlowQueryLog slowQueryLog) {
+        this.slowQueryLog = slowQueryLog;
+        return this;
+    }
+
+    /**
+     * @param watchdog units watchdog (disabled by default)
+     * @return options instance for chained calls
+     */
+    public JdbiOptions watchdog(final UnitWatchdog watchdog) {
+        this.watchdog = watchdog;
+        return this;
+    }
+
+    /**
+     * @param detector n+1 queries detector (disabled by default)
+     * @return options instance for chained calls
+     */
+    public JdbiOptions nPlusOneDetector(final NPlusOneDetector detector) {
+        this.nPlusOneDetector = detector;
+        return this;
+    }
+
+    /**
+     * @param warmupThreads threads used for eager repositories creation (0 - disabled, default)
+     * @return options instance for chained calls
+     * @see RepositoryWarmup
+     */
+    public JdbiOptions warmupThreads(final int warmupThreads) {
+        this.warmupThreads = warmupThreads;
+        return this;
+    }
+
+    /**
+     * @param bulkheads transaction bulkheads (none by default)
+     * @return options instance for chained calls
+     */
+    public JdbiOptions bulkheads(final Bulkheads bulkheads) {
+        this.bulkheads = bulkheads;
+        return this;
+    }
+
+    /**
+     * @return read replicas
+     */
+    public Replicas getReplicas() {
+        return replicas;
+    }
+
+    /**
+     * @return database shards
+     */
+    public Shards getShards() {
+        return shards;
+    }
+
+    /**
+     * @return asynchronous transactions executor
+     */
+    public TxExecutor getExecutor() {
+        return executor == null ? new TxExecutor(ForkJoinPool.commonPool()) : executor;
+    }
+
+    /**
+     * @return asynchronous transaction callbacks executor
+     */
+    public TxCallbackExecutor getCallbackExecutor() {
+        return callbackExecutor == null ? new TxCallbackExecutor(getExecutor()) : callbackExecutor;
+    }
+
+    /**
+     * @return unit of work storage
+     */
+    public UnitStorage getUnitStorage() {
+        return unitStorage;
+    }
+
+    /**
+     * @return metrics
+     */
+    public JdbiMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * @return slow queries log or null if disabled
+     */
+    public SlowQueryLog getSlowQueryLog() {
+        return slowQueryLog;
+    }
+
+    /**
+     * @return units watchdog or null if disabled
+     */
+    public UnitWatchdog getWatchdog() {
+        return watchdog;
+    }
+
+    /**
+     * @return n+1 queries detector or null if disabled
+     */
+    public NPlusOneDetector getNPlusOneDetector() {
+        return nPlusOneDetector;
+    }
+
+    /**
+     * @return threads used for eager repositories creation (0 if disabled)
+     */
+    public int getWarmupThreads() {
+        return warmupThreads;
+    }
+
+    /**
+     * @return transaction bulkheads
+     */
+    public Bulkheads getBulkheads() {
+        return bulkheads;
+    }
+}
@@ -3,6 +3,10 @@ package ru.vyarus.guicey.jdbi3.module;
 import com.google.inject.Inject;
 import org.jdbi.v3.core.Jdbi;
 import org.jdbi.v3.core.mapper.RowMapper;
+import ru.vyarus.guicey.jdbi3.dbi.replica.Replica;
+import ru.vyarus.guicey.jdbi3.dbi.replica.Replicas;
+import ru.vyarus.guicey.jdbi3.dbi.shard.Shards;
+import ru.vyarus.guicey.jdbi3.mapper.GeneratedRowMapper;
 
 import java.util.Set;
 
@@ -11,6 +15,8 @@ import java.util.Set;
  * mappers and this bean will actually register resolved mappers in dbi instance.
  * <p>
  * Delayed initialization used to simplify access to DBI instance (in installer it was hard to do).
+ * <p>
+ * Mappers are also registered in all read replicas and shards (if configured).
  *
  * @author Vyacheslav Rusakov
  * @since 31.08.2018
@@ -18,7 +24,30 @@ import java.util.Set;
 public class MapperBinder {
 
     @Inject
-    public MapperBinder(final Jdbi dbi, final Set<RowMapper> mappers) {
-        mappers.forEach(dbi::registerRowMapper);
+    public MapperBinder(final Jdbi dbi,
+                        final Replicas replicas,
+                        final Shards shards,
+                        final Set<RowMapper> mappers) {
+        register(dbi, mappers);
+        for (Replica replica : replicas.getReplicas()) {
+            register(replica.getJdbi(), mappers);
+        }
+        for (Jdbi shard : shards.getShards()) {
+            // primary database is the first shard
+            if (shard != dbi) {
+                register(shard, mappers);
+            }
+        }
+    }
+
+    private void register(final Jdbi jdbi, final Set<RowMapper> mappers) {
+        for (RowMapper mapper : mappers) {
+            if (mapper instanceof GeneratedRowMapper) {
+                // mapped type can't be resolved from generic mapper class
+                jdbi.registerRowMapper(((GeneratedRowMapper) mapper).getType(), mapper);
+            } else {
+                jdbi.registerRowMapper(mapper);
+            }
+        }
     }
 }
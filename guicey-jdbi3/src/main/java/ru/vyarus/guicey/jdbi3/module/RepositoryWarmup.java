@@ -0,0 +1,103 @@
+package ru.vyarus.guicey.jdbi3.module;
+
+import com.google.common.base.Stopwatch;
+import com.google.common.base.Throwables;
+import com.google.inject.Inject;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.guicey.jdbi3.installer.repository.sql.SqlObjectProvider;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Eager repositories initialization: jdbi sql proxies are created in parallel just after mappers
+ * registration (otherwise proxy is created on first repository call, which makes first calls slow).
+ * Creation time of each repository is logged.
+ * <p>
+ * Registered only when enabled in bundle ({@link ru.vyarus.guicey.jdbi3.JdbiBundle#withEagerRepositories(int)}).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class RepositoryWarmup {
+
+    private final Logger logger = LoggerFactory.getLogger(RepositoryWarmup.class);
+
+    private final Map<Class<?>, Long> timings;
+
+    /**
+     * @param mappers   mappers registration (dependency used to create proxies after mappers registration)
+     * @param providers repositories sql proxy providers
+     * @param options   module options
+     */
+    @Inject
+    @SuppressWarnings("PMD.UnusedFormalParameter")
+    public RepositoryWarmup(final MapperBinder mappers,
+                            final Set<SqlObjectProvider> providers,
+                            final JdbiOptions options) {
+        this.timings = warmup(providers, options.getWarmupThreads());
+    }
+
+    /**
+     * @return repositories creation time (in milliseconds)
+     */
+    public Map<Class<?>, Long> getTimings() {
+        return timings;
+    }
+
+    @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
+    private Map<Class<?>, Long> warmup(final Set<SqlObjectProvider> providers, final int threads) {
+        final Map<Class<?>, Long> res = new LinkedHashMap<>();
+        if (providers.isEmpty()) {
+            return res;
+        }
+        final Stopwatch timer = Stopwatch.createStarted();
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(threads, providers.size()));
+        try {
+            final List<Callable<Long>> tasks = new ArrayList<>();
+            for (SqlObjectProvider provider : providers) {
+                tasks.add(() -> {
+                    final Stopwatch watch = Stopwatch.createStarted();
+                    provider.get();
+                    return watch.elapsed(TimeUnit.MILLISECONDS);
+                });
+            }
+            final List<Future<Long>> results = executor.invokeAll(tasks);
+            int i = 0;
+            for (SqlObjectProvider provider : providers) {
+                res.put(provider.getType(), results.get(i++).get());
+            }
+        } catch (ExecutionException ex) {
+            Throwables.throwIfUnchecked(ex.getCause());
+            throw new RuntimeException("Failed to create repository", ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Repositories warmup interrupted", ex);
+        } finally {
+            executor.shutdownNow();
+        }
+        report(res, timer.elapsed(TimeUnit.MILLISECONDS), threads);
+        return res;
+    }
+
+    private void report(final Map<Class<?>, Long> res, final long total, final int threads) {
+        final StringBuilder msg = new StringBuilder(String.format(
+                "%s repositories created in %s ms (%s threads)%n", res.size(), total, threads));
+        res.entrySet().stream()
+                .sorted(Map.Entry.<Class<?>, Long>comparingByValue(Comparator.reverseOrder()))
+                .forEach(entry -> msg.append(String.format("%n    %6d ms  %s", entry.getValue(),
+                        entry.getKey().getName())));
+        logger.info(msg.toString());
+    }
+}
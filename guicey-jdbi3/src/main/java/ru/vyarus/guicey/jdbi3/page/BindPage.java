@@ -0,0 +1,53 @@
+package ru.vyarus.guicey.jdbi3.page;
+
+import com.google.common.base.Preconditions;
+import org.jdbi.v3.sqlobject.customizer.SqlStatementCustomizerFactory;
+import org.jdbi.v3.sqlobject.customizer.SqlStatementCustomizingAnnotation;
+import org.jdbi.v3.sqlobject.customizer.SqlStatementParameterCustomizer;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.reflect.Method;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.Type;
+
+/**
+ * Binds {@link PageRequest} parameter of {@link KeysetPaged} repository method: binds last seen key and rows
+ * limit (page size + 1 to detect next page existence) into rewritten query.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.PARAMETER)
+@SqlStatementCustomizingAnnotation(BindPage.Factory.class)
+public @interface BindPage {
+
+    /**
+     * Page request binder.
+     */
+    class Factory implements SqlStatementCustomizerFactory {
+
+        @Override
+        public SqlStatementParameterCustomizer createForParameter(final Annotation annotation,
+                                                                  final Class<?> sqlObjectType,
+                                                                  final Method method,
+                                                                  final Parameter param,
+                                                                  final int index,
+                                                                  final Type type) {
+            return (stmt, arg) -> {
+                Preconditions.checkArgument(arg != null, "Page request required");
+                final PageRequest request = (PageRequest) arg;
+                if (request.isFirst()) {
+                    stmt.define(KeysetTemplateEngine.FIRST_PAGE, true);
+                } else {
+                    stmt.bind(KeysetTemplateEngine.LAST_KEY, request.getCursor());
+                }
+                stmt.bind(KeysetTemplateEngine.LIMIT, request.getSize() + 1);
+            };
+        }
+    }
+}
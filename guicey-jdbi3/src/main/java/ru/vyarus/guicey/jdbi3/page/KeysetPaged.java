@@ -0,0 +1,70 @@
+package ru.vyarus.guicey.jdbi3.page;
+
+import org.jdbi.v3.core.statement.SqlStatements;
+import org.jdbi.v3.sqlobject.customizer.SqlStatementCustomizer;
+import org.jdbi.v3.sqlobject.customizer.SqlStatementCustomizerFactory;
+import org.jdbi.v3.sqlobject.customizer.SqlStatementCustomizingAnnotation;
+
+import java.lang.annotation.Annotation;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.reflect.Method;
+
+/**
+ * Keyset (seek) pagination for repository {@link org.jdbi.v3.sqlobject.statement.SqlQuery} methods. Declared
+ * query is wrapped as {@code select * from (query) where key > :last order by key limit :size}, so each page
+ * is selected by key condition instead of offset (page selection time does not depend on page depth).
+ * <pre><code>
+ *    {@literal @}SqlQuery("select * from sample where name like :name")
+ *    {@literal @}KeysetPaged(key = "id")
+ *     Page&lt;Sample&gt; page(@Bind("name") String name, @BindPage PageRequest page);
+ * </code></pre>
+ * Method must return {@link Page} and declare {@link PageRequest} parameter annotated with {@link BindPage}
+ * (validated at repository binding time). Key column must be unique (otherwise rows with the same key could be
+ * skipped on page boundary). Next page cursor is the key value of the last page item: it is taken from
+ * item property (resolved by key name, ignoring case and underscores, or declared explicitly with
+ * {@link #property()}) or from map rows by key name.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.METHOD)
+@SqlStatementCustomizingAnnotation(KeysetPaged.Factory.class)
+public @interface KeysetPaged {
+
+    /**
+     * @return key column name (must be unique and, ideally, indexed)
+     */
+    String key();
+
+    /**
+     * @return item property, containing key value (by default, resolved by key column name)
+     */
+    String property() default "";
+
+    /**
+     * @return true for descending order (next page contains smaller keys)
+     */
+    boolean desc() default false;
+
+    /**
+     * Query rewriting customizer.
+     */
+    class Factory implements SqlStatementCustomizerFactory {
+
+        @Override
+        public SqlStatementCustomizer createForMethod(final Annotation annotation,
+                                                      final Class<?> sqlObjectType,
+                                                      final Method method) {
+            final KeysetPaged paged = (KeysetPaged) annotation;
+            return stmt -> {
+                final SqlStatements statements = stmt.getConfig(SqlStatements.class);
+                statements.setTemplateEngine(
+                        new KeysetTemplateEngine(statements.getTemplateEngine(), paged.key(), paged.desc()));
+            };
+        }
+    }
+}
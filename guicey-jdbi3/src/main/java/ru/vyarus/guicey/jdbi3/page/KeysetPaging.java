@@ -0,0 +1,131 @@
+package ru.vyarus.guicey.jdbi3.page;
+
+import com.google.common.base.Preconditions;
+import org.jdbi.v3.core.generic.GenericTypes;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * {@link KeysetPaged} repository method descriptor, resolved at repository binding time: validates method
+ * declaration and prepares key value extraction from page items. After query execution, collected page is
+ * completed: extra row (selected to detect next page existence) is removed and next page cursor is set.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public final class KeysetPaging {
+
+    private static final Pattern KEY = Pattern.compile("[A-Za-z_][A-Za-z0-9_]*");
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final int requestIndex;
+    private final String key;
+    // null for map rows
+    private final MethodHandle property;
+
+    private KeysetPaging(final int requestIndex, final String key, final MethodHandle property) {
+        this.requestIndex = requestIndex;
+        this.key = key;
+        this.property = property;
+    }
+
+    /**
+     * Complete page, collected by {@link PageCollectorFactory}.
+     *
+     * @param result collected page
+     * @param args   method arguments
+     * @return completed page
+     * @throws Throwable key extraction errors
+     */
+    @SuppressWarnings("unchecked")
+    public Page<Object> complete(final Object result, final Object[] args) throws Throwable {
+        final Page<Object> page = (Page<Object>) result;
+        final PageRequest request = (PageRequest) args[requestIndex];
+        final List<Object> rows = page.getItems();
+        if (rows.size() <= request.getSize()) {
+            return new Page<>(rows, null);
+        }
+        final List<Object> items = new ArrayList<>(rows.subList(0, request.getSize()));
+        final Object last = items.get(items.size() - 1);
+        return new Page<>(items, PageRequest.after(extractKey(last), request.getSize()));
+    }
+
+    /**
+     * @param method repository method
+     * @return method descriptor or null if method is not annotated with {@link KeysetPaged}
+     * @throws IllegalStateException if method declaration is incorrect
+     */
+    public static KeysetPaging create(final Method method) {
+        final KeysetPaged paged = method.getAnnotation(KeysetPaged.class);
+        if (paged == null) {
+            return null;
+        }
+        final String name = method.getDeclaringClass().getSimpleName() + "." + method.getName();
+        Preconditions.checkState(KEY.matcher(paged.key()).matches(),
+                "Incorrect @%s key '%s' on method %s: column name expected", KeysetPaged.class.getSimpleName(),
+                paged.key(), name);
+        Preconditions.checkState(method.getReturnType() == Page.class,
+                "@%s method %s must return %s", KeysetPaged.class.getSimpleName(), name, Page.class.getSimpleName());
+        int index = -1;
+        for (int i = 0; i < method.getParameterCount(); i++) {
+            if (method.getParameters()[i].isAnnotationPresent(BindPage.class)) {
+                Preconditions.checkState(index < 0 && method.getParameterTypes()[i] == PageRequest.class,
+                        "@%s method %s must declare exactly one @%s %s parameter",
+                        KeysetPaged.class.getSimpleName(), name, BindPage.class.getSimpleName(),
+                        PageRequest.class.getSimpleName());
+                index = i;
+            }
+        }
+        Preconditions.checkState(index >= 0, "@%s method %s must declare @%s %s parameter",
+                KeysetPaged.class.getSimpleName(), name, BindPage.class.getSimpleName(),
+                PageRequest.class.getSimpleName());
+        final Type item = GenericTypes.findGenericParameter(method.getGenericReturnType(), Page.class)
+                .orElseThrow(() -> new IllegalStateException("Page item type is not declared on method " + name));
+        final Class<?> itemType = GenericTypes.getErasedType(item);
+        final MethodHandle property = Map.class.isAssignableFrom(itemType) ? null
+                : findProperty(itemType, paged.property().isEmpty() ? paged.key() : paged.property(), name);
+        return new KeysetPaging(index, paged.key(), property);
+    }
+
+    private Object extractKey(final Object item) throws Throwable {
+        if (property != null) {
+            return property.invokeExact(item);
+        }
+        final Map<?, ?> row = (Map<?, ?>) item;
+        // jdbi map mapper use lower cased keys by default
+        return row.containsKey(key) ? row.get(key) : row.get(key.toLowerCase(Locale.ENGLISH));
+    }
+
+    private static MethodHandle findProperty(final Class<?> type, final String property, final String method) {
+        final String target = normalize(property);
+        for (Method getter : type.getMethods()) {
+            final String name = getter.getName();
+            final int prefix = name.startsWith("get") ? 3 : name.startsWith("is") ? 2 : 0;
+            if (prefix > 0 && getter.getParameterCount() == 0 && !Modifier.isStatic(getter.getModifiers())
+                    && normalize(name.substring(prefix)).equals(target)) {
+                try {
+                    return MethodHandles.publicLookup().unreflect(getter).asType(GETTER_TYPE);
+                } catch (IllegalAccessException ex) {
+                    throw new IllegalStateException("Failed to access key property getter " + getter, ex);
+                }
+            }
+        }
+        throw new IllegalStateException(String.format(
+                "Key property '%s' not found in %s (required for @%s method %s cursor)",
+                property, type.getSimpleName(), KeysetPaged.class.getSimpleName(), method));
+    }
+
+    private static String normalize(final String name) {
+        return name.replace("_", "").toLowerCase(Locale.ENGLISH);
+    }
+}
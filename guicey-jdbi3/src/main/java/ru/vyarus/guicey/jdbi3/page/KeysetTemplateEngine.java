@@ -0,0 +1,40 @@
+package ru.vyarus.guicey.jdbi3.page;
+
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.core.statement.TemplateEngine;
+
+/**
+ * Wraps rendered query with keyset condition, order and limit (see {@link KeysetPaged}).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class KeysetTemplateEngine implements TemplateEngine {
+
+    static final String FIRST_PAGE = "keysetFirstPage";
+    static final String LAST_KEY = "keyset_last";
+    static final String LIMIT = "keyset_limit";
+
+    private final TemplateEngine engine;
+    private final String key;
+    private final boolean desc;
+
+    KeysetTemplateEngine(final TemplateEngine engine, final String key, final boolean desc) {
+        this.engine = engine;
+        this.key = "keyset_page." + key;
+        this.desc = desc;
+    }
+
+    @Override
+    public String render(final String template, final StatementContext ctx) {
+        final StringBuilder res = new StringBuilder("select * from (")
+                .append(engine.render(template, ctx))
+                .append(") keyset_page");
+        if (ctx.getAttribute(FIRST_PAGE) == null) {
+            res.append(" where ").append(key).append(desc ? " < :" : " > :").append(LAST_KEY);
+        }
+        return res.append(" order by ").append(key).append(desc ? " desc" : "")
+                .append(" limit :").append(LIMIT)
+                .toString();
+    }
+}
@@ -0,0 +1,50 @@
+package ru.vyarus.guicey.jdbi3.page;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Keyset pagination result (see {@link KeysetPaged}): page items and cursor for the next page.
+ *
+ * @param <T> item type
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public final class Page<T> {
+
+    private final List<T> items;
+    private final PageRequest next;
+
+    Page(final List<T> items, final PageRequest next) {
+        this.items = Collections.unmodifiableList(items);
+        this.next = next;
+    }
+
+    /**
+     * @return page items
+     */
+    public List<T> getItems() {
+        return items;
+    }
+
+    /**
+     * @return true if next page exists
+     */
+    public boolean hasNext() {
+        return next != null;
+    }
+
+    /**
+     * @return key of the last page item (cursor for the next page) or null if there is no next page
+     */
+    public Object getNextCursor() {
+        return next == null ? null : next.getCursor();
+    }
+
+    /**
+     * @return next page request (with the same page size) or null if there is no next page
+     */
+    public PageRequest next() {
+        return next;
+    }
+}
@@ -0,0 +1,34 @@
+package ru.vyarus.guicey.jdbi3.page;
+
+import org.jdbi.v3.core.collector.CollectorFactory;
+import org.jdbi.v3.core.generic.GenericTypes;
+
+import java.lang.reflect.Type;
+import java.util.Optional;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
+
+/**
+ * Collects query rows into {@link Page} (registered for all jdbi instances). Collected page contains all
+ * selected rows (page size + 1) and no cursor: page is completed after query execution by {@link KeysetPaging}.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class PageCollectorFactory implements CollectorFactory {
+
+    @Override
+    public boolean accepts(final Type containerType) {
+        return GenericTypes.getErasedType(containerType) == Page.class;
+    }
+
+    @Override
+    public Optional<Type> elementType(final Type containerType) {
+        return GenericTypes.findGenericParameter(containerType, Page.class);
+    }
+
+    @Override
+    public Collector<?, ?, ?> build(final Type containerType) {
+        return Collectors.collectingAndThen(Collectors.toList(), rows -> new Page<>(rows, null));
+    }
+}
@@ -0,0 +1,85 @@
+package ru.vyarus.guicey.jdbi3.page;
+
+import com.google.common.base.Preconditions;
+
+import java.util.Objects;
+
+/**
+ * Keyset page request: last seen key (cursor) and page size. Used as repository method parameter, annotated
+ * with {@link BindPage}. First page is requested with {@link #first(int)}, next pages with {@link Page#next()}
+ * (or {@link #after(Object, int)} when cursor is stored on client side).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public final class PageRequest {
+
+    private final Object cursor;
+    private final int size;
+
+    private PageRequest(final Object cursor, final int size) {
+        Preconditions.checkArgument(size > 0, "Page size must be positive");
+        this.cursor = cursor;
+        this.size = size;
+    }
+
+    /**
+     * @return last seen key or null for first page
+     */
+    public Object getCursor() {
+        return cursor;
+    }
+
+    /**
+     * @return page size
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * @return true if first page requested
+     */
+    public boolean isFirst() {
+        return cursor == null;
+    }
+
+    /**
+     * @param size page size
+     * @return first page request
+     */
+    public static PageRequest first(final int size) {
+        return new PageRequest(null, size);
+    }
+
+    /**
+     * @param cursor last seen key (null for first page)
+     * @param size   page size
+     * @return request for page after provided key
+     */
+    public static PageRequest after(final Object cursor, final int size) {
+        return new PageRequest(cursor, size);
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PageRequest)) {
+            return false;
+        }
+        final PageRequest that = (PageRequest) o;
+        return size == that.size && Objects.equals(cursor, that.cursor);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(cursor, size);
+    }
+
+    @Override
+    public String toString() {
+        return "page of " + size + (cursor == null ? "" : " after " + cursor);
+    }
+}
@@ -0,0 +1,111 @@
+package ru.vyarus.guicey.jdbi3.slowlog;
+
+import java.lang.reflect.Method;
+import java.time.Instant;
+
+/**
+ * Slow query record.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public final class SlowQuery {
+
+    private final Instant time;
+    private final String sql;
+    private final String args;
+    private final long durationMs;
+    private final boolean failed;
+    private final Method repositoryMethod;
+    private final Method transactionMethod;
+    private final String thread;
+
+    @SuppressWarnings("checkstyle:ParameterNumber")
+    public SlowQuery(final Instant time,
+                     final String sql,
+                     final String args,
+                     final long durationMs,
+                     final boolean failed,
+                     final Method repositoryMethod,
+                     final Method transactionMethod,
+                     final String thread) {
+        this.time = time;
+        this.sql = sql;
+        this.args = args;
+        this.durationMs = durationMs;
+        this.failed = failed;
+        this.repositoryMethod = repositoryMethod;
+        this.transactionMethod = transactionMethod;
+        this.thread = thread;
+    }
+
+    /**
+     * @return query execution start time
+     */
+    public Instant getTime() {
+        return time;
+    }
+
+    /**
+     * @return sql template (as declared)
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * @return bound arguments summary (truncated)
+     */
+    public String getArgs() {
+        return args;
+    }
+
+    /**
+     * @return execution duration in milliseconds
+     */
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    /**
+     * @return true if query execution failed
+     */
+    public boolean isFailed() {
+        return failed;
+    }
+
+    /**
+     * @return repository method, executed query, or null (if query executed directly with handle)
+     */
+    public Method getRepositoryMethod() {
+        return repositoryMethod;
+    }
+
+    /**
+     * @return transactional method, started unit of work, or null (if transaction started manually)
+     */
+    public Method getTransactionMethod() {
+        return transactionMethod;
+    }
+
+    /**
+     * @return executing thread name
+     */
+    public String getThread() {
+        return thread;
+    }
+
+    @Override
+    public String toString() {
+        return time + " " + durationMs + " ms" + (failed ? " FAILED" : "")
+                + " [" + thread + "]"
+                + (transactionMethod != null ? " tx: " + describe(transactionMethod) : "")
+                + (repositoryMethod != null ? " repository: " + describe(repositoryMethod) : "")
+                + "\n\t" + sql.trim()
+                + (args.isEmpty() ? "" : "\n\targs: " + args);
+    }
+
+    private static String describe(final Method method) {
+        return method.getDeclaringClass().getSimpleName() + "." + method.getName();
+    }
+}
@@ -0,0 +1,88 @@
+package ru.vyarus.guicey.jdbi3.slowlog;
+
+import com.google.common.base.Preconditions;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Slow queries log: fixed-size ring buffer of the latest slow queries (older records are overridden).
+ * Buffer is lock-free: recording thread only claims next slot with atomic counter.
+ * <p>
+ * Queries are recorded by {@link SlowQueryLogger} (registered for all jdbi instances). Log could be viewed
+ * with admin task ({@link SlowQueryTask}) or directly (bean available for injection).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class SlowQueryLog {
+
+    private final Duration threshold;
+    private final AtomicReferenceArray<SlowQuery> buffer;
+    private final AtomicLong counter = new AtomicLong();
+
+    public SlowQueryLog(final Duration threshold, final int size) {
+        Preconditions.checkArgument(size > 0, "Slow queries buffer size must be positive");
+        this.threshold = threshold;
+        this.buffer = new AtomicReferenceArray<>(size);
+    }
+
+    /**
+     * @return minimal query duration to record
+     */
+    public Duration getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * @return count of recorded queries since application start (including overridden records)
+     */
+    public long getRecordedCount() {
+        return counter.get();
+    }
+
+    /**
+     * @param query slow query to record
+     */
+    public void record(final SlowQuery query) {
+        final int slot = (int) (counter.getAndIncrement() % buffer.length());
+        buffer.set(slot, query);
+    }
+
+    /**
+     * @return buffered slow queries (the latest first)
+     */
+    public List<SlowQuery> getQueries() {
+        final List<SlowQuery> res = new ArrayList<>(buffer.length());
+        for (int i = 0; i < buffer.length(); i++) {
+            final SlowQuery query = buffer.get(i);
+            if (query != null) {
+                res.add(query);
+            }
+        }
+        res.sort(Comparator.comparing(SlowQuery::getTime).reversed());
+        return res;
+    }
+
+    /**
+     * @return buffered slow queries, sorted by duration (the slowest first)
+     */
+    public List<SlowQuery> getSlowest() {
+        final List<SlowQuery> res = getQueries();
+        res.sort(Comparator.comparingLong(SlowQuery::getDurationMs).reversed());
+        return res;
+    }
+
+    /**
+     * Clear buffer.
+     */
+    public void clear() {
+        for (int i = 0; i < buffer.length(); i++) {
+            buffer.set(i, null);
+        }
+    }
+}
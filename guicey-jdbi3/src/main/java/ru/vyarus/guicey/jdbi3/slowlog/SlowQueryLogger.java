@@ -0,0 +1,78 @@
+package ru.vyarus.guicey.jdbi3.slowlog;
+
+import org.jdbi.v3.core.extension.ExtensionMethod;
+import org.jdbi.v3.core.statement.SqlLogger;
+import org.jdbi.v3.core.statement.StatementContext;
+import ru.vyarus.guicey.jdbi3.unit.UnitManager;
+
+import javax.inject.Inject;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Jdbi sql logger, recording queries slower than configured threshold into {@link SlowQueryLog}.
+ * Wraps previously configured logger (if any).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class SlowQueryLogger implements SqlLogger {
+
+    private static final int MAX_ARGS_LENGTH = 200;
+
+    private final SlowQueryLog log;
+    private final long thresholdNanos;
+    private final SqlLogger delegate;
+
+    @Inject
+    private UnitManager manager;
+
+    public SlowQueryLogger(final SlowQueryLog log, final SqlLogger delegate) {
+        this.log = log;
+        this.thresholdNanos = log.getThreshold().toNanos();
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void logBeforeExecution(final StatementContext context) {
+        delegate.logBeforeExecution(context);
+    }
+
+    @Override
+    public void logAfterExecution(final StatementContext context) {
+        delegate.logAfterExecution(context);
+        check(context, context.getCompletionMoment(), false);
+    }
+
+    @Override
+    public void logException(final StatementContext context, final SQLException ex) {
+        delegate.logException(context, ex);
+        check(context, context.getExceptionMoment(), true);
+    }
+
+    private void check(final StatementContext context, final Instant end, final boolean failed) {
+        final Instant start = context.getExecutionMoment();
+        if (start == null || end == null) {
+            return;
+        }
+        final long duration = Duration.between(start, end).toNanos();
+        if (duration >= thresholdNanos) {
+            final ExtensionMethod repository = context.getExtensionMethod();
+            log.record(new SlowQuery(
+                    start,
+                    context.getRawSql(),
+                    summarizeArgs(context),
+                    Duration.ofNanos(duration).toMillis(),
+                    failed,
+                    repository != null ? repository.getMethod() : null,
+                    manager != null ? manager.getUnitOwner() : null,
+                    Thread.currentThread().getName()));
+        }
+    }
+
+    private String summarizeArgs(final StatementContext context) {
+        final String res = String.valueOf(context.getBinding());
+        return res.length() > MAX_ARGS_LENGTH ? res.substring(0, MAX_ARGS_LENGTH) + "..." : res;
+    }
+}
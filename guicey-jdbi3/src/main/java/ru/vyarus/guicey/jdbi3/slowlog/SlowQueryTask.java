@@ -0,0 +1,43 @@
+package ru.vyarus.guicey.jdbi3.slowlog;
+
+import io.dropwizard.servlets.tasks.Task;
+
+import java.io.PrintWriter;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Admin task printing slow queries log: {@code POST /tasks/jdbi-slow-queries}. Queries are printed from
+ * the latest. Use {@code ?sort=duration} to sort by duration (the slowest first) and {@code ?clear=true}
+ * to clear log after printing.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class SlowQueryTask extends Task {
+
+    private final SlowQueryLog log;
+
+    public SlowQueryTask(final SlowQueryLog log) {
+        super("jdbi-slow-queries");
+        this.log = log;
+    }
+
+    @Override
+    public void execute(final Map<String, List<String>> parameters, final PrintWriter output) throws Exception {
+        final boolean byDuration = parameters.getOrDefault("sort", Collections.emptyList())
+                .contains("duration");
+        final List<SlowQuery> queries = byDuration ? log.getSlowest() : log.getQueries();
+        output.println("Slow queries (threshold " + log.getThreshold().toMillis() + " ms, recorded "
+                + log.getRecordedCount() + ", buffered " + queries.size() + ")");
+        for (SlowQuery query : queries) {
+            output.println();
+            output.println(query);
+        }
+        if (parameters.getOrDefault("clear", Collections.emptyList()).contains("true")) {
+            log.clear();
+        }
+        output.flush();
+    }
+}
@@ -0,0 +1,97 @@
+package ru.vyarus.guicey.jdbi3.stream;
+
+import ru.vyarus.guicey.jdbi3.tx.StreamingResult;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+/**
+ * Writes rows as csv (RFC 4180): values containing delimiter, quotes or line breaks are quoted, null values
+ * are written as empty strings. Row values are extracted with provided function.
+ *
+ * @param <T> row type
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class CsvStreamingOutput<T> extends RowStreamingOutput<T> {
+
+    private static final String LINE_END = "\r\n";
+
+    private final String[] header;
+    private final Function<T, Object[]> values;
+    private final char delimiter;
+    private Writer out;
+
+    /**
+     * @param result streaming result
+     * @param header header columns (may be null to avoid header)
+     * @param values row values extractor
+     */
+    public CsvStreamingOutput(final StreamingResult<T> result,
+                              final String[] header,
+                              final Function<T, Object[]> values) {
+        this(result, header, values, ',');
+    }
+
+    /**
+     * @param result    streaming result
+     * @param header    header columns (may be null to avoid header)
+     * @param values    row values extractor
+     * @param delimiter values delimiter
+     */
+    public CsvStreamingOutput(final StreamingResult<T> result,
+                              final String[] header,
+                              final Function<T, Object[]> values,
+                              final char delimiter) {
+        super(result);
+        this.header = header;
+        this.values = values;
+        this.delimiter = delimiter;
+    }
+
+    @Override
+    protected void start(final OutputStream output) throws IOException {
+        out = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        if (header != null) {
+            writeLine(header);
+        }
+    }
+
+    @Override
+    protected void writeRow(final T row) throws IOException {
+        writeLine(values.apply(row));
+    }
+
+    @Override
+    protected void finish() throws IOException {
+        out.flush();
+    }
+
+    private void writeLine(final Object[] line) throws IOException {
+        for (int i = 0; i < line.length; i++) {
+            if (i > 0) {
+                out.write(delimiter);
+            }
+            if (line[i] != null) {
+                writeValue(String.valueOf(line[i]));
+            }
+        }
+        out.write(LINE_END);
+    }
+
+    private void writeValue(final String value) throws IOException {
+        if (value.indexOf(delimiter) < 0 && value.indexOf('"') < 0
+                && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            out.write(value);
+        } else {
+            out.write('"');
+            out.write(value.replace("\"", "\"\""));
+            out.write('"');
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package ru.vyarus.guicey.jdbi3.stream;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import ru.vyarus.guicey.jdbi3.tx.StreamingResult;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Writes rows as json array (each row serialized with provided object mapper). Rows are not flushed
+ * individually: response is flushed by jersey buffer.
+ *
+ * @param <T> row type
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class JsonStreamingOutput<T> extends RowStreamingOutput<T> {
+
+    private final ObjectWriter writer;
+    private JsonGenerator generator;
+
+    public JsonStreamingOutput(final StreamingResult<T> result, final ObjectMapper mapper) {
+        super(result);
+        this.writer = mapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    protected void start(final OutputStream output) throws IOException {
+        generator = writer.getFactory().createGenerator(output)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        generator.writeStartArray();
+    }
+
+    @Override
+    protected void writeRow(final T row) throws IOException {
+        writer.writeValue(generator, row);
+    }
+
+    @Override
+    protected void finish() throws IOException {
+        generator.writeEndArray();
+        generator.close();
+    }
+}
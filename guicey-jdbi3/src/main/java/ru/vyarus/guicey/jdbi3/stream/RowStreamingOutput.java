@@ -0,0 +1,87 @@
+package ru.vyarus.guicey.jdbi3.stream;
+
+import ru.vyarus.guicey.jdbi3.tx.StreamingResult;
+
+import javax.ws.rs.core.StreamingOutput;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Base class for jersey streaming responses, writing {@link StreamingResult} rows directly into response stream.
+ * Unit of work (and transaction) stays opened until the last row is written. Usage:
+ * <pre><code>
+ *    {@literal @}GET
+ *     public StreamingOutput export() {
+ *         return new CsvStreamingOutput&lt;&gt;(
+ *                 template.inStreamingTransaction(new TxConfig().readOnly(true), () -&gt; repository.stream()),
+ *                 new String[]{"id", "name"},
+ *                 row -&gt; new Object[]{row.getId(), row.getName()});
+ *     }
+ * </code></pre>
+ * Resource method must not be annotated with {@link ru.vyarus.guicey.jdbi3.tx.InTransaction} (streaming
+ * transaction can't be started inside other unit of work).
+ * <p>
+ * If output is never written (e.g. entity replaced by response filter or exception mapper), streaming transaction
+ * is rolled back after request processing by {@link StreamingOutputReleaser}.
+ *
+ * @param <T> row type
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ * @see JsonStreamingOutput
+ * @see CsvStreamingOutput
+ */
+public abstract class RowStreamingOutput<T> implements StreamingOutput {
+
+    private final StreamingResult<T> result;
+
+    public RowStreamingOutput(final StreamingResult<T> result) {
+        this.result = result;
+    }
+
+    @Override
+    public void write(final OutputStream output) throws IOException {
+        try {
+            start(output);
+            result.forEach(this::writeRow);
+            finish();
+        } finally {
+            // rollback if rows were not consumed (start failure)
+            result.close();
+        }
+    }
+
+    /**
+     * @return true if output was already written or released
+     */
+    public boolean isFinished() {
+        return result.isFinished();
+    }
+
+    /**
+     * Rollback streaming transaction if output was not written. Does nothing for written output.
+     */
+    public void release() {
+        result.close();
+    }
+
+    /**
+     * Called before rows writing.
+     *
+     * @param output response stream
+     * @throws IOException on write error
+     */
+    protected abstract void start(OutputStream output) throws IOException;
+
+    /**
+     * @param row row to write
+     * @throws IOException on write error
+     */
+    protected abstract void writeRow(T row) throws IOException;
+
+    /**
+     * Called after all rows writing (transaction is already committed).
+     *
+     * @throws IOException on write error
+     */
+    protected abstract void finish() throws IOException;
+}
@@ -0,0 +1,70 @@
+package ru.vyarus.guicey.jdbi3.stream;
+
+import org.glassfish.jersey.server.monitoring.ApplicationEvent;
+import org.glassfish.jersey.server.monitoring.ApplicationEventListener;
+import org.glassfish.jersey.server.monitoring.RequestEvent;
+import org.glassfish.jersey.server.monitoring.RequestEventListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.inject.Singleton;
+import javax.ws.rs.ext.Provider;
+
+/**
+ * Releases {@link RowStreamingOutput} results, which were never written into response (e.g. when response entity
+ * was replaced by response filter or exception mapper or client disconnected before writing). Streaming output
+ * returned by resource method is remembered before response filters and its result is closed after request
+ * processing: not consumed result is rolled back and unit of work (with handle) is closed. Consumed results
+ * are not affected.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Provider
+@Singleton
+public class StreamingOutputReleaser implements ApplicationEventListener {
+    private static final String OUTPUT = StreamingOutputReleaser.class.getName() + ".output";
+
+    // use single instance
+    private final RequestListener listener = new RequestListener();
+
+    @Override
+    public void onEvent(final ApplicationEvent event) {
+        // not needed
+    }
+
+    @Override
+    public RequestEventListener onRequest(final RequestEvent requestEvent) {
+        return listener;
+    }
+
+    /**
+     * Jersey request listener tracking streaming output (stored in request property).
+     */
+    private static class RequestListener implements RequestEventListener {
+        private final Logger logger = LoggerFactory.getLogger(StreamingOutputReleaser.class);
+
+        @Override
+        @SuppressWarnings("PMD.AvoidCatchingGenericException")
+        public void onEvent(final RequestEvent event) {
+            if (event.getType() == RequestEvent.Type.RESP_FILTERS_START) {
+                final Object entity = event.getContainerResponse().getEntity();
+                if (entity instanceof RowStreamingOutput) {
+                    event.getContainerRequest().setProperty(OUTPUT, entity);
+                }
+            } else if (event.getType() == RequestEvent.Type.FINISHED && event.getContainerRequest() != null) {
+                final RowStreamingOutput<?> output =
+                        (RowStreamingOutput<?>) event.getContainerRequest().getProperty(OUTPUT);
+                if (output != null && !output.isFinished()) {
+                    logger.warn("Streaming output was not written into response for path '{}', "
+                            + "rolling back streaming transaction", event.getUriInfo().getPath());
+                    try {
+                        output.release();
+                    } catch (RuntimeException ex) {
+                        logger.error("Failed to release not written streaming output", ex);
+                    }
+                }
+            }
+        }
+    }
+}
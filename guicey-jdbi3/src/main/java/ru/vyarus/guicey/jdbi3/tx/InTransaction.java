@@ -41,4 +41,72 @@ public @interface InTransaction {
      * @return whether the transaction is read only
      */
     boolean readOnly() default false;
+
+    /**
+     * Lazy transaction opens handle (and starts transaction) only on first handle access (for example, on first
+     * repository call). Useful for methods which may not access database at all (e.g. due to cached results):
+     * in this case connection will not be obtained from pool at all.
+     *
+     * @return whether the transaction should be started lazily
+     */
+    boolean lazy() default false;
+
+    /**
+     * Query timeout applied to all statements executed inside transaction (unless statement declares
+     * own timeout). Useful to bound runaway queries.
+     *
+     * @return query timeout in seconds (0 - driver default)
+     */
+    int queryTimeout() default 0;
+
+    /**
+     * Fetch size applied to all statements executed inside transaction (unless statement declares own
+     * fetch size). Useful for large results streaming.
+     *
+     * @return fetch size (0 - driver default)
+     */
+    int fetchSize() default 0;
+
+    /**
+     * Maximum rows limit applied to all statements executed inside transaction (unless statement declares
+     * own limit).
+     *
+     * @return max rows (0 - no limit)
+     */
+    int maxRows() default 0;
+
+    /**
+     * Transaction retry on serialization failures and deadlocks: transaction, failed with sql exception with
+     * one of {@link #retryStates()}, would be completely re-executed (up to specified attempts count).
+     * Retry is performed only by transaction, started unit of work (nested transaction failure would
+     * lead to outer transaction retry if outer transaction declares retry).
+     *
+     * @return maximum execution attempts (1 - no retries)
+     * @see RetryPolicy
+     */
+    int retryAttempts() default 1;
+
+    /**
+     * Delay before the first retry (doubled for each next retry). Delay is randomized to avoid synchronous
+     * retries of conflicting transactions.
+     *
+     * @return delay before first retry in milliseconds
+     */
+    long retryBackoff() default 50;
+
+    /**
+     * @return SQL states to retry (serialization failure and deadlock by default)
+     */
+    String[] retryStates() default {RetryPolicy.SERIALIZATION_FAILURE, RetryPolicy.DEADLOCK};
+
+    /**
+     * Bulkhead limits concurrent transactions of methods group (see
+     * {@link ru.vyarus.guicey.jdbi3.JdbiBundle#withBulkhead(String, int, java.time.Duration)}). Transaction,
+     * which could not obtain bulkhead permit, fails with
+     * {@link ru.vyarus.guicey.jdbi3.tx.bulkhead.BulkheadFullException}. Applied only by transaction, started unit
+     * of work.
+     *
+     * @return bulkhead name (empty for default bulkhead)
+     */
+    String bulkhead() default "";
 }
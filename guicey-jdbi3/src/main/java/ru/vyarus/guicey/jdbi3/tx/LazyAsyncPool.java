@@ -0,0 +1,85 @@
+package ru.vyarus.guicey.jdbi3.tx;
+
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import io.dropwizard.lifecycle.Managed;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Default executor for asynchronous transactions: bounded thread pool, created only on first task submission
+ * (so applications without asynchronous transactions never start pool threads). Registered in dropwizard
+ * lifecycle: created pool is shut down on application stop (running tasks are given 5 seconds to complete).
+ * Tasks exceeding queue size (or submitted after stop) are rejected.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class LazyAsyncPool implements Executor, Managed {
+
+    private static final long SHUTDOWN_TIMEOUT = 5;
+
+    private final int threads;
+    private final int queueSize;
+    private volatile ThreadPoolExecutor pool;
+    private boolean stopped;
+
+    public LazyAsyncPool(final int threads, final int queueSize) {
+        Preconditions.checkArgument(threads > 0, "Threads count must be positive");
+        Preconditions.checkArgument(queueSize > 0, "Queue size must be positive");
+        this.threads = threads;
+        this.queueSize = queueSize;
+    }
+
+    /**
+     * @return true if pool was created (at least one task submitted)
+     */
+    public boolean isCreated() {
+        return pool != null;
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        ThreadPoolExecutor res = pool;
+        if (res == null) {
+            res = create();
+        }
+        res.execute(command);
+    }
+
+    @Override
+    public void start() throws Exception {
+        // pool created on demand
+    }
+
+    @Override
+    public void stop() throws Exception {
+        final ThreadPoolExecutor res;
+        synchronized (this) {
+            stopped = true;
+            res = pool;
+        }
+        if (res != null) {
+            res.shutdown();
+            if (!res.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.SECONDS)) {
+                res.shutdownNow();
+            }
+        }
+    }
+
+    private synchronized ThreadPoolExecutor create() {
+        if (stopped) {
+            throw new RejectedExecutionException("Asynchronous transactions executor is already stopped");
+        }
+        if (pool == null) {
+            pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS,
+                    new ArrayBlockingQueue<>(queueSize),
+                    new ThreadFactoryBuilder().setNameFormat("jdbi-async-%d").build());
+        }
+        return pool;
+    }
+}
@@ -0,0 +1,119 @@
+package ru.vyarus.guicey.jdbi3.tx;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Transaction retry policy (see {@link TxConfig#retry(RetryPolicy)}). Transaction is retried (completely, with
+ * new unit of work) when it fails with {@link SQLException} (anywhere in exception causes chain) with one of
+ * configured SQL states. By default, serialization failure (40001) and deadlock (40P01) states are retried.
+ * <p>
+ * Delay before each retry grows exponentially (starting from initial backoff, but not more than max backoff)
+ * and randomized with jitter (to avoid synchronous retries of conflicting transactions).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@SuppressWarnings("PMD.AvoidFieldNameMatchingMethodName")
+public final class RetryPolicy {
+
+    /**
+     * Serialization failure SQL state.
+     */
+    public static final String SERIALIZATION_FAILURE = "40001";
+    /**
+     * Deadlock detected SQL state (postgres).
+     */
+    public static final String DEADLOCK = "40P01";
+
+    private int attempts = 3;
+    private Duration backoff = Duration.ofMillis(50);
+    private Duration maxBackoff = Duration.ofSeconds(1);
+    private double jitter = 0.5;
+    private Set<String> states = ImmutableSet.of(SERIALIZATION_FAILURE, DEADLOCK);
+
+    /**
+     * @return maximum attempts count (including first execution)
+     */
+    public int getAttempts() {
+        return attempts;
+    }
+
+    /**
+     * @return retried SQL states
+     */
+    public Set<String> getStates() {
+        return states;
+    }
+
+    /**
+     * @param attempts maximum attempts count, including first execution (3 by default)
+     * @return policy itself for chained calls
+     */
+    public RetryPolicy attempts(final int attempts) {
+        Preconditions.checkArgument(attempts > 0, "Attempts count must be positive");
+        this.attempts = attempts;
+        return this;
+    }
+
+    /**
+     * @param backoff    delay before first retry (50ms by default), doubled for each next retry
+     * @param maxBackoff maximum delay (1s by default)
+     * @return policy itself for chained calls
+     */
+    public RetryPolicy backoff(final Duration backoff, final Duration maxBackoff) {
+        this.backoff = backoff;
+        this.maxBackoff = maxBackoff;
+        return this;
+    }
+
+    /**
+     * @param jitter delay randomization factor from 0 (no randomization) to 1 (delay could be from 0 to
+     *               computed backoff); 0.5 by default
+     * @return policy itself for chained calls
+     */
+    public RetryPolicy jitter(final double jitter) {
+        Preconditions.checkArgument(jitter >= 0 && jitter <= 1, "Jitter must be in 0..1 range");
+        this.jitter = jitter;
+        return this;
+    }
+
+    /**
+     * @param states SQL states to retry
+     * @return policy itself for chained calls
+     */
+    public RetryPolicy states(final String... states) {
+        this.states = ImmutableSet.copyOf(states);
+        return this;
+    }
+
+    /**
+     * @param ex transaction error
+     * @return true if transaction could be retried
+     */
+    public boolean isRetryable(final Throwable ex) {
+        Throwable cause = ex;
+        while (cause != null) {
+            if (cause instanceof SQLException && states.contains(((SQLException) cause).getSQLState())) {
+                return true;
+            }
+            cause = cause.getCause() == cause ? null : cause.getCause();
+        }
+        return false;
+    }
+
+    /**
+     * @param attempt failed attempt number (starting from 1)
+     * @return delay before next attempt in milliseconds
+     */
+    public long getDelay(final int attempt) {
+        final long base = Math.min(maxBackoff.toMillis(),
+                backoff.toMillis() << Math.min(attempt - 1, 20));
+        return base - (long) (base * jitter * ThreadLocalRandom.current().nextDouble());
+    }
+}
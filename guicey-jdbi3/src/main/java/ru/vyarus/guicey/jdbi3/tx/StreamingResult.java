@@ -0,0 +1,130 @@
+package ru.vyarus.guicey.jdbi3.tx;
+
+import com.google.common.base.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.guicey.jdbi3.unit.UnitContext;
+import ru.vyarus.guicey.jdbi3.unit.UnitManager;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * Query result with suspended unit of work and transaction (see
+ * {@link TransactionTemplate#inStreamingTransaction(TxConfig, java.util.concurrent.Callable)}). Unit is resumed
+ * in consuming thread and finished (with transaction commit or rollback) after rows consumption, so rows are
+ * never collected into memory.
+ * <p>
+ * Result could be consumed only once. Not consumed result must be closed (transaction would be rolled back).
+ *
+ * @param <T> row type
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public final class StreamingResult<T> implements AutoCloseable {
+
+    private final Logger logger = LoggerFactory.getLogger(StreamingResult.class);
+
+    private final TransactionTemplate template;
+    private final UnitManager manager;
+    private final UnitContext unit;
+    private final TransactionTemplate.LazyTransaction tx;
+    private final Stream<T> rows;
+    private final AtomicBoolean finished = new AtomicBoolean();
+
+    StreamingResult(final TransactionTemplate template,
+                    final UnitManager manager,
+                    final UnitContext unit,
+                    final TransactionTemplate.LazyTransaction tx,
+                    final Stream<T> rows) {
+        this.template = template;
+        this.manager = manager;
+        this.unit = unit;
+        this.tx = tx;
+        this.rows = rows;
+    }
+
+    /**
+     * @return true if result was already consumed or closed
+     */
+    public boolean isFinished() {
+        return finished.get();
+    }
+
+    /**
+     * Consume all rows within suspended unit of work (unit is resumed in current thread). Transaction is
+     * committed after the last row (and after commit actions executed). On error, transaction is rolled back.
+     * Rows stream is closed in any case.
+     *
+     * @param action row consumer
+     * @throws IOException           consumer error
+     * @throws IllegalStateException if result was already consumed or closed or other unit is active
+     *                               in current thread
+     */
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    public void forEach(final RowConsumer<? super T> action) throws IOException {
+        Preconditions.checkState(finished.compareAndSet(false, true), "Streaming result is already consumed");
+        unit.resume();
+        try {
+            try (Stream<T> stream = rows) {
+                final Iterator<T> it = stream.iterator();
+                while (it.hasNext()) {
+                    action.accept(it.next());
+                }
+            } catch (Throwable th) {
+                if (manager.isHandleOpened()) {
+                    tx.rollback(manager.get(), th);
+                }
+                throw th;
+            }
+            if (manager.isHandleOpened()) {
+                tx.commit(manager.get());
+            }
+        } catch (Throwable th) {
+            template.finishRolledBack(th);
+            throw th;
+        }
+        template.finishCommitted();
+    }
+
+    /**
+     * Rollback transaction and close unit of work if result was not consumed. Does nothing for consumed result.
+     */
+    @Override
+    public void close() {
+        if (!finished.compareAndSet(false, true)) {
+            return;
+        }
+        unit.resume();
+        final CancellationException cause = new CancellationException("Streaming result closed without consumption");
+        try {
+            rows.close();
+        } finally {
+            if (manager.isHandleOpened()) {
+                tx.rollback(manager.get(), cause);
+            }
+            template.finishRolledBack(cause);
+        }
+        for (Throwable err : cause.getSuppressed()) {
+            logger.warn("Error closing not consumed streaming result", err);
+        }
+    }
+
+    /**
+     * Row consumer (usually writing row into output stream).
+     *
+     * @param <T> row type
+     */
+    @FunctionalInterface
+    public interface RowConsumer<T> {
+
+        /**
+         * @param row row to consume
+         * @throws IOException on write error
+         */
+        void accept(T row) throws IOException;
+    }
+}
@@ -1,15 +1,27 @@
 package ru.vyarus.guicey.jdbi3.tx;
 
 
+import com.codahale.metrics.Meter;
+import com.google.common.base.Preconditions;
 import com.google.common.base.Throwables;
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.HandleCallback;
 import org.jdbi.v3.core.transaction.TransactionException;
 import org.jdbi.v3.core.transaction.TransactionIsolationLevel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.guicey.jdbi3.metrics.JdbiMetrics;
 import ru.vyarus.guicey.jdbi3.unit.UnitManager;
 
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * Transaction template used to both declare unit of work and start transaction.
@@ -22,6 +34,24 @@ import javax.inject.Singleton;
  *     ...
  *     template.inTransaction(() -&gt; doSoemStaff())
  * </code></pre>
+ * <p>
+ * Use {@link #inLazyTransaction(TxConfig, Callable)} when action may not access database at all: handle (and
+ * transaction) would be opened only on first handle access.
+ * <p>
+ * Actions, registered with {@link UnitManager#afterCommit(Runnable)} and {@link UnitManager#afterRollback(Runnable)}
+ * (or with {@link TxSynchronization}), are executed after transaction commit or rollback (after unit end, when
+ * handle is already closed).
+ * <p>
+ * Asynchronous transactions ({@link #inTransactionAsync(TxConfig, TxAction)}) are executed in new unit of work
+ * on {@link TxExecutor} threads.
+ * <p>
+ * Streaming transactions ({@link #inStreamingTransaction(TxConfig, Callable)}) stay opened until query
+ * result consumption (after template call).
+ * <p>
+ * Transactions, started unit of work, are retried according to {@link TxConfig#getRetry()} policy (if configured).
+ * Only transaction body and commit are retried: after commit actions are called once, after successful attempt.
+ * After commit action errors are logged and never propagated (transaction is already committed).
+ * When metrics enabled, retries and exhausted retries are counted.
  *
  * @author Vyacheslav Rusakov
  * @since 31.08.2018
@@ -29,11 +59,29 @@ import javax.inject.Singleton;
 @Singleton
 public class TransactionTemplate {
 
+    private final Logger logger = LoggerFactory.getLogger(TransactionTemplate.class);
+
     private final UnitManager manager;
+    private final TxExecutor executor;
+    // null when metrics disabled
+    private final Meter retries;
+    private final Meter retriesExhausted;
 
-    @Inject
     public TransactionTemplate(final UnitManager manager) {
+        this(manager, new TxExecutor(ForkJoinPool.commonPool()), JdbiMetrics.disabled());
+    }
+
+    @Inject
+    public TransactionTemplate(final UnitManager manager, final TxExecutor executor, final JdbiMetrics metrics) {
         this.manager = manager;
+        this.executor = executor;
+        if (metrics.isEnabled()) {
+            this.retries = metrics.getRegistry().meter(metrics.retryMetric("attempts"));
+            this.retriesExhausted = metrics.getRegistry().meter(metrics.retryMetric("exhausted"));
+        } else {
+            this.retries = null;
+            this.retriesExhausted = null;
+        }
     }
 
     /**
@@ -66,34 +114,298 @@ public class TransactionTemplate {
         if (manager.isUnitStarted()) {
             // already started
             try {
-                return inCurrentTransaction(config, action);
+                return manager.isHandleOpened()
+                        ? inCurrentTransaction(config, action)
+                        // check compatibility with lazy unit before handle opening
+                        : inCurrentLazyTransaction(config, () -> action.execute(manager.get()));
             } catch (Throwable th) {
                 Throwables.throwIfUnchecked(th);
                 throw new RuntimeException(th);
             }
         } else {
-            manager.beginUnit();
             try {
-                return inNewTransaction(config, action);
-            } finally {
-                manager.endUnit();
+                // after commit actions are called once, outside of retry (transaction is already committed)
+                return afterCommit(withRetry(config, () -> inNewUnit(config, action)));
+            } catch (Exception ex) {
+                Throwables.throwIfUnchecked(ex);
+                throw new RuntimeException(ex);
+            }
+        }
+    }
+
+    /**
+     * Wraps provided action with lazy unit of work and transaction: handle is opened and transaction started
+     * only on first handle access (e.g. on first repository call or {@link UnitManager#get()}). If action would not
+     * access handle, connection would not be consumed at all. If called under already started unit of work then
+     * action will be called directly.
+     * <p>
+     * Action does not receive handle (as {@link TxAction}) because this would trigger handle opening.
+     *
+     * @param config transaction config
+     * @param action action to execute
+     * @param <T>    return type
+     * @return action result
+     */
+    @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
+    public <T> T inLazyTransaction(final TxConfig config, final Callable<T> action) {
+        try {
+            if (manager.isUnitStarted()) {
+                // already started
+                return manager.isHandleOpened()
+                        ? inCurrentTransaction(config, handle -> action.call())
+                        : inCurrentLazyTransaction(config, action);
+            } else {
+                return afterCommit(withRetry(config, () -> inNewLazyTransaction(config, action)));
+            }
+        } catch (Throwable th) {
+            Throwables.throwIfUnchecked(th);
+            throw new RuntimeException(th);
+        }
+    }
+
+    /**
+     * Shortcut for {@link #inTransactionAsync(TxConfig, TxAction)} for calling action with default transaction
+     * config.
+     *
+     * @param action action to execute
+     * @param <T>    return type
+     * @return future for action result
+     */
+    public <T> CompletableFuture<T> inTransactionAsync(final TxAction<T> action) {
+        return inTransactionAsync(new TxConfig(), action);
+    }
+
+    /**
+     * Executes action in new unit of work and transaction on {@link TxExecutor} thread. Returned future
+     * is completed after transaction commit (or exceptionally after rollback). Useful for running independent
+     * db operations in parallel.
+     * <p>
+     * IMPORTANT: action is always executed in new unit of work, even if called inside transaction (because
+     * handle can't be shared between threads). So it will not see uncommitted changes of current transaction.
+     * <p>
+     * When executor rejects action (queue is full), returned future is completed exceptionally with
+     * {@link RejectedExecutionException}.
+     *
+     * @param config transaction config
+     * @param action action to execute
+     * @param <T>    return type
+     * @return future for action result
+     */
+    public <T> CompletableFuture<T> inTransactionAsync(final TxConfig config, final TxAction<T> action) {
+        return runAsync(() -> inTransaction(config, action));
+    }
+
+    /**
+     * Asynchronous version of {@link #inLazyTransaction(TxConfig, Callable)}. The same as
+     * {@link #inTransactionAsync(TxConfig, TxAction)}, but handle (and transaction) is opened only on first
+     * handle access.
+     *
+     * @param config transaction config
+     * @param action action to execute
+     * @param <T>    return type
+     * @return future for action result
+     */
+    public <T> CompletableFuture<T> inLazyTransactionAsync(final TxConfig config, final Callable<T> action) {
+        return runAsync(() -> inLazyTransaction(config, action));
+    }
+
+    /**
+     * Starts unit of work and transaction, which outlives the call: query is executed immediately (so query errors
+     * appear in caller thread), but unit is suspended and rows are consumed later (possibly in other thread)
+     * with {@link StreamingResult#forEach(StreamingResult.RowConsumer)}. Transaction is committed and unit
+     * closed after all rows consumption (or rolled back on consumption error). Intended for streaming large
+     * results to http response without collecting them into memory (see
+     * {@link ru.vyarus.guicey.jdbi3.stream.RowStreamingOutput}).
+     * <p>
+     * Use {@link org.jdbi.v3.core.result.ResultIterable#stream()} (or repository methods returning {@link Stream})
+     * to avoid rows materialization. Note that jdbc driver may still fetch all rows at once, unless fetch size is
+     * configured (e.g. with {@link org.jdbi.v3.sqlobject.customizer.FetchSize}).
+     * <p>
+     * Result must be either consumed or closed, otherwise handle would be left opened. Results, returned from
+     * resource methods as {@link ru.vyarus.guicey.jdbi3.stream.RowStreamingOutput}, are closed automatically after
+     * request processing (see {@link ru.vyarus.guicey.jdbi3.stream.StreamingOutputReleaser}). Retry policy is
+     * not applied.
+     *
+     * @param config transaction config
+     * @param query  query action (executed within new transaction)
+     * @param <T>    row type
+     * @return suspended streaming result
+     * @throws IllegalStateException if called inside unit of work (unit could not be suspended)
+     */
+    @SuppressWarnings({"PMD.AvoidCatchingThrowable", "PMD.AvoidThrowingRawExceptionTypes"})
+    public <T> StreamingResult<T> inStreamingTransaction(final TxConfig config, final Callable<Stream<T>> query) {
+        Preconditions.checkState(!manager.isUnitStarted(),
+                "Streaming transaction could not be started inside unit of work");
+        final LazyTransaction tx = new LazyTransaction(config);
+        manager.beginLazyUnit(config, tx::begin);
+        final Stream<T> rows;
+        try {
+            rows = query.call();
+        } catch (Throwable th) {
+            if (manager.isHandleOpened()) {
+                tx.rollback(manager.get(), th);
             }
+            finishRolledBack(th);
+            Throwables.throwIfUnchecked(th);
+            throw new RuntimeException(th);
         }
+        return new StreamingResult<>(this, manager, manager.suspend(), tx, rows);
     }
 
     private <T> T inCurrentTransaction(final TxConfig config, final TxAction<T> action) throws Exception {
         // mostly copies org.jdbi.v3.sqlobject.transaction.internal.TransactionDecorator logic
         final Handle h = manager.get();
-        final TransactionIsolationLevel currentLevel = h.getTransactionIsolationLevel();
+        checkCompatibility(h.getTransactionIsolationLevel(), h.isReadOnly(), config);
+        checkShard(config);
+        return action.execute(h);
+    }
+
+    private <T> T inCurrentLazyTransaction(final TxConfig config, final Callable<T> action) throws Exception {
+        final TxConfig current = manager.getUnitConfig();
+        final boolean currentLevelUnknown = current == null || !current.isLevelSet();
+        if (config.isLevelSet() && currentLevelUnknown) {
+            // actual (default) isolation level could be checked only on opened handle
+            return inCurrentTransaction(config, handle -> action.call());
+        }
+        if (current != null) {
+            checkCompatibility(current.getLevel(), current.isReadOnly(), config);
+        }
+        checkShard(config);
+        return action.call();
+    }
+
+    private void checkCompatibility(final TransactionIsolationLevel currentLevel,
+                                    final boolean currentReadOnly,
+                                    final TxConfig config) {
         if (config.isLevelSet() && currentLevel != config.getLevel()) {
             throw new TransactionException("Tried to execute nested @Transaction(" + config.getLevel() + "), "
                     + "but already running in a transaction with isolation level " + currentLevel + ".");
         }
-        if (h.isReadOnly() && !config.isReadOnly()) {
+        if (currentReadOnly && !config.isReadOnly()) {
             throw new TransactionException("Tried to execute a nested @Transaction(readOnly=false) "
                     + "inside a readOnly transaction");
         }
-        return action.execute(h);
+    }
+
+    private void checkShard(final TxConfig config) {
+        if (!manager.isCompatibleShard(config)) {
+            throw new TransactionException("Tried to execute nested transaction with shard key "
+                    + config.getShardKey() + ", but already running in a transaction on another shard");
+        }
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    private <T> Committed<T> inNewUnit(final TxConfig config, final TxAction<T> action) {
+        manager.beginUnit(config);
+        final T res;
+        try {
+            res = inNewTransaction(config, action);
+        } catch (Throwable th) {
+            finishRolledBack(th);
+            throw th;
+        }
+        return new Committed<>(res, endCommitted());
+    }
+
+    /**
+     * Finish current unit and run after commit actions.
+     */
+    void finishCommitted() {
+        runAfterCommit(endCommitted());
+    }
+
+    private Collection<Runnable> endCommitted() {
+        final Collection<Runnable> afterCommit;
+        try {
+            afterCommit = manager.getAfterCommitActions();
+        } finally {
+            manager.endUnit();
+        }
+        return afterCommit;
+    }
+
+    private <T> T afterCommit(final Committed<T> committed) {
+        runAfterCommit(committed.afterCommit);
+        return committed.result;
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void runAfterCommit(final Collection<Runnable> actions) {
+        for (Runnable action : actions) {
+            try {
+                action.run();
+            } catch (RuntimeException ex) {
+                // transaction is already committed: callback error must not fail it (or prevent other callbacks)
+                logger.error("After commit action failed", ex);
+            }
+        }
+    }
+
+    /**
+     * Finish current unit and run after rollback actions (errors are added to original exception as suppressed).
+     *
+     * @param cause rollback cause
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    void finishRolledBack(final Throwable cause) {
+        final Collection<Runnable> afterRollback;
+        try {
+            afterRollback = manager.getAfterRollbackActions();
+        } finally {
+            manager.endUnit();
+        }
+        for (Runnable action : afterRollback) {
+            try {
+                action.run();
+            } catch (RuntimeException ex) {
+                // original exception is more important
+                cause.addSuppressed(ex);
+            }
+        }
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private <T> T withRetry(final TxConfig config, final Callable<T> unit) throws Exception {
+        final RetryPolicy policy = config.getRetry();
+        if (policy == null) {
+            return unit.call();
+        }
+        int attempt = 1;
+        while (true) {
+            try {
+                return unit.call();
+            } catch (Exception ex) {
+                if (!policy.isRetryable(ex)) {
+                    throw ex;
+                }
+                if (attempt >= policy.getAttempts()) {
+                    mark(retriesExhausted);
+                    logger.warn("Transaction failed after {} attempts", attempt);
+                    throw ex;
+                }
+                mark(retries);
+                final long delay = policy.getDelay(attempt);
+                logger.debug("Transaction attempt {} failed, retrying in {} ms: {}", attempt, delay, ex.getMessage());
+                sleep(delay, ex);
+                attempt++;
+            }
+        }
+    }
+
+    private void sleep(final long delay, final Exception cause) throws Exception {
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            cause.addSuppressed(ie);
+            throw cause;
+        }
+    }
+
+    private void mark(final Meter meter) {
+        if (meter != null) {
+            meter.mark();
+        }
     }
 
     @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
@@ -110,4 +422,112 @@ public class TransactionTemplate {
         };
         return config.isLevelSet() ? h.inTransaction(config.getLevel(), callback) : h.inTransaction(callback);
     }
+
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    private <T> Committed<T> inNewLazyTransaction(final TxConfig config, final Callable<T> action) throws Exception {
+        final LazyTransaction tx = new LazyTransaction(config);
+        // transaction would be started just after handle opening
+        manager.beginLazyUnit(config, tx::begin);
+        final T res;
+        try {
+            try {
+                res = action.call();
+            } catch (Throwable th) {
+                if (manager.isHandleOpened()) {
+                    tx.rollback(manager.get(), th);
+                }
+                throw th;
+            }
+            if (manager.isHandleOpened()) {
+                tx.commit(manager.get());
+            }
+        } catch (Throwable th) {
+            finishRolledBack(th);
+            throw th;
+        }
+        return new Committed<>(res, endCommitted());
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    private <T> CompletableFuture<T> runAsync(final Supplier<T> task) {
+        final CompletableFuture<T> res = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    res.complete(task.get());
+                } catch (Throwable th) {
+                    res.completeExceptionally(th);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            res.completeExceptionally(ex);
+        }
+        return res;
+    }
+
+    /**
+     * Committed transaction result with after commit actions (executed after retry loop).
+     *
+     * @param <T> result type
+     */
+    private static class Committed<T> {
+        private final T result;
+        private final Collection<Runnable> afterCommit;
+
+        Committed(final T result, final Collection<Runnable> afterCommit) {
+            this.result = result;
+            this.afterCommit = afterCommit;
+        }
+    }
+
+    /**
+     * Manual transaction management for lazy units (the same as jdbi {@link Handle#inTransaction(HandleCallback)},
+     * but split into separate steps). Also used by {@link StreamingResult}.
+     */
+    static class LazyTransaction {
+        private final TxConfig config;
+        private TransactionIsolationLevel initialLevel;
+
+        LazyTransaction(final TxConfig config) {
+            this.config = config;
+        }
+
+        public void begin(final Handle handle) {
+            handle.setReadOnly(config.isReadOnly());
+            if (config.isLevelSet()) {
+                initialLevel = handle.getTransactionIsolationLevel();
+                handle.setTransactionIsolation(config.getLevel());
+            }
+            handle.begin();
+        }
+
+        @SuppressWarnings("PMD.AvoidCatchingGenericException")
+        public void commit(final Handle handle) {
+            try {
+                handle.commit();
+            } catch (RuntimeException ex) {
+                // explicit rollback: otherwise connection state after failed commit would depend on pool
+                rollback(handle, ex);
+                throw ex;
+            }
+            restoreLevel(handle);
+        }
+
+        @SuppressWarnings("PMD.AvoidCatchingGenericException")
+        public void rollback(final Handle handle, final Throwable cause) {
+            try {
+                handle.rollback();
+            } catch (RuntimeException ex) {
+                cause.addSuppressed(ex);
+            } finally {
+                restoreLevel(handle);
+            }
+        }
+
+        private void restoreLevel(final Handle handle) {
+            if (initialLevel != null) {
+                handle.setTransactionIsolation(initialLevel);
+            }
+        }
+    }
 }
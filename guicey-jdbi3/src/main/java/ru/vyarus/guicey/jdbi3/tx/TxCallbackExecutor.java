@@ -0,0 +1,25 @@
+package ru.vyarus.guicey.jdbi3.tx;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Executor for asynchronous transaction callbacks ({@link TxSynchronization#afterCommitAsync(Runnable)},
+ * {@link TxSynchronization#afterRollbackAsync(Runnable)}). By default, asynchronous transactions executor is used
+ * (see {@link ru.vyarus.guicey.jdbi3.JdbiBundle#withCallbackExecutor(java.util.concurrent.ExecutorService)}).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class TxCallbackExecutor implements Executor {
+
+    private final Executor executor;
+
+    public TxCallbackExecutor(final Executor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        executor.execute(command);
+    }
+}
@@ -14,6 +14,13 @@ public final class TxConfig {
 
     private TransactionIsolationLevel level = TransactionIsolationLevel.UNKNOWN;
     private boolean readOnly;
+    private boolean lazy;
+    private int queryTimeout;
+    private int fetchSize;
+    private int maxRows;
+    private RetryPolicy retry;
+    private Object shardKey;
+    private String bulkhead;
 
     /**
      * @return configured isolation level
@@ -29,6 +36,62 @@ public final class TxConfig {
         return readOnly;
     }
 
+    /**
+     * @return true if unit of work (and transaction) must be started lazily (on first handle access)
+     */
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    /**
+     * @return query timeout in seconds (0 - not set)
+     */
+    public int getQueryTimeout() {
+        return queryTimeout;
+    }
+
+    /**
+     * @return statements fetch size (0 - not set)
+     */
+    public int getFetchSize() {
+        return fetchSize;
+    }
+
+    /**
+     * @return statements max rows (0 - not set)
+     */
+    public int getMaxRows() {
+        return maxRows;
+    }
+
+    /**
+     * @return retry policy or null if retry is not required
+     */
+    public RetryPolicy getRetry() {
+        return retry;
+    }
+
+    /**
+     * @return shard key or null to use default database
+     */
+    public Object getShardKey() {
+        return shardKey;
+    }
+
+    /**
+     * @return bulkhead name or null for default bulkhead
+     */
+    public String getBulkhead() {
+        return bulkhead;
+    }
+
+    /**
+     * @return true when query timeout, fetch size or max rows set
+     */
+    public boolean isStatementSettingsSet() {
+        return queryTimeout > 0 || fetchSize > 0 || maxRows > 0;
+    }
+
     /**
      * @return true when non default level set
      */
@@ -53,4 +116,120 @@ public final class TxConfig {
         this.readOnly = readOnly;
         return this;
     }
+
+    /**
+     * Lazy transaction opens handle (and starts transaction) only on first handle access (e.g. first
+     * repository call). If handle is not accessed at all, connection is not consumed.
+     * <p>
+     * NOTE: applied only for transactions started with annotations or with
+     * {@link TransactionTemplate#inLazyTransaction(TxConfig, java.util.concurrent.Callable)}. Handle-aware
+     * template actions ({@link TxAction}) always require opened handle.
+     *
+     * @param lazy true for lazy transaction
+     * @return config itself for chained calls
+     */
+    public TxConfig lazy(final boolean lazy) {
+        this.lazy = lazy;
+        return this;
+    }
+
+    /**
+     * Query timeout, applied for all statements in transaction (see {@link TxStatementCustomizer}).
+     * Statement could declare its own timeout (e.g. with {@link org.jdbi.v3.sqlobject.customizer.QueryTimeOut}).
+     * <p>
+     * NOTE: applied only by transaction, started unit of work (ignored for nested transactions).
+     *
+     * @param queryTimeout query timeout in seconds (0 - driver default)
+     * @return config itself for chained calls
+     */
+    public TxConfig queryTimeout(final int queryTimeout) {
+        this.queryTimeout = queryTimeout;
+        return this;
+    }
+
+    /**
+     * Fetch size, applied for all statements in transaction (see {@link TxStatementCustomizer}).
+     * Statement could declare its own fetch size (e.g. with {@link org.jdbi.v3.sqlobject.customizer.FetchSize}).
+     * <p>
+     * NOTE: applied only by transaction, started unit of work (ignored for nested transactions).
+     *
+     * @param fetchSize fetch size (0 - driver default)
+     * @return config itself for chained calls
+     */
+    public TxConfig fetchSize(final int fetchSize) {
+        this.fetchSize = fetchSize;
+        return this;
+    }
+
+    /**
+     * Max rows, applied for all statements in transaction (see {@link TxStatementCustomizer}).
+     * Statement could declare its own limit (e.g. with {@link org.jdbi.v3.sqlobject.customizer.MaxRows}).
+     * <p>
+     * NOTE: applied only by transaction, started unit of work (ignored for nested transactions).
+     *
+     * @param maxRows max rows (0 - no limit)
+     * @return config itself for chained calls
+     */
+    public TxConfig maxRows(final int maxRows) {
+        this.maxRows = maxRows;
+        return this;
+    }
+
+    /**
+     * Retry transaction on serialization failures and deadlocks (see {@link RetryPolicy}).
+     * <p>
+     * NOTE: applied only by transaction, started unit of work (ignored for nested transactions).
+     *
+     * @param retry retry policy (null to disable retries)
+     * @return config itself for chained calls
+     */
+    public TxConfig retry(final RetryPolicy retry) {
+        this.retry = retry;
+        return this;
+    }
+
+    /**
+     * Shard key used to select unit of work database when sharding is configured
+     * (see {@link ru.vyarus.guicey.jdbi3.dbi.shard.Shards}). For annotated methods, key could be declared
+     * with {@link ru.vyarus.guicey.jdbi3.dbi.shard.ShardKey} parameter annotation.
+     * <p>
+     * Nested transaction with shard key must resolve to the same shard as current unit.
+     *
+     * @param shardKey shard key (null to use default database)
+     * @return config itself for chained calls
+     */
+    public TxConfig shardKey(final Object shardKey) {
+        this.shardKey = shardKey;
+        return this;
+    }
+
+    /**
+     * Bulkhead limiting concurrent transactions (see {@link ru.vyarus.guicey.jdbi3.tx.bulkhead.Bulkheads}).
+     * <p>
+     * NOTE: applied only for transactions started with annotations (by transaction, started unit of work).
+     *
+     * @param bulkhead bulkhead name (null or empty for default bulkhead)
+     * @return config itself for chained calls
+     */
+    public TxConfig bulkhead(final String bulkhead) {
+        this.bulkhead = bulkhead;
+        return this;
+    }
+
+    /**
+     * @return configuration copy
+     */
+    public TxConfig copy() {
+        final TxConfig res = new TxConfig();
+        res.level = level;
+        res.readOnly = readOnly;
+        res.lazy = lazy;
+        res.queryTimeout = queryTimeout;
+        res.fetchSize = fetchSize;
+        res.maxRows = maxRows;
+        res.retry = retry;
+        res.shardKey = shardKey;
+        res.bulkhead = bulkhead;
+        return res;
+    }
 }
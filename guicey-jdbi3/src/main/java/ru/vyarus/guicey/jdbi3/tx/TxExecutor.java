@@ -0,0 +1,25 @@
+package ru.vyarus.guicey.jdbi3.tx;
+
+import java.util.concurrent.Executor;
+
+/**
+ * Executor for asynchronous transactions ({@link TransactionTemplate#inTransactionAsync(TxConfig, TxAction)}).
+ * By default, lazily created bounded thread pool is used ({@link LazyAsyncPool}, see
+ * {@link ru.vyarus.guicey.jdbi3.JdbiBundle#withAsyncExecutor(java.util.concurrent.ExecutorService)}).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class TxExecutor implements Executor {
+
+    private final Executor executor;
+
+    public TxExecutor(final Executor executor) {
+        this.executor = executor;
+    }
+
+    @Override
+    public void execute(final Runnable command) {
+        executor.execute(command);
+    }
+}
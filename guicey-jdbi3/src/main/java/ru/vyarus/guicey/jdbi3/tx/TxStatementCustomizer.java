@@ -0,0 +1,43 @@
+package ru.vyarus.guicey.jdbi3.tx;
+
+import org.jdbi.v3.core.statement.StatementContext;
+import org.jdbi.v3.core.statement.StatementCustomizer;
+import ru.vyarus.guicey.jdbi3.unit.UnitManager;
+
+import javax.inject.Inject;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Applies query timeout, fetch size and max rows from current unit of work configuration
+ * ({@link TxConfig#getQueryTimeout()}, {@link TxConfig#getFetchSize()}, {@link TxConfig#getMaxRows()})
+ * to all executed statements.
+ * <p>
+ * Customizer is registered globally (and not on unit handle) because jdbi replaces handle configuration
+ * with repository method configuration during repository calls. Jdbi applies global customizers before
+ * statement-specific customizers, so annotations on repository methods override transaction settings.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class TxStatementCustomizer implements StatementCustomizer {
+
+    @Inject
+    private UnitManager manager;
+
+    @Override
+    public void beforeExecution(final PreparedStatement stmt, final StatementContext ctx) throws SQLException {
+        final TxConfig config = manager == null ? null : manager.getUnitConfig();
+        if (config != null && config.isStatementSettingsSet()) {
+            if (config.getQueryTimeout() > 0) {
+                stmt.setQueryTimeout(config.getQueryTimeout());
+            }
+            if (config.getFetchSize() > 0) {
+                stmt.setFetchSize(config.getFetchSize());
+            }
+            if (config.getMaxRows() > 0) {
+                stmt.setMaxRows(config.getMaxRows());
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package ru.vyarus.guicey.jdbi3.tx;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.guicey.jdbi3.unit.UnitManager;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Transaction callbacks registration: actions, called after transaction commit or rollback (e.g. cache eviction,
+ * notifications, search indexing). Callbacks are called by {@link TransactionTemplate} after unit of work end,
+ * when handle is already closed (so callbacks never hold database connection).
+ * <p>
+ * Synchronous callbacks are executed in transaction thread (after transaction method return). Asynchronous
+ * callbacks are submitted to {@link TxCallbackExecutor}, so transaction thread is not blocked at all
+ * (asynchronous callbacks errors are only logged).
+ * <p>
+ * After commit callbacks errors are logged and not propagated (transaction is already committed).
+ * After rollback callbacks errors are added as suppressed to the transaction exception.
+ * <p>
+ * Callbacks could be registered only inside unit of work. For manually started unit (without transaction)
+ * after commit callback is called immediately and after rollback callback is ignored.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@Singleton
+public class TxSynchronization {
+
+    private final Logger logger = LoggerFactory.getLogger(TxSynchronization.class);
+
+    private final UnitManager manager;
+    private final TxCallbackExecutor executor;
+
+    @Inject
+    public TxSynchronization(final UnitManager manager, final TxCallbackExecutor executor) {
+        this.manager = manager;
+        this.executor = executor;
+    }
+
+    /**
+     * Register action to run after current transaction commit (in transaction thread).
+     *
+     * @param action action to run after commit
+     * @throws IllegalStateException if unit of work not started
+     * @see UnitManager#afterCommit(Runnable)
+     */
+    public void afterCommit(final Runnable action) {
+        manager.afterCommit(action);
+    }
+
+    /**
+     * Register action to run after current transaction rollback (in transaction thread).
+     *
+     * @param action action to run after rollback
+     * @throws IllegalStateException if unit of work not started
+     * @see UnitManager#afterRollback(Runnable)
+     */
+    public void afterRollback(final Runnable action) {
+        manager.afterRollback(action);
+    }
+
+    /**
+     * Register action to run asynchronously after current transaction commit.
+     *
+     * @param action action to run after commit
+     * @throws IllegalStateException if unit of work not started
+     */
+    public void afterCommitAsync(final Runnable action) {
+        manager.afterCommit(async(action));
+    }
+
+    /**
+     * Register action to run asynchronously after current transaction rollback.
+     *
+     * @param action action to run after rollback
+     * @throws IllegalStateException if unit of work not started
+     */
+    public void afterRollbackAsync(final Runnable action) {
+        manager.afterRollback(async(action));
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private Runnable async(final Runnable action) {
+        return () -> executor.execute(() -> {
+            try {
+                action.run();
+            } catch (RuntimeException ex) {
+                logger.error("Asynchronous transaction callback failed", ex);
+            }
+        });
+    }
+}
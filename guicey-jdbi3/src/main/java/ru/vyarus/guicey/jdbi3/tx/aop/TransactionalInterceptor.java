@@ -1,13 +1,21 @@
 package ru.vyarus.guicey.jdbi3.tx.aop;
 
+import com.codahale.metrics.Timer;
+import com.google.common.base.Preconditions;
 import com.google.common.base.Throwables;
 import com.google.inject.Injector;
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
+import ru.vyarus.guicey.jdbi3.dbi.shard.ShardKey;
+import ru.vyarus.guicey.jdbi3.metrics.JdbiMetrics;
+import ru.vyarus.guicey.jdbi3.metrics.TxMetrics;
 import ru.vyarus.guicey.jdbi3.tx.TransactionTemplate;
 import ru.vyarus.guicey.jdbi3.tx.TxConfig;
 import ru.vyarus.guicey.jdbi3.tx.aop.config.TxConfigFactory;
 import ru.vyarus.guicey.jdbi3.tx.aop.config.TxConfigSupport;
+import ru.vyarus.guicey.jdbi3.tx.bulkhead.Bulkhead;
+import ru.vyarus.guicey.jdbi3.tx.bulkhead.Bulkheads;
+import ru.vyarus.guicey.jdbi3.unit.UnitManager;
 
 import javax.inject.Inject;
 import java.lang.annotation.Annotation;
@@ -17,45 +25,173 @@ import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Intercept transaction annotations usage and applies {@link TransactionTemplate} around method call.
- * Transaction config could be obtained from annotation, if it supports it.
+ * Transaction config could be obtained from annotation, if it supports it. Lazy transactions
+ * ({@link TxConfig#isLazy()}) are started with {@link TransactionTemplate#inLazyTransaction(TxConfig,
+ * java.util.concurrent.Callable)}.
+ * <p>
+ * Methods returning {@link CompletionStage} (or {@link CompletableFuture}) are executed asynchronously
+ * (with {@link TransactionTemplate#inTransactionAsync(TxConfig, ru.vyarus.guicey.jdbi3.tx.TxAction)}) when called
+ * outside of unit of work. Stage, returned by method, is awaited inside transaction (so method should return
+ * already completed stage, like {@code CompletableFuture.completedFuture(result)}). When called inside unit
+ * of work such methods are executed synchronously in current transaction (as any other nested transactional
+ * method).
+ * <p>
+ * When metrics enabled ({@link JdbiMetrics}), method execution time, commits, rollbacks and nested calls
+ * are measured.
+ * <p>
+ * When bulkheads configured ({@link Bulkheads}), transaction, starting unit of work, must obtain bulkhead permit
+ * first (permit is released after transaction end; for asynchronous methods after returned future completion).
+ * <p>
+ * Shard key could be declared with {@link ShardKey} method parameter annotation: in this case config is copied
+ * for each call in order to set parameter value as {@link TxConfig#getShardKey()}.
+ * <p>
+ * Config (together with bulkhead and metrics) is resolved once for each intercepted method and cached by method:
+ * calls after the first one perform only a lock-free map lookup (no allocations, except methods with shard key
+ * parameter).
  *
  * @author Vyacheslav Rusakov
  * @since 31.08.2018
  */
 public class TransactionalInterceptor implements MethodInterceptor {
 
-    private static final ReentrantLock LOCK = new ReentrantLock();
-
     private final Map<Class<? extends Annotation>, Class<? extends TxConfigFactory>> txConfigFactories
             = new HashMap<>();
     // cache used to avoid annotations introspection on each call
-    private final Map<String, TxConfig> methodCache = new HashMap<>();
+    // (method object used as key directly: guice always passes the same (declared) method instance for
+    // intercepted method, and method equality does not require additional allocations)
+    private final Map<Method, TxMethod> methodCache = new ConcurrentHashMap<>();
 
     @Inject
     private TransactionTemplate template;
     @Inject
     private Injector injector;
+    @Inject
+    private UnitManager manager;
+    @Inject
+    private JdbiMetrics metrics;
+    @Inject
+    private Bulkheads bulkheads;
 
     public TransactionalInterceptor(final List<Class<? extends Annotation>> txAnnotations) {
         findConfigurableAnnotations(txAnnotations);
     }
 
     @Override
-    @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
     public Object invoke(final MethodInvocation invocation) throws Throwable {
-        final TxConfig config = checkTxConfig(invocation.getMethod());
-        return template.inTransaction(config, handle -> {
-            try {
-                return invocation.proceed();
-            } catch (Throwable throwable) {
-                Throwables.throwIfUnchecked(throwable);
-                throw new RuntimeException(throwable);
-            }
-        });
+        final TxMethod desc = checkTxConfig(invocation.getMethod());
+        final TxConfig config = desc.shardKeyParam < 0 ? desc.config
+                // config is shared between calls so it can't be modified
+                : desc.config.copy().shardKey(invocation.getArguments()[desc.shardKeyParam]);
+        final boolean nested = manager.isUnitStarted();
+        final Bulkhead bulkhead = nested ? null : desc.bulkhead;
+        if (bulkhead == null) {
+            return desc.metrics != null
+                    ? measure(desc.metrics, config, nested, invocation)
+                    : execute(config, nested, invocation);
+        }
+        bulkhead.acquire();
+        final Object res;
+        try {
+            res = desc.metrics != null
+                    ? measure(desc.metrics, config, false, invocation)
+                    : execute(config, false, invocation);
+        } catch (Throwable th) {
+            bulkhead.release();
+            throw th;
+        }
+        if (isAsync(invocation.getMethod())) {
+            // transaction is not finished yet
+            ((CompletableFuture<?>) res).whenComplete((val, err) -> bulkhead.release());
+        } else {
+            bulkhead.release();
+        }
+        return res;
+    }
+
+    private Object execute(final TxConfig config,
+                           final boolean nested,
+                           final MethodInvocation invocation) {
+        if (!nested && isAsync(invocation.getMethod())) {
+            return config.isLazy()
+                    ? template.inLazyTransactionAsync(config, () -> await(proceed(invocation, true)))
+                    : template.inTransactionAsync(config, handle -> await(proceed(invocation, true)));
+        }
+        return config.isLazy()
+                // handle would be opened only when required
+                ? template.inLazyTransaction(config, () -> proceed(invocation, !nested))
+                : template.inTransaction(config, handle -> proceed(invocation, !nested));
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingThrowable")
+    private Object measure(final TxMetrics tx,
+                           final TxConfig config,
+                           final boolean nested,
+                           final MethodInvocation invocation) {
+        final Timer.Context timer = tx.getTimer().time();
+        final Object res;
+        try {
+            res = execute(config, nested, invocation);
+        } catch (Throwable th) {
+            timer.stop();
+            (nested ? tx.getNested() : tx.getRollbacks()).mark();
+            throw th;
+        }
+        if (nested) {
+            timer.stop();
+            tx.getNested().mark();
+        } else if (isAsync(invocation.getMethod())) {
+            // transaction is not finished yet
+            ((CompletableFuture<?>) res).whenComplete((val, err) -> {
+                timer.stop();
+                (err == null ? tx.getCommits() : tx.getRollbacks()).mark();
+            });
+        } else {
+            timer.stop();
+            tx.getCommits().mark();
+        }
+        return res;
+    }
+
+    @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
+    private Object proceed(final MethodInvocation invocation, final boolean owner) {
+        if (owner) {
+            manager.setUnitOwner(invocation.getMethod());
+        }
+        try {
+            return invocation.proceed();
+        } catch (Throwable throwable) {
+            Throwables.throwIfUnchecked(throwable);
+            throw new RuntimeException(throwable);
+        }
+    }
+
+    private boolean isAsync(final Method method) {
+        final Class<?> type = method.getReturnType();
+        return type == CompletionStage.class || type == CompletableFuture.class;
+    }
+
+    @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
+    private Object await(final Object stage) {
+        if (stage == null) {
+            return null;
+        }
+        try {
+            // wait for result inside transaction
+            return ((CompletionStage<?>) stage).toCompletableFuture().join();
+        } catch (CompletionException ex) {
+            // propagate original exception to rollback transaction with it
+            final Throwable cause = ex.getCause() == null ? ex : ex.getCause();
+            Throwables.throwIfUnchecked(cause);
+            throw new RuntimeException(cause);
+        }
     }
 
     private void findConfigurableAnnotations(final List<Class<? extends Annotation>> txAnnotations) {
@@ -66,21 +202,17 @@ public class TransactionalInterceptor implements MethodInterceptor {
         }
     }
 
-    private TxConfig checkTxConfig(final Method method) {
-        final String methodIdentity = (method.getDeclaringClass().getName() + " " + method.toString()).intern();
-        TxConfig cfg = methodCache.get(methodIdentity);
+    private TxMethod checkTxConfig(final Method method) {
+        TxMethod cfg = methodCache.get(method);
         if (cfg == null) {
-            LOCK.lock();
-            try {
-                if (methodCache.get(methodIdentity) != null) {
-                    // cfg could be stored while waiting for lock
-                    cfg = methodCache.get(methodIdentity);
-                } else {
-                    cfg = buildConfig(method);
-                    methodCache.put(methodIdentity, cfg);
-                }
-            } finally {
-                LOCK.unlock();
+            // config resolution is idempotent, so it's not a problem if it would be resolved concurrently
+            // (computeIfAbsent is not used because factory is obtained from injector inside resolution)
+            final TxConfig config = buildConfig(method);
+            cfg = new TxMethod(config, findShardKeyParam(method), bulkheads.select(config.getBulkhead()),
+                    metrics.isEnabled() ? metrics.transaction(method) : null);
+            final TxMethod prev = methodCache.putIfAbsent(method, cfg);
+            if (prev != null) {
+                cfg = prev;
             }
         }
         return cfg;
@@ -107,6 +239,21 @@ public class TransactionalInterceptor implements MethodInterceptor {
         return res == null ? new TxConfig() : res;
     }
 
+    private int findShardKeyParam(final Method method) {
+        int res = -1;
+        final Annotation[][] params = method.getParameterAnnotations();
+        for (int i = 0; i < params.length; i++) {
+            for (Annotation ann : params[i]) {
+                if (ann.annotationType() == ShardKey.class) {
+                    Preconditions.checkState(res < 0, "Only one @%s parameter allowed in method %s",
+                            ShardKey.class.getSimpleName(), method);
+                    res = i;
+                }
+            }
+        }
+        return res;
+    }
+
     private Annotation findAnnotation(final AnnotatedElement obj,
                                       final Collection<Class<? extends Annotation>> anns) {
         for (Class<? extends Annotation> ann : anns) {
@@ -116,4 +263,24 @@ public class TransactionalInterceptor implements MethodInterceptor {
         }
         return null;
     }
+
+    /**
+     * Cached transactional method descriptor.
+     */
+    private static class TxMethod {
+        private final TxConfig config;
+        // -1 when no shard key parameter
+        private final int shardKeyParam;
+        // null when no bulkhead
+        private final Bulkhead bulkhead;
+        // null when metrics disabled
+        private final TxMetrics metrics;
+
+        TxMethod(final TxConfig config, final int shardKeyParam, final Bulkhead bulkhead, final TxMetrics metrics) {
+            this.config = config;
+            this.shardKeyParam = shardKeyParam;
+            this.bulkhead = bulkhead;
+            this.metrics = metrics;
+        }
+    }
 }
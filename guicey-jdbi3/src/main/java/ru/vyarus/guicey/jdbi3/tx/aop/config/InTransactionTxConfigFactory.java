@@ -1,9 +1,11 @@
 package ru.vyarus.guicey.jdbi3.tx.aop.config;
 
 import ru.vyarus.guicey.jdbi3.tx.InTransaction;
+import ru.vyarus.guicey.jdbi3.tx.RetryPolicy;
 import ru.vyarus.guicey.jdbi3.tx.TxConfig;
 
 import javax.inject.Singleton;
+import java.time.Duration;
 
 /**
  * Transactional config support for default {@link InTransaction} annotation.
@@ -14,10 +16,22 @@ import javax.inject.Singleton;
 @Singleton
 public class InTransactionTxConfigFactory implements TxConfigFactory<InTransaction> {
 
+    private static final long MAX_BACKOFF = 1000;
+
     @Override
     public TxConfig build(final InTransaction annotation) {
         return new TxConfig()
                 .level(annotation.value())
-                .readOnly(annotation.readOnly());
+                .readOnly(annotation.readOnly())
+                .lazy(annotation.lazy())
+                .queryTimeout(annotation.queryTimeout())
+                .fetchSize(annotation.fetchSize())
+                .maxRows(annotation.maxRows())
+                .bulkhead(annotation.bulkhead())
+                .retry(annotation.retryAttempts() > 1 ? new RetryPolicy()
+                        .attempts(annotation.retryAttempts())
+                        .backoff(Duration.ofMillis(annotation.retryBackoff()),
+                                Duration.ofMillis(Math.max(annotation.retryBackoff(), MAX_BACKOFF)))
+                        .states(annotation.retryStates()) : null);
     }
 }
@@ -0,0 +1,105 @@
+package ru.vyarus.guicey.jdbi3.tx.bulkhead;
+
+import com.google.common.base.Preconditions;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Transactions concurrency limit for a group of transactional methods. Transaction, started unit of work, must
+ * obtain permit first: when all permits are taken, caller either fails immediately (zero wait) or waits for permit
+ * (bounded by wait time) and fails with {@link BulkheadFullException} if permit was not obtained.
+ * <p>
+ * Waiting callers are served in arrival order.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class Bulkhead {
+
+    private final String name;
+    private final int maxConcurrent;
+    private final long maxWaitNanos;
+    private final Semaphore permits;
+    private final AtomicLong rejected = new AtomicLong();
+
+    /**
+     * @param name          bulkhead name
+     * @param maxConcurrent max concurrent transactions
+     * @param maxWait       max time to wait for permit (zero for fail fast)
+     */
+    public Bulkhead(final String name, final int maxConcurrent, final Duration maxWait) {
+        Preconditions.checkArgument(maxConcurrent > 0, "Bulkhead %s concurrency must be positive", name);
+        Preconditions.checkArgument(!maxWait.isNegative(), "Bulkhead %s wait time can't be negative", name);
+        this.name = name;
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaitNanos = maxWait.toNanos();
+        this.permits = new Semaphore(maxConcurrent, true);
+    }
+
+    /**
+     * @return bulkhead name
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * @return max concurrent transactions
+     */
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    /**
+     * @return currently executing transactions
+     */
+    public int getActive() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    /**
+     * @return approximate count of callers waiting for permit
+     */
+    public int getWaiting() {
+        return permits.getQueueLength();
+    }
+
+    /**
+     * @return count of rejected transactions
+     */
+    public long getRejected() {
+        return rejected.get();
+    }
+
+    /**
+     * Obtains permit (waiting for it, if configured).
+     *
+     * @throws BulkheadFullException if permit can't be obtained
+     */
+    public void acquire() {
+        boolean acquired;
+        try {
+            acquired = maxWaitNanos == 0
+                    ? permits.tryAcquire()
+                    : permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            rejected.incrementAndGet();
+            throw new BulkheadFullException(name, "Bulkhead '" + name + "' is full: " + maxConcurrent
+                    + " concurrent transactions allowed");
+        }
+    }
+
+    /**
+     * Returns permit, obtained with {@link #acquire()}.
+     */
+    public void release() {
+        permits.release();
+    }
+}
@@ -0,0 +1,26 @@
+package ru.vyarus.guicey.jdbi3.tx.bulkhead;
+
+/**
+ * Thrown when transaction can't be started because bulkhead concurrency limit is reached (and permit was
+ * not obtained during configured wait time). Indicates server overload, so it is usually mapped to
+ * 503 (Service Unavailable) response.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class BulkheadFullException extends RuntimeException {
+
+    private final String bulkhead;
+
+    public BulkheadFullException(final String bulkhead, final String message) {
+        super(message);
+        this.bulkhead = bulkhead;
+    }
+
+    /**
+     * @return name of saturated bulkhead
+     */
+    public String getBulkhead() {
+        return bulkhead;
+    }
+}
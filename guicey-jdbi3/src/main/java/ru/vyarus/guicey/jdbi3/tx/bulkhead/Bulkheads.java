@@ -0,0 +1,88 @@
+package ru.vyarus.guicey.jdbi3.tx.bulkhead;
+
+import com.codahale.metrics.Gauge;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableMap;
+import ru.vyarus.guicey.jdbi3.metrics.JdbiMetrics;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Configured transaction bulkheads. Transactional method declares bulkhead with
+ * {@link ru.vyarus.guicey.jdbi3.tx.InTransaction#bulkhead()} (or {@link ru.vyarus.guicey.jdbi3.tx.TxConfig#bulkhead(
+ * String)}); methods without declaration use {@link #DEFAULT} bulkhead (if configured). Separate bulkheads for
+ * critical and low priority methods prevent low priority methods from taking all pool connections.
+ * <p>
+ * When metrics enabled, active and waiting transactions gauges and rejections gauge are registered for each
+ * bulkhead. Available for injection.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class Bulkheads {
+
+    /**
+     * Bulkhead used for transactions without declared bulkhead.
+     */
+    public static final String DEFAULT = "default";
+
+    private final Map<String, Bulkhead> bulkheads;
+
+    public Bulkheads(final Collection<Bulkhead> bulkheads, final JdbiMetrics metrics) {
+        final ImmutableMap.Builder<String, Bulkhead> res = ImmutableMap.builder();
+        for (Bulkhead bulkhead : bulkheads) {
+            res.put(bulkhead.getName(), bulkhead);
+            if (metrics.isEnabled()) {
+                register(bulkhead, metrics);
+            }
+        }
+        this.bulkheads = res.build();
+    }
+
+    /**
+     * @return true if bulkheads configured
+     */
+    public boolean isEnabled() {
+        return !bulkheads.isEmpty();
+    }
+
+    /**
+     * @return all configured bulkheads
+     */
+    public Collection<Bulkhead> getBulkheads() {
+        return bulkheads.values();
+    }
+
+    /**
+     * @param name bulkhead name (null or empty for default bulkhead)
+     * @return bulkhead or null if default bulkhead requested, but not configured
+     * @throws IllegalStateException if requested bulkhead is not configured
+     */
+    public Bulkhead select(final String name) {
+        if (Strings.isNullOrEmpty(name)) {
+            return bulkheads.get(DEFAULT);
+        }
+        final Bulkhead res = bulkheads.get(name);
+        Preconditions.checkState(res != null, "Bulkhead '%s' is not configured", name);
+        return res;
+    }
+
+    /**
+     * @return empty bulkheads configuration (no limits)
+     */
+    public static Bulkheads none() {
+        return new Bulkheads(Collections.emptyList(), JdbiMetrics.disabled());
+    }
+
+    private void register(final Bulkhead bulkhead, final JdbiMetrics metrics) {
+        metrics.getRegistry().register(metrics.bulkheadMetric(bulkhead.getName(), "active"),
+                (Gauge<Integer>) bulkhead::getActive);
+        metrics.getRegistry().register(metrics.bulkheadMetric(bulkhead.getName(), "waiting"),
+                (Gauge<Integer>) bulkhead::getWaiting);
+        metrics.getRegistry().register(metrics.bulkheadMetric(bulkhead.getName(), "rejected"),
+                (Gauge<Long>) bulkhead::getRejected);
+    }
+}
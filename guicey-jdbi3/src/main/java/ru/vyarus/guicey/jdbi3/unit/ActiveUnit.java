@@ -0,0 +1,113 @@
+package ru.vyarus.guicey.jdbi3.unit;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Active unit of work info, tracked by {@link UnitWatchdog}. When suspended unit is resumed
+ * ({@link UnitContext#resume()}), unit thread and start time are updated (resuming thread becomes unit owner).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public final class ActiveUnit {
+
+    private final Unit unit;
+    private final StackTraceElement[] stack;
+    private volatile Thread thread;
+    private volatile Instant started;
+    private volatile long startedNanos;
+    private volatile boolean reported;
+
+    ActiveUnit(final Unit unit, final Thread thread, final StackTraceElement[] stack) {
+        this.unit = unit;
+        this.thread = thread;
+        this.started = Instant.now();
+        this.startedNanos = System.nanoTime();
+        this.stack = stack;
+    }
+
+    /**
+     * @return thread started (or resumed) unit
+     */
+    public Thread getThread() {
+        return thread;
+    }
+
+    /**
+     * @return unit start (or resume) time
+     */
+    public Instant getStarted() {
+        return started;
+    }
+
+    /**
+     * @return time since unit start (or resume)
+     */
+    public Duration getDuration() {
+        return Duration.ofNanos(System.nanoTime() - startedNanos);
+    }
+
+    /**
+     * @return true if unit handle opened (connection is in use)
+     */
+    public boolean isHandleOpened() {
+        return unit.isOpened();
+    }
+
+    /**
+     * @return transactional method started unit or null
+     */
+    public Method getOwner() {
+        return unit.getOwner();
+    }
+
+    /**
+     * @return unit start stack trace or null if stack capturing disabled
+     */
+    public StackTraceElement[] getStack() {
+        return stack;
+    }
+
+    /**
+     * @return unit state
+     */
+    Unit getUnit() {
+        return unit;
+    }
+
+    /**
+     * @return true if unit was already reported as exceeding budget
+     */
+    boolean isReported() {
+        return reported;
+    }
+
+    /**
+     * Mark unit as reported.
+     */
+    void reported() {
+        this.reported = true;
+    }
+
+    /**
+     * Suspended unit resumed in current thread.
+     */
+    void resumed() {
+        this.started = Instant.now();
+        this.startedNanos = System.nanoTime();
+        this.thread = Thread.currentThread();
+        this.reported = false;
+    }
+
+    @Override
+    public String toString() {
+        final Method owner = getOwner();
+        final Thread thread = this.thread;
+        return "Unit of work started " + getDuration().toMillis() + " ms ago in thread '" + thread.getName()
+                + (thread.isAlive() ? "'" : "' (dead)")
+                + (owner != null ? " by " + owner.getDeclaringClass().getName() + "." + owner.getName() : "")
+                + (isHandleOpened() ? "" : " (handle not opened)");
+    }
+}
@@ -0,0 +1,108 @@
+package ru.vyarus.guicey.jdbi3.unit;
+
+import com.codahale.metrics.Meter;
+import com.google.common.base.Preconditions;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.guicey.jdbi3.metrics.JdbiMetrics;
+
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * N+1 queries detector (diagnostic mode): counts executions of each sql template inside unit of work and,
+ * at unit end, reports statements executed more times than configured threshold (usually, a query performed
+ * in loop instead of one bulk query). Report contains transactional method, started unit, and repository method,
+ * executed statement.
+ * <p>
+ * Detected statements are logged (warning) and the latest detections are kept in memory ({@link #getDetected()}).
+ * When metrics enabled, detections meter is registered ({@code units.nplusone}).
+ * <p>
+ * Statements are counted by {@link QueryCountingLogger}. Detector is not active by default (statements are not
+ * counted).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class NPlusOneDetector {
+
+    private static final int KEEP_DETECTED = 100;
+
+    private final Logger logger = LoggerFactory.getLogger(NPlusOneDetector.class);
+
+    private final int threshold;
+    private final Deque<RepeatedQuery> detected = new ArrayDeque<>();
+    // null when metrics disabled
+    private final Meter meter;
+
+    public NPlusOneDetector(final int threshold, final JdbiMetrics metrics) {
+        Preconditions.checkArgument(threshold > 1, "Threshold must be greater than 1");
+        this.threshold = threshold;
+        this.meter = metrics.isEnabled() ? metrics.getRegistry().meter(metrics.unitsMetric("nplusone")) : null;
+    }
+
+    /**
+     * @return max allowed executions count of the same statement in unit
+     */
+    public int getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * @return the latest detected statements (latest first)
+     */
+    public synchronized List<RepeatedQuery> getDetected() {
+        return new ArrayList<>(detected);
+    }
+
+    /**
+     * Clear detected statements.
+     */
+    public synchronized void clear() {
+        detected.clear();
+    }
+
+    /**
+     * @param unit       current unit
+     * @param sql        executed statement template
+     * @param repository repository method (may be null)
+     */
+    void count(final Unit unit, final String sql, final Method repository) {
+        unit.getQueries().count(sql, repository);
+    }
+
+    /**
+     * Checks finished unit statements.
+     *
+     * @param unit finished unit
+     */
+    void finish(final Unit unit) {
+        if (!unit.hasQueries()) {
+            return;
+        }
+        for (Map.Entry<String, UnitQueries.Counter> entry : unit.getQueries().getCounts().entrySet()) {
+            final UnitQueries.Counter counter = entry.getValue();
+            if (counter.getCount() > threshold) {
+                report(new RepeatedQuery(entry.getKey(), counter.getCount(), counter.getRepository(),
+                        unit.getOwner()));
+            }
+        }
+    }
+
+    private void report(final RepeatedQuery query) {
+        logger.warn("N+1 query detected: statement executed {}", query);
+        if (meter != null) {
+            meter.mark();
+        }
+        synchronized (this) {
+            detected.addFirst(query);
+            if (detected.size() > KEEP_DETECTED) {
+                detected.removeLast();
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package ru.vyarus.guicey.jdbi3.unit;
+
+import org.jdbi.v3.core.extension.ExtensionMethod;
+import org.jdbi.v3.core.statement.SqlLogger;
+import org.jdbi.v3.core.statement.StatementContext;
+
+import javax.inject.Inject;
+import java.sql.SQLException;
+
+/**
+ * Jdbi sql logger, counting statements executions in current unit of work for {@link NPlusOneDetector}.
+ * Wraps previously configured logger (if any).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class QueryCountingLogger implements SqlLogger {
+
+    private final SqlLogger delegate;
+
+    @Inject
+    private UnitManager manager;
+
+    public QueryCountingLogger(final SqlLogger delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void logBeforeExecution(final StatementContext context) {
+        delegate.logBeforeExecution(context);
+        final ExtensionMethod repository = context.getExtensionMethod();
+        manager.countQuery(context.getRawSql(), repository != null ? repository.getMethod() : null);
+    }
+
+    @Override
+    public void logAfterExecution(final StatementContext context) {
+        delegate.logAfterExecution(context);
+    }
+
+    @Override
+    public void logException(final StatementContext context, final SQLException ex) {
+        delegate.logException(context, ex);
+    }
+}
@@ -0,0 +1,65 @@
+package ru.vyarus.guicey.jdbi3.unit;
+
+import java.lang.reflect.Method;
+
+/**
+ * Statement, executed too many times inside one unit of work (detected by {@link NPlusOneDetector}).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public final class RepeatedQuery {
+
+    private final String sql;
+    private final int count;
+    private final Method repositoryMethod;
+    private final Method transactionMethod;
+
+    public RepeatedQuery(final String sql,
+                         final int count,
+                         final Method repositoryMethod,
+                         final Method transactionMethod) {
+        this.sql = sql;
+        this.count = count;
+        this.repositoryMethod = repositoryMethod;
+        this.transactionMethod = transactionMethod;
+    }
+
+    /**
+     * @return sql template
+     */
+    public String getSql() {
+        return sql;
+    }
+
+    /**
+     * @return executions count in unit
+     */
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * @return repository method, executed statement, or null if statement executed directly with handle
+     */
+    public Method getRepositoryMethod() {
+        return repositoryMethod;
+    }
+
+    /**
+     * @return transactional method, started unit, or null for manual unit
+     */
+    public Method getTransactionMethod() {
+        return transactionMethod;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s times in %s (repository %s): %s", count, name(transactionMethod),
+                name(repositoryMethod), sql);
+    }
+
+    private static String name(final Method method) {
+        return method == null ? "-" : method.getDeclaringClass().getSimpleName() + "." + method.getName();
+    }
+}
@@ -0,0 +1,27 @@
+package ru.vyarus.guicey.jdbi3.unit;
+
+/**
+ * Default unit storage, based on {@link ThreadLocal}.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class ThreadLocalUnitStorage implements UnitStorage {
+
+    private final ThreadLocal<Object> unit = new ThreadLocal<>();
+
+    @Override
+    public Object get() {
+        return unit.get();
+    }
+
+    @Override
+    public void set(final Object state) {
+        unit.set(state);
+    }
+
+    @Override
+    public void remove() {
+        unit.remove();
+    }
+}
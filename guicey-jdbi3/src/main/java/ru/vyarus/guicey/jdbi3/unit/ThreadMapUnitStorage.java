@@ -0,0 +1,36 @@
+package ru.vyarus.guicey.jdbi3.unit;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Unit storage, based on concurrent map with thread keys. Unlike {@link ThreadLocal}, nothing is stored inside
+ * thread object: map contains only threads with active units (entry is removed at unit end). Suitable for
+ * applications running millions of (virtual) threads, when thread locals become expensive.
+ * <p>
+ * Must be enabled explicitly ({@link ru.vyarus.guicey.jdbi3.JdbiBundle#withUnitStorage(UnitStorage)}): storage is
+ * accessed on each repository call and global map lookup (thread hash calculation and shared map access from
+ * all threads) is slower than thread local access, so {@link ThreadLocalUnitStorage} remains the default.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class ThreadMapUnitStorage implements UnitStorage {
+
+    private final Map<Thread, Object> units = new ConcurrentHashMap<>();
+
+    @Override
+    public Object get() {
+        return units.get(Thread.currentThread());
+    }
+
+    @Override
+    public void set(final Object state) {
+        units.put(Thread.currentThread(), state);
+    }
+
+    @Override
+    public void remove() {
+        units.remove(Thread.currentThread());
+    }
+}
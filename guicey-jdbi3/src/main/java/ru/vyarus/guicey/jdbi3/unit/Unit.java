@@ -0,0 +1,207 @@
+package ru.vyarus.guicey.jdbi3.unit;
+
+import org.jdbi.v3.core.Handle;
+import org.jdbi.v3.core.Jdbi;
+import ru.vyarus.guicey.jdbi3.dbi.replica.Replica;
+import ru.vyarus.guicey.jdbi3.tx.TxConfig;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Unit of work state. Handle may be opened immediately (usual unit) or on first access (lazy unit).
+ * <p>
+ * Unit is usually used by one thread, but could be shared with other threads (see {@link UnitContext}).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+final class Unit {
+
+    private final TxConfig config;
+    private final Consumer<Handle> initializer;
+    private volatile Handle handle;
+    private volatile boolean closed;
+    // handle opening time (nanos)
+    private long openedAt;
+    // transactional method started unit (if any)
+    private volatile Method owner;
+    // replica used for handle (null for primary database)
+    private Replica replica;
+    // created on first access
+    private UnitCache cache;
+    // created on first access (only when n+1 detector enabled)
+    private UnitQueries queries;
+    // set used to avoid duplicate registrations of the same action
+    private Set<Runnable> afterCommit;
+    private Set<Runnable> afterRollback;
+
+    Unit(final TxConfig config, final Consumer<Handle> initializer) {
+        this.config = config;
+        this.initializer = initializer;
+    }
+
+    /**
+     * @return unit configuration or null for manually started unit
+     */
+    TxConfig getConfig() {
+        return config;
+    }
+
+    /**
+     * @return transactional method, started unit, or null
+     */
+    Method getOwner() {
+        return owner;
+    }
+
+    /**
+     * @param owner transactional method, started unit
+     */
+    void setOwner(final Method owner) {
+        this.owner = owner;
+    }
+
+    /**
+     * @return true if handle was already opened
+     */
+    boolean isOpened() {
+        return handle != null;
+    }
+
+    /**
+     * @return opened handle or null
+     */
+    Handle getHandle() {
+        return handle;
+    }
+
+    /**
+     * @return unit cache (created on first call)
+     */
+    synchronized UnitCache getCache() {
+        if (cache == null) {
+            cache = new UnitCache();
+        }
+        return cache;
+    }
+
+    /**
+     * @return unit statements counts (created on first call)
+     */
+    synchronized UnitQueries getQueries() {
+        if (queries == null) {
+            queries = new UnitQueries();
+        }
+        return queries;
+    }
+
+    /**
+     * @return true if statements were counted in unit
+     */
+    synchronized boolean hasQueries() {
+        return queries != null;
+    }
+
+    /**
+     * Clears unit cache (if it was used).
+     */
+    void invalidateCache() {
+        if (cache != null) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * @param action action to run after transaction commit
+     */
+    synchronized void afterCommit(final Runnable action) {
+        if (afterCommit == null) {
+            afterCommit = new LinkedHashSet<>();
+        }
+        afterCommit.add(action);
+    }
+
+    /**
+     * @return actions to run after transaction commit
+     */
+    synchronized Collection<Runnable> getAfterCommit() {
+        return afterCommit == null ? Collections.emptyList() : afterCommit;
+    }
+
+    /**
+     * @param action action to run after transaction rollback
+     */
+    synchronized void afterRollback(final Runnable action) {
+        if (afterRollback == null) {
+            afterRollback = new LinkedHashSet<>();
+        }
+        afterRollback.add(action);
+    }
+
+    /**
+     * @return actions to run after transaction rollback
+     */
+    synchronized Collection<Runnable> getAfterRollback() {
+        return afterRollback == null ? Collections.emptyList() : afterRollback;
+    }
+
+    /**
+     * @return handle opening time ({@link System#nanoTime()}) or 0 if handle not opened
+     */
+    long getOpenedAt() {
+        return openedAt;
+    }
+
+    /**
+     * @return true if unit was already finished
+     */
+    boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Opens handle either on database (primary or shard) or on replica (if replica provided).
+     *
+     * @param jdbi    database
+     * @param replica replica to use (may be null)
+     * @return unit handle
+     */
+    Handle open(final Jdbi jdbi, final Replica replica) {
+        final Handle res = replica == null ? jdbi.open() : replica.open();
+        if (initializer != null) {
+            try {
+                initializer.accept(res);
+            } catch (RuntimeException ex) {
+                release(res, replica);
+                throw ex;
+            }
+        }
+        this.openedAt = System.nanoTime();
+        this.replica = replica;
+        this.handle = res;
+        return res;
+    }
+
+    /**
+     * Close handle (if it was opened).
+     */
+    void close() {
+        closed = true;
+        if (handle != null) {
+            release(handle, replica);
+        }
+    }
+
+    private void release(final Handle opened, final Replica source) {
+        if (source == null) {
+            opened.close();
+        } else {
+            source.release(opened);
+        }
+    }
+}
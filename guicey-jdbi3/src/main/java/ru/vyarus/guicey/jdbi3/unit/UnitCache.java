@@ -0,0 +1,100 @@
+package ru.vyarus.guicey.jdbi3.unit;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Unit of work scoped cache (first-level cache). Cache is bound to unit of work and so usually used by only one
+ * thread, but unit could be shared with other threads ({@link UnitContext}), so all methods are synchronized.
+ * Cache is dropped at unit end.
+ * <p>
+ * Null values are cached too, so use {@link #contains(Object)} to check value presence.
+ * <p>
+ * Also, tracks shared cache tags, modified in current unit (see {@link ru.vyarus.guicey.jdbi3.cache.Cached}).
+ *
+ * @author Vyacheslav Rusakov
+ * @see ru.vyarus.guicey.jdbi3.cache.UnitCached
+ * @since 18.10.2026
+ */
+public final class UnitCache {
+
+    private final Map<Object, Object> values = new HashMap<>();
+    private final Set<String> dirtyTags = new HashSet<>();
+
+    /**
+     * @param key cache key
+     * @return true if value cached (even null)
+     */
+    public synchronized boolean contains(final Object key) {
+        return values.containsKey(key);
+    }
+
+    /**
+     * @param key cache key
+     * @param <T> value type
+     * @return cached value or null
+     */
+    @SuppressWarnings("unchecked")
+    public synchronized <T> T get(final Object key) {
+        return (T) values.get(key);
+    }
+
+    /**
+     * @param key   cache key
+     * @param value value to cache (may be null)
+     */
+    public synchronized void put(final Object key, final Object value) {
+        values.put(key, value);
+    }
+
+    /**
+     * @return count of cached values
+     */
+    public synchronized int size() {
+        return values.size();
+    }
+
+    /**
+     * Remove all cached values.
+     */
+    public synchronized void clear() {
+        values.clear();
+    }
+
+    /**
+     * Mark shared cache tags as modified in current unit.
+     *
+     * @param tags modified tags
+     * @return true if no tags were marked before
+     */
+    public synchronized boolean markDirty(final Collection<String> tags) {
+        final boolean first = dirtyTags.isEmpty();
+        dirtyTags.addAll(tags);
+        return first;
+    }
+
+    /**
+     * @param tags shared cache tags
+     * @return true if any of provided tags was modified in current unit
+     */
+    public synchronized boolean isDirty(final Collection<String> tags) {
+        if (!dirtyTags.isEmpty()) {
+            for (String tag : tags) {
+                if (dirtyTags.contains(tag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return shared cache tags, modified in current unit
+     */
+    public synchronized Set<String> getDirtyTags() {
+        return new HashSet<>(dirtyTags);
+    }
+}
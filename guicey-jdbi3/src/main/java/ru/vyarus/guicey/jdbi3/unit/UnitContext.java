@@ -0,0 +1,118 @@
+package ru.vyarus.guicey.jdbi3.unit;
+
+import com.google.common.base.Preconditions;
+import com.google.common.base.Throwables;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+
+/**
+ * Captured unit of work (see {@link UnitManager#capture()}). Used to execute actions in other threads within
+ * captured unit: tasks share unit handle (and so participate in the same transaction) and unit cache.
+ * <p>
+ * Unit is bound to executing thread only for task execution time. Unit owner must wait for all tasks to
+ * complete before unit end: task, executed after unit end, fails with {@link IllegalStateException}.
+ * Note that jdbc connections are not intended for concurrent usage, so tasks should not use handle
+ * simultaneously (e.g. perform db calls sequentially or only prepare data in parallel).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public final class UnitContext {
+
+    private final UnitManager manager;
+    private final Unit unit;
+
+    UnitContext(final UnitManager manager, final Unit unit) {
+        this.manager = manager;
+        this.unit = unit;
+    }
+
+    /**
+     * @return true if captured unit is still active
+     */
+    public boolean isActive() {
+        return !unit.isClosed();
+    }
+
+    /**
+     * Execute action within captured unit in current thread.
+     *
+     * @param action action to execute
+     * @param <T>    result type
+     * @return action result
+     * @throws Exception action error
+     * @throws IllegalStateException if captured unit already finished or other unit active in current thread
+     */
+    public <T> T call(final Callable<T> action) throws Exception {
+        Preconditions.checkState(isActive(), "Captured unit of work is already finished");
+        final Object current = manager.getState();
+        if (current == unit) {
+            // same thread or already joined
+            return action.call();
+        }
+        Preconditions.checkState(current == null, "Other unit of work is active in current thread");
+        manager.attach(unit);
+        try {
+            return action.call();
+        } finally {
+            manager.detach();
+        }
+    }
+
+    /**
+     * Execute action within captured unit in current thread.
+     *
+     * @param action action to execute
+     * @throws IllegalStateException if captured unit already finished or other unit active in current thread
+     */
+    @SuppressWarnings("PMD.AvoidThrowingRawExceptionTypes")
+    public void run(final Runnable action) {
+        try {
+            call(() -> {
+                action.run();
+                return null;
+            });
+        } catch (Exception ex) {
+            Throwables.throwIfUnchecked(ex);
+            throw new RuntimeException(ex);
+        }
+    }
+
+    /**
+     * Binds captured unit to current thread permanently (until {@link UnitManager#endUnit()}). Used to resume
+     * unit, suspended with {@link UnitManager#suspend()}: unit must not be used in original thread after that.
+     *
+     * @throws IllegalStateException if captured unit already finished or other unit active in current thread
+     */
+    public void resume() {
+        Preconditions.checkState(isActive(), "Captured unit of work is already finished");
+        Preconditions.checkState(manager.getState() == null, "Other unit of work is active in current thread");
+        manager.resume(unit);
+    }
+
+    /**
+     * @param action action to wrap
+     * @return action, executed within captured unit
+     */
+    public Runnable wrap(final Runnable action) {
+        return () -> run(action);
+    }
+
+    /**
+     * @param action action to wrap
+     * @param <T>    result type
+     * @return action, executed within captured unit
+     */
+    public <T> Callable<T> wrap(final Callable<T> action) {
+        return () -> call(action);
+    }
+
+    /**
+     * @param executor executor to wrap
+     * @return executor, executing all tasks within captured unit
+     */
+    public Executor wrap(final Executor executor) {
+        return command -> executor.execute(wrap(command));
+    }
+}
@@ -1,15 +1,27 @@
 package ru.vyarus.guicey.jdbi3.unit;
 
+import com.codahale.metrics.Timer;
 import com.google.common.base.Preconditions;
 import org.jdbi.v3.core.Handle;
 import org.jdbi.v3.core.Jdbi;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import ru.vyarus.guicey.jdbi3.dbi.replica.Replicas;
+import ru.vyarus.guicey.jdbi3.dbi.shard.Shards;
+import ru.vyarus.guicey.jdbi3.metrics.JdbiMetrics;
 import ru.vyarus.guicey.jdbi3.tx.TransactionTemplate;
+import ru.vyarus.guicey.jdbi3.tx.TxConfig;
 
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Provider;
 import javax.inject.Singleton;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 
 /**
  * Manages JDBI {@link Handle} for current unit of work. This handle must be used by all JDBI proxies.
@@ -19,6 +31,26 @@ import javax.inject.Singleton;
  * <p>
  * Raw provider may be injected to obtain current handle: {@code @Inject Provider<Handle>}.
  * In all other cases transaction annotation must be used to wrap code into unit of work using guice aop.
+ * <p>
+ * Unit could be started lazily ({@link #beginLazyUnit(TxConfig, Consumer)}): in this case handle is opened
+ * only on first {@link #get()} call (directly or from repository). Lazy unit, which never accessed handle,
+ * does not consume connection at all.
+ * <p>
+ * When read replicas configured ({@link Replicas}), read only units ({@link TxConfig#isReadOnly()}) open handle
+ * on replica.
+ * <p>
+ * When sharding configured ({@link Shards}), units with shard key ({@link TxConfig#getShardKey()}) open handle
+ * on resolved shard (units without key use primary database).
+ * <p>
+ * Unit could be propagated to other threads with {@link #capture()} (or {@link #wrap(Executor)}). Unit storage
+ * is configurable ({@link UnitStorage}): by default, thread local is used.
+ * <p>
+ * When metrics enabled ({@link JdbiMetrics}), handle hold time (from handle opening to unit end) is measured.
+ * <p>
+ * When {@link UnitWatchdog} is configured, all active units are tracked to detect long running and leaked units.
+ * <p>
+ * When {@link NPlusOneDetector} is configured, statements executions are counted in each unit to detect
+ * N+1 queries.
  *
  * @author Vyacheslav Rusakov
  * @see TransactionTemplate for manual transaction definition
@@ -30,24 +62,293 @@ public class UnitManager implements Provider<Handle> {
     private final Logger logger = LoggerFactory.getLogger(UnitManager.class);
 
     private final Jdbi jdbi;
-    private final ThreadLocal<Handle> unit = new ThreadLocal<>();
+    private final Replicas replicas;
+    private final Shards shards;
+    private final UnitStorage storage;
+    // null when metrics disabled
+    private final Timer holdTimer;
+    // null when watchdog not configured
+    private UnitWatchdog watchdog;
+    // null when n+1 detector not configured
+    private NPlusOneDetector detector;
 
-    @Inject
     public UnitManager(final Jdbi jdbi) {
+        this(jdbi, Replicas.none(), Shards.none(), new ThreadLocalUnitStorage(), JdbiMetrics.disabled());
+    }
+
+    @Inject
+    public UnitManager(final Jdbi jdbi,
+                       final Replicas replicas,
+                       final Shards shards,
+                       final UnitStorage storage,
+                       final JdbiMetrics metrics) {
         this.jdbi = jdbi;
+        this.replicas = replicas;
+        this.shards = shards;
+        this.storage = storage;
+        this.holdTimer = metrics.isEnabled() ? metrics.handleHold() : null;
+    }
+
+    /**
+     * Watchdog is injected only when configured.
+     *
+     * @param watchdog units watchdog
+     */
+    @com.google.inject.Inject(optional = true)
+    public void setWatchdog(final UnitWatchdog watchdog) {
+        this.watchdog = watchdog;
     }
 
+    /**
+     * N+1 detector is injected only when configured.
+     *
+     * @param detector n+1 queries detector
+     */
+    @com.google.inject.Inject(optional = true)
+    public void setDetector(final NPlusOneDetector detector) {
+        this.detector = detector;
+    }
+
+    /**
+     * Returns current unit handle. For lazy unit, handle is opened on first call.
+     *
+     * @return current unit handle
+     * @throws IllegalStateException if unit of work not started
+     */
     @Override
     public Handle get() {
-        Preconditions.checkState(isUnitStarted(), "Unit of work not started yet");
-        return unit.get();
+        // single storage lookup: called for each repository call
+        final Unit current = current();
+        Preconditions.checkState(current != null, "Unit of work not started yet");
+        Handle res = current.getHandle();
+        if (res == null) {
+            // unit could be shared between threads
+            synchronized (current) {
+                res = current.isOpened() ? current.getHandle() : open(current);
+            }
+        }
+        return res;
     }
 
     /**
      * @return true if unit of work started (and handle could be obtained), false otherwise
      */
     public boolean isUnitStarted() {
-        return unit.get() != null;
+        return storage.get() != null;
+    }
+
+    /**
+     * @return true if unit of work started and its handle is already opened (always true for non lazy units)
+     */
+    public boolean isHandleOpened() {
+        final Unit current = current();
+        return current != null && current.isOpened();
+    }
+
+    /**
+     * @return configuration of current unit or null if unit not started or started without configuration
+     */
+    @Nullable
+    public TxConfig getUnitConfig() {
+        final Unit current = current();
+        return current != null ? current.getConfig() : null;
+    }
+
+    /**
+     * Checks if nested transaction could be executed in current unit: shard key of nested transaction
+     * (if declared) must resolve to the same shard as current unit's shard.
+     *
+     * @param config nested transaction configuration
+     * @return true if nested transaction is compatible with current unit shard (always true without sharding)
+     */
+    public boolean isCompatibleShard(final TxConfig config) {
+        if (!shards.isEnabled() || config.getShardKey() == null) {
+            return true;
+        }
+        final TxConfig current = getUnitConfig();
+        return shards.resolve(config.getShardKey()) == shards.resolve(current == null ? null : current.getShardKey());
+    }
+
+    /**
+     * Remember transactional method, started current unit (used for diagnostics). Called automatically
+     * by transactional annotations interceptor.
+     *
+     * @param method transactional method
+     * @throws IllegalStateException if unit of work not started
+     */
+    public void setUnitOwner(final Method method) {
+        Preconditions.checkState(isUnitStarted(), "Unit of work not started yet");
+        current().setOwner(method);
+    }
+
+    /**
+     * @return transactional method, started current unit, or null if unit not started or started manually
+     */
+    @Nullable
+    public Method getUnitOwner() {
+        final Unit current = current();
+        return current != null ? current.getOwner() : null;
+    }
+
+    /**
+     * Unit cache is used by repository methods annotated with {@link ru.vyarus.guicey.jdbi3.cache.UnitCached}.
+     * Cache is dropped at unit end.
+     *
+     * @return current unit cache
+     * @throws IllegalStateException if unit of work not started
+     */
+    public UnitCache getCache() {
+        Preconditions.checkState(isUnitStarted(), "Unit of work not started yet");
+        return current().getCache();
+    }
+
+    /**
+     * Clears current unit cache (if unit started). Called automatically on modifying repository calls.
+     */
+    public void invalidateCache() {
+        final Unit current = current();
+        if (current != null) {
+            current.invalidateCache();
+        }
+    }
+
+    /**
+     * Register action to run after current transaction commit (action would not be called in case of rollback).
+     * Actions are executed by {@link TransactionTemplate} after unit end (when handle is already closed).
+     * If unit was started manually (without transaction config), action is executed immediately because
+     * there is no transaction.
+     * <p>
+     * The same action instance is registered only once.
+     *
+     * @param action action to run after commit
+     * @throws IllegalStateException if unit of work not started
+     */
+    public void afterCommit(final Runnable action) {
+        Preconditions.checkState(isUnitStarted(), "Unit of work not started yet");
+        final Unit current = current();
+        if (current.getConfig() == null) {
+            action.run();
+        } else {
+            current.afterCommit(action);
+        }
+    }
+
+    /**
+     * Register action to run after current transaction rollback. Actions are executed by
+     * {@link TransactionTemplate} after unit end (when handle is already closed). If unit was started manually
+     * (without transaction config), action is ignored because there is no transaction.
+     * <p>
+     * The same action instance is registered only once.
+     *
+     * @param action action to run after rollback
+     * @throws IllegalStateException if unit of work not started
+     * @see ru.vyarus.guicey.jdbi3.tx.TxSynchronization
+     */
+    public void afterRollback(final Runnable action) {
+        Preconditions.checkState(isUnitStarted(), "Unit of work not started yet");
+        final Unit current = current();
+        if (current.getConfig() != null) {
+            current.afterRollback(action);
+        }
+    }
+
+    /**
+     * Used by {@link TransactionTemplate} to obtain registered actions before unit end.
+     *
+     * @return actions registered with {@link #afterRollback(Runnable)} in current unit
+     * @throws IllegalStateException if unit of work not started
+     */
+    public Collection<Runnable> getAfterRollbackActions() {
+        Preconditions.checkState(isUnitStarted(), "Unit of work not started yet");
+        return current().getAfterRollback();
+    }
+
+    /**
+     * Used by {@link TransactionTemplate} to obtain registered actions before unit end.
+     *
+     * @return actions registered with {@link #afterCommit(Runnable)} in current unit
+     * @throws IllegalStateException if unit of work not started
+     */
+    public Collection<Runnable> getAfterCommitActions() {
+        Preconditions.checkState(isUnitStarted(), "Unit of work not started yet");
+        return current().getAfterCommit();
+    }
+
+    /**
+     * Counts statement execution in current unit (for {@link NPlusOneDetector}). Called automatically by
+     * {@link QueryCountingLogger}. Ignored when detector is not configured or unit not started.
+     *
+     * @param sql        statement template
+     * @param repository repository method, executed statement (may be null)
+     */
+    public void countQuery(final String sql, @Nullable final Method repository) {
+        final Unit current = current();
+        if (detector != null && current != null) {
+            detector.count(current, sql, repository);
+        }
+    }
+
+    /**
+     * Capture current unit of work to use it in other threads. Tasks, executed with returned context,
+     * share current unit handle (and transaction). Unit owner must wait for tasks completion before unit end.
+     *
+     * @return current unit context
+     * @throws IllegalStateException if unit of work not started
+     */
+    public UnitContext capture() {
+        Preconditions.checkState(isUnitStarted(), "Unit of work not started yet");
+        return new UnitContext(this, current());
+    }
+
+    /**
+     * Detach current unit of work from current thread without closing it. Unit could be resumed later (in any
+     * thread) with {@link UnitContext#resume()} and then finished as usual with {@link #endUnit()}.
+     * Used for streaming results, when unit must outlive transactional call
+     * (see {@link TransactionTemplate#inStreamingTransaction(TxConfig, Callable)}).
+     *
+     * @return suspended unit context
+     * @throws IllegalStateException if unit of work not started
+     */
+    public UnitContext suspend() {
+        final UnitContext res = capture();
+        detach();
+        logger.debug("Transaction suspended");
+        return res;
+    }
+
+    /**
+     * Shortcut for {@code capture().wrap(action)}.
+     *
+     * @param action action to wrap
+     * @return action, executed within current unit of work
+     * @throws IllegalStateException if unit of work not started
+     */
+    public Runnable wrap(final Runnable action) {
+        return capture().wrap(action);
+    }
+
+    /**
+     * Shortcut for {@code capture().wrap(action)}.
+     *
+     * @param action action to wrap
+     * @param <T>    result type
+     * @return action, executed within current unit of work
+     * @throws IllegalStateException if unit of work not started
+     */
+    public <T> Callable<T> wrap(final Callable<T> action) {
+        return capture().wrap(action);
+    }
+
+    /**
+     * Wraps executor to propagate unit of work: each task is executed within unit of work, active at task
+     * submission time (if no unit started, task is submitted as is). Useful with any executor, including
+     * thread-per-task executors.
+     *
+     * @param executor executor to wrap
+     * @return unit propagating executor
+     */
+    public Executor wrap(final Executor executor) {
+        return command -> executor.execute(isUnitStarted() ? wrap(command) : command);
     }
 
     /**
@@ -56,10 +357,40 @@ public class UnitManager implements Provider<Handle> {
      * @throws IllegalStateException if unit of work already started
      */
     public void beginUnit() {
-        logger.debug("Transaction start");
-        Preconditions.checkState(!isUnitStarted(), "Unit of work already started");
-        final Handle handle = jdbi.open();
-        unit.set(handle);
+        beginUnit(null);
+    }
+
+    /**
+     * Starts unit of work with assigned configuration. Handle is opened immediately.
+     *
+     * @param config unit configuration (may be null)
+     * @throws IllegalStateException if unit of work already started
+     */
+    public void beginUnit(@Nullable final TxConfig config) {
+        final Unit state = new Unit(config, null);
+        start(state);
+        try {
+            // open handle immediately
+            get();
+        } catch (RuntimeException ex) {
+            if (watchdog != null) {
+                watchdog.unregister(state);
+            }
+            storage.remove();
+            throw ex;
+        }
+    }
+
+    /**
+     * Starts lazy unit of work: handle is not opened until the first {@link #get()} call. If handle would not
+     * be requested, unit will not consume connection at all.
+     *
+     * @param config      unit configuration (may be null)
+     * @param initializer action called just after handle opening (e.g. to start transaction), may be null
+     * @throws IllegalStateException if unit of work already started
+     */
+    public void beginLazyUnit(@Nullable final TxConfig config, @Nullable final Consumer<Handle> initializer) {
+        start(new Unit(config, initializer));
     }
 
     /**
@@ -69,8 +400,76 @@ public class UnitManager implements Provider<Handle> {
      */
     public void endUnit() {
         Preconditions.checkState(isUnitStarted(), "Stop called outside of unit of work");
-        unit.get().close();
-        unit.remove();
+        final Unit current = current();
+        try {
+            current.close();
+        } finally {
+            if (holdTimer != null && current.isOpened()) {
+                holdTimer.update(System.nanoTime() - current.getOpenedAt(), TimeUnit.NANOSECONDS);
+            }
+            if (watchdog != null) {
+                watchdog.unregister(current);
+            }
+            storage.remove();
+        }
+        if (detector != null) {
+            detector.finish(current);
+        }
         logger.debug("Transaction end");
     }
+
+    /**
+     * @return current thread unit state (for {@link UnitContext})
+     */
+    Object getState() {
+        return storage.get();
+    }
+
+    /**
+     * Binds captured unit to current thread.
+     *
+     * @param state captured unit
+     */
+    void attach(final Unit state) {
+        storage.set(state);
+    }
+
+    /**
+     * Binds suspended unit to current thread permanently (current thread becomes unit owner for watchdog).
+     *
+     * @param state unit to resume
+     */
+    void resume(final Unit state) {
+        attach(state);
+        if (watchdog != null) {
+            watchdog.resume(state);
+        }
+    }
+
+    /**
+     * Unbinds captured unit from current thread (without unit closing).
+     */
+    void detach() {
+        storage.remove();
+    }
+
+    private Handle open(final Unit unit) {
+        final Jdbi shard = shards.select(unit.getConfig());
+        return shard != null
+                ? unit.open(shard, null)
+                : unit.open(jdbi, replicas.select(unit.getConfig()));
+    }
+
+    private Unit current() {
+        return (Unit) storage.get();
+    }
+
+    private void start(final Unit state) {
+        logger.debug("Transaction start");
+        Preconditions.checkState(!isUnitStarted(), "Unit of work already started");
+        storage.set(state);
+        if (watchdog != null) {
+            watchdog.register(state);
+        }
+    }
 }
@@ -0,0 +1,51 @@
+package ru.vyarus.guicey.jdbi3.unit;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Statements executions counts in unit of work (see {@link NPlusOneDetector}).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+final class UnitQueries {
+
+    private final Map<String, Counter> counts = new HashMap<>();
+
+    /**
+     * @param sql        sql template
+     * @param repository repository method (may be null)
+     */
+    synchronized void count(final String sql, final Method repository) {
+        counts.computeIfAbsent(sql, key -> new Counter(repository)).count++;
+    }
+
+    /**
+     * @return statements counts
+     */
+    synchronized Map<String, Counter> getCounts() {
+        return new HashMap<>(counts);
+    }
+
+    /**
+     * Statement executions counter.
+     */
+    static class Counter {
+        private final Method repository;
+        private int count;
+
+        Counter(final Method repository) {
+            this.repository = repository;
+        }
+
+        Method getRepository() {
+            return repository;
+        }
+
+        int getCount() {
+            return count;
+        }
+    }
+}
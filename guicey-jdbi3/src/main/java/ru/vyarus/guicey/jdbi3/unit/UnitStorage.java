@@ -0,0 +1,30 @@
+package ru.vyarus.guicey.jdbi3.unit;
+
+/**
+ * Storage of current unit of work state (used by {@link UnitManager}). Unit state is opaque object:
+ * storage must only associate it with current thread.
+ * <p>
+ * {@link ThreadLocalUnitStorage} is used by default. {@link ThreadMapUnitStorage} does not store anything
+ * inside thread objects (state is stored only while unit is active) and so better suits huge amount of
+ * short-living (virtual) threads.
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public interface UnitStorage {
+
+    /**
+     * @return unit state, bound to current thread, or null
+     */
+    Object get();
+
+    /**
+     * @param state unit state to bind to current thread
+     */
+    void set(Object state);
+
+    /**
+     * Removes unit state from current thread.
+     */
+    void remove();
+}
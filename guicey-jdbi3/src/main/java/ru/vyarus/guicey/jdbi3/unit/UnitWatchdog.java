@@ -0,0 +1,162 @@
+package ru.vyarus.guicey.jdbi3.unit;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Meter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import ru.vyarus.guicey.jdbi3.metrics.JdbiMetrics;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Unit of work watchdog: tracks all active units (start time, thread and, optionally, start stack trace)
+ * in order to detect units holding connection too long (e.g. manually started unit was never finished).
+ * <p>
+ * Units are checked periodically ({@link #check()}): unit exceeding hold time budget is logged (once) with
+ * start stack trace. Units started in threads which are already dead are leaked (can't be finished anymore):
+ * such units are logged and, optionally, force closed (to return connection to pool). Resumed unit
+ * ({@link UnitContext#resume()}) is tracked in resuming thread (with hold time counted from resume).
+ * <p>
+ * When metrics enabled, active units count and the longest unit duration gauges and over budget and leaked
+ * units meters are registered.
+ * <p>
+ * Watchdog is not active by default (no units tracking performed).
+ *
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+public class UnitWatchdog {
+
+    private final Logger logger = LoggerFactory.getLogger(UnitWatchdog.class);
+
+    private final Duration budget;
+    private final boolean captureStack;
+    private final boolean closeLeaked;
+    private final Map<Unit, ActiveUnit> units = new ConcurrentHashMap<>();
+    // null when metrics disabled
+    private final Meter overBudget;
+    private final Meter leaked;
+
+    public UnitWatchdog(final Duration budget,
+                        final boolean captureStack,
+                        final boolean closeLeaked,
+                        final JdbiMetrics metrics) {
+        this.budget = budget;
+        this.captureStack = captureStack;
+        this.closeLeaked = closeLeaked;
+        if (metrics.isEnabled()) {
+            metrics.getRegistry().register(metrics.unitsMetric("active"), (Gauge<Integer>) units::size);
+            metrics.getRegistry().register(metrics.unitsMetric("longest"), (Gauge<Long>) this::getLongestMs);
+            this.overBudget = metrics.getRegistry().meter(metrics.unitsMetric("overBudget"));
+            this.leaked = metrics.getRegistry().meter(metrics.unitsMetric("leaked"));
+        } else {
+            this.overBudget = null;
+            this.leaked = null;
+        }
+    }
+
+    /**
+     * @return unit hold time budget
+     */
+    public Duration getBudget() {
+        return budget;
+    }
+
+    /**
+     * @return active units (the longest first)
+     */
+    public List<ActiveUnit> getActiveUnits() {
+        final List<ActiveUnit> res = new ArrayList<>(units.values());
+        res.sort(Comparator.comparing(ActiveUnit::getStarted));
+        return res;
+    }
+
+    /**
+     * Checks active units: reports units exceeding budget and leaked units. Called periodically.
+     */
+    public void check() {
+        for (ActiveUnit unit : units.values()) {
+            try {
+                if (!unit.getThread().isAlive()) {
+                    processLeaked(unit);
+                } else if (!unit.isReported() && unit.getDuration().compareTo(budget) > 0) {
+                    processOverBudget(unit);
+                }
+            } catch (RuntimeException ex) {
+                // avoid periodic check cancellation
+                logger.error("Unit of work check failed", ex);
+            }
+        }
+    }
+
+    /**
+     * @param unit started unit
+     */
+    void register(final Unit unit) {
+        units.put(unit, new ActiveUnit(unit, Thread.currentThread(),
+                captureStack ? new Throwable().getStackTrace() : null));
+    }
+
+    /**
+     * @param unit unit resumed in current thread
+     */
+    void resume(final Unit unit) {
+        final ActiveUnit active = units.get(unit);
+        if (active != null) {
+            active.resumed();
+        }
+    }
+
+    /**
+     * @param unit finished unit
+     */
+    void unregister(final Unit unit) {
+        units.remove(unit);
+    }
+
+    private void processOverBudget(final ActiveUnit unit) {
+        unit.reported();
+        if (overBudget != null) {
+            overBudget.mark();
+        }
+        logger.warn(unit + ": hold time budget " + budget.toMillis() + " ms exceeded", stack(unit));
+    }
+
+    private void processLeaked(final ActiveUnit unit) {
+        if (leaked != null) {
+            leaked.mark();
+        }
+        logger.warn(unit + ": leaked unit of work" + (closeLeaked ? " (closed)" : ""), stack(unit));
+        if (closeLeaked) {
+            try {
+                unit.getUnit().close();
+            } catch (RuntimeException ex) {
+                // jdbi complains about not finished transaction (after rollback)
+                logger.debug("Leaked unit close error", ex);
+            }
+        }
+        units.remove(unit.getUnit());
+    }
+
+    private long getLongestMs() {
+        long res = 0;
+        for (ActiveUnit unit : units.values()) {
+            res = Math.max(res, unit.getDuration().toMillis());
+        }
+        return res;
+    }
+
+    private Throwable stack(final ActiveUnit unit) {
+        if (unit.getStack() == null) {
+            return null;
+        }
+        final Throwable res = new Throwable("Unit of work start");
+        res.setStackTrace(unit.getStack());
+        return res;
+    }
+}
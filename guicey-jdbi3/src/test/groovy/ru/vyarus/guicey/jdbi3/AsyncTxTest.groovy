@@ -0,0 +1,95 @@
+package ru.vyarus.guicey.jdbi3
+
+import ru.vyarus.guicey.jdbi3.support.model.Sample
+import ru.vyarus.guicey.jdbi3.support.repository.SampleRepository
+import ru.vyarus.guicey.jdbi3.tx.InTransaction
+import ru.vyarus.guicey.jdbi3.tx.TransactionTemplate
+import ru.vyarus.guicey.jdbi3.unit.UnitManager
+
+import javax.inject.Inject
+import javax.inject.Singleton
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
+import java.util.concurrent.CompletionStage
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class AsyncTxTest extends AbstractAppTest {
+
+    @Inject
+    TransactionTemplate template
+    @Inject
+    SampleRepository repo
+    @Inject
+    AsyncService service
+
+    def "Check async transaction"() {
+
+        when: "executing async transaction"
+        def thread = Thread.currentThread()
+        def res = template.inTransactionAsync({ h ->
+            assert Thread.currentThread() != thread
+            repo.save(new Sample(name: 'async'))
+            repo.all().size()
+        }).join()
+        then: "committed"
+        res == 1
+        repo.all().size() == 1
+
+        when: "failed async transaction"
+        template.inTransactionAsync({ h ->
+            repo.save(new Sample(name: 'async2'))
+            throw new IllegalStateException('ups')
+        }).join()
+        then: "rolled back"
+        def ex = thrown(CompletionException)
+        ex.cause instanceof IllegalStateException
+        repo.all().size() == 1
+    }
+
+    def "Check async transactional method"() {
+
+        when: "calling async method"
+        def res = service.save('async').toCompletableFuture().join()
+        then: "executed in other thread"
+        res != Thread.currentThread().name
+        repo.all().size() == 1
+
+        when: "calling async method inside transaction"
+        res = template.inTransaction { service.save('async2').toCompletableFuture().join() }
+        then: "executed synchronously"
+        res == Thread.currentThread().name
+        repo.all().size() == 2
+
+        when: "failed async method"
+        service.fail().join()
+        then: "rolled back"
+        def ex = thrown(CompletionException)
+        ex.cause instanceof IllegalStateException
+        repo.all().size() == 2
+    }
+
+    @Singleton
+    static class AsyncService {
+
+        @Inject
+        UnitManager manager
+        @Inject
+        SampleRepository repo
+
+        @InTransaction
+        CompletionStage<String> save(String name) {
+            assert manager.isUnitStarted()
+            repo.save(new Sample(name: name))
+            return CompletableFuture.completedFuture(Thread.currentThread().name)
+        }
+
+        @InTransaction
+        CompletableFuture<Void> fail() {
+            repo.save(new Sample(name: 'fail'))
+            return CompletableFuture.supplyAsync({ throw new IllegalStateException('ups') })
+        }
+    }
+}
@@ -0,0 +1,190 @@
+package ru.vyarus.guicey.jdbi3
+
+import ru.vyarus.guicey.jdbi3.batch.BatchAbortedException
+import ru.vyarus.guicey.jdbi3.batch.BatchConfig
+import ru.vyarus.guicey.jdbi3.batch.BatchResult
+import ru.vyarus.guicey.jdbi3.batch.BatchTemplate
+import ru.vyarus.guicey.jdbi3.batch.ChunkFailurePolicy
+import ru.vyarus.guicey.jdbi3.support.model.Sample
+import ru.vyarus.guicey.jdbi3.support.repository.SampleRepository
+import ru.vyarus.guicey.jdbi3.tx.RetryPolicy
+import ru.vyarus.guicey.jdbi3.tx.TransactionTemplate
+import ru.vyarus.guicey.jdbi3.tx.TxConfig
+
+import javax.inject.Inject
+import java.sql.SQLException
+import java.time.Duration
+import java.util.concurrent.atomic.AtomicInteger
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class BatchTemplateTest extends AbstractAppTest {
+
+    @Inject
+    BatchTemplate batch
+    @Inject
+    TransactionTemplate template
+    @Inject
+    SampleRepository repository
+
+    def "Check sequential chunks processing"() {
+
+        setup:
+        List<BatchResult> progress = []
+
+        when: "processing items"
+        BatchResult res = batch.process(new BatchConfig().chunkSize(10).progress({ progress << it }),
+                items(25), { it.each { repository.save(it) } })
+        then: "all processed"
+        res.items == 25
+        res.chunks == 3
+        !res.aborted
+        progress.size() == 3
+        repository.all().size() == 25
+    }
+
+    def "Check parallel chunks processing"() {
+
+        setup:
+        Set<String> threads = Collections.synchronizedSet(new HashSet<String>())
+
+        when: "processing items in parallel"
+        BatchResult res = batch.process(new BatchConfig().chunkSize(5).parallelism(3), items(40), {
+            threads << Thread.currentThread().name
+            it.each { repository.save(it) }
+        })
+        then: "all processed on workers"
+        res.items == 40
+        res.chunks == 8
+        threads.every { it.startsWith('batch-default-') }
+        repository.all().size() == 40
+    }
+
+    def "Check chunk skip"() {
+
+        when: "processing with failed chunk"
+        BatchResult res = batch.process(new BatchConfig().chunkSize(5).onFailure(ChunkFailurePolicy.SKIP),
+                items(15), { chunk ->
+            chunk.each { repository.save(it) }
+            if (chunk*.name.contains('item6')) {
+                throw new IllegalStateException('ups')
+            }
+        })
+        then: "failed chunk rolled back"
+        res.items == 10
+        res.skippedChunks == 1
+        res.skippedItems == 5
+        repository.all().size() == 10
+    }
+
+    def "Check chunk retry"() {
+
+        setup:
+        AtomicInteger calls = new AtomicInteger()
+
+        when: "processing with failed attempt"
+        BatchResult res = batch.process(new BatchConfig().chunkSize(5).retry(2), items(10), { chunk ->
+            chunk.each { repository.save(it) }
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException('ups')
+            }
+        })
+        then: "chunk retried"
+        res.items == 10
+        res.retries == 1
+        repository.all().size() == 10
+    }
+
+    def "Check chunk retry not multiplied by transaction retry"() {
+
+        setup:
+        AtomicInteger calls = new AtomicInteger()
+        def tx = new TxConfig().retry(new RetryPolicy().attempts(3).backoff(Duration.ZERO, Duration.ZERO))
+
+        when: "processing always failing chunk"
+        batch.process(new BatchConfig().chunkSize(5).retry(2).tx(tx), items(5), {
+            calls.incrementAndGet()
+            throw new IllegalStateException('ups',
+                    new SQLException('serialization failure', RetryPolicy.SERIALIZATION_FAILURE))
+        })
+        then: "only chunk attempts performed"
+        thrown(BatchAbortedException)
+        calls.get() == 2
+    }
+
+    def "Check error not skipped"() {
+
+        setup:
+        AtomicInteger calls = new AtomicInteger()
+
+        when: "processing with error in chunk"
+        batch.process(new BatchConfig().chunkSize(5).onFailure(ChunkFailurePolicy.SKIP), items(15), {
+            calls.incrementAndGet()
+            throw new AssertionError('ups')
+        })
+        then: "error propagated"
+        thrown(AssertionError)
+        calls.get() == 1
+        repository.all().isEmpty()
+    }
+
+    def "Check parallel source failure"() {
+
+        setup:
+        AtomicInteger running = new AtomicInteger()
+        AtomicInteger processed = new AtomicInteger()
+        def source = items(12)
+        int read = 0
+        def failing = [hasNext: { true }, next: {
+            if (read++ == 10) {
+                throw new IllegalStateException('source failure')
+            }
+            source.next()
+        }] as Iterator<Sample>
+
+        when: "source fails while chunks are processed"
+        batch.process(new BatchConfig().chunkSize(2).parallelism(2), failing, { chunk ->
+            running.incrementAndGet()
+            sleep(100)
+            chunk.each { repository.save(it) }
+            processed.addAndGet(chunk.size())
+            running.decrementAndGet()
+        })
+        then: "source error propagated after running chunks completion"
+        def ex = thrown(IllegalStateException)
+        ex.message == 'source failure'
+        running.get() == 0
+        repository.all().size() == processed.get()
+    }
+
+    def "Check batch abort"() {
+
+        when: "processing with failed chunk"
+        batch.process(new BatchConfig().chunkSize(5), items(15), { chunk ->
+            chunk.each { repository.save(it) }
+            if (chunk*.name.contains('item6')) {
+                throw new IllegalStateException('ups')
+            }
+        })
+        then: "aborted"
+        def ex = thrown(BatchAbortedException)
+        ex.result.items == 5
+        ex.result.aborted
+        ex.cause instanceof IllegalStateException
+        repository.all().size() == 5
+    }
+
+    def "Check batch inside unit"() {
+
+        when: "starting batch inside transaction"
+        template.inTransaction({ batch.process(items(1), {}) })
+        then: "not allowed"
+        thrown(IllegalStateException)
+    }
+
+    private Iterator<Sample> items(int count) {
+        (1..count).collect { new Sample(name: "item$it") }.iterator()
+    }
+}
@@ -0,0 +1,109 @@
+package ru.vyarus.guicey.jdbi3
+
+import io.dropwizard.Application
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.spock.UseGuiceyApp
+import ru.vyarus.guicey.jdbi3.support.SampleApp
+import ru.vyarus.guicey.jdbi3.support.SampleConfiguration
+import ru.vyarus.guicey.jdbi3.tx.InTransaction
+import ru.vyarus.guicey.jdbi3.tx.bulkhead.BulkheadFullException
+import ru.vyarus.guicey.jdbi3.tx.bulkhead.Bulkheads
+
+import javax.inject.Inject
+import javax.inject.Singleton
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@UseGuiceyApp(value = App, config = 'src/test/resources/test-config.yml')
+class BulkheadTest extends AbstractTest {
+
+    @Inject
+    LimitedService service
+    @Inject
+    Bulkheads bulkheads
+
+    def "Check bulkhead limit"() {
+
+        setup: "occupy single permit"
+        def started = new CountDownLatch(1)
+        def finish = new CountDownLatch(1)
+        def running = CompletableFuture.runAsync({ service.limited(started, finish) })
+        started.await(5, TimeUnit.SECONDS)
+
+        when: "calling limited method"
+        service.limited(null, null)
+        then: "rejected"
+        def ex = thrown(BulkheadFullException)
+        ex.bulkhead == 'limited'
+        bulkheads.select('limited').rejected == 1
+
+        when: "calling not limited method"
+        service.free()
+        then: "executed"
+        noExceptionThrown()
+
+        when: "permit released"
+        finish.countDown()
+        running.get(5, TimeUnit.SECONDS)
+        service.limited(null, null)
+        then: "executed"
+        noExceptionThrown()
+        bulkheads.select('limited').active == 0
+    }
+
+    def "Check nested calls not limited"() {
+
+        when: "calling limited method inside limited transaction"
+        service.nested()
+        then: "executed"
+        noExceptionThrown()
+    }
+
+    @Singleton
+    static class LimitedService {
+
+        @Inject
+        LimitedService self
+
+        @InTransaction(bulkhead = 'limited')
+        void limited(CountDownLatch started, CountDownLatch finish) {
+            if (started != null) {
+                started.countDown()
+                finish.await(5, TimeUnit.SECONDS)
+            }
+        }
+
+        @InTransaction(bulkhead = 'limited')
+        void nested() {
+            self.limited(null, null)
+        }
+
+        @InTransaction
+        void free() {
+        }
+    }
+
+    static class App extends Application<SampleConfiguration> {
+
+        @Override
+        void initialize(Bootstrap<SampleConfiguration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .enableAutoConfig(SampleApp.package.name)
+                    .bundles(JdbiBundle.<SampleConfiguration> forDatabase({ conf, env -> conf.database })
+                            .withBulkhead('limited', 1, Duration.ZERO))
+                    .build())
+        }
+
+        @Override
+        void run(SampleConfiguration configuration, Environment environment) throws Exception {
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package ru.vyarus.guicey.jdbi3
+
+import ru.vyarus.guicey.jdbi3.mapper.ColumnarResult
+import ru.vyarus.guicey.jdbi3.support.model.Sample
+import ru.vyarus.guicey.jdbi3.support.repository.SampleRepository
+import ru.vyarus.guicey.jdbi3.tx.TransactionTemplate
+
+import javax.inject.Inject
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class ColumnarResultTest extends AbstractAppTest {
+
+    @Inject
+    SampleRepository repository
+    @Inject
+    TransactionTemplate template
+
+    def "Check columnar result"() {
+
+        setup:
+        repository.save(new Sample(name: "a"))
+        repository.save(new Sample(name: "bb"))
+        repository.save(new Sample(name: null))
+
+        when: "selecting columnar result"
+        ColumnarResult res = template.inTransaction({ h ->
+            h.createQuery("select id, length(name) as len, id / 2.0 as half from sample order by id")
+                    .mapTo(ColumnarResult).one()
+        })
+        then: "all rows loaded"
+        res.size() == 3
+        res.columnNames*.toLowerCase() == ['id', 'len', 'half']
+        res.getLongs('len').toArray() == [1, 2, 0] as long[]
+        !res.getLongs('len').isNull(1)
+        res.getLongs('len').isNull(2)
+        res.getDoubles('half').get(0) == res.getLongs('id').get(0) / 2.0
+
+        when: "accessing wrong column type"
+        res.getDoubles('id')
+        then: "error"
+        thrown(IllegalArgumentException)
+    }
+
+    def "Check repository method"() {
+
+        setup:
+        repository.save(new Sample(name: "a"))
+        repository.save(new Sample(name: "bb"))
+
+        when: "selecting columnar result with repository"
+        ColumnarResult res = repository.columns()
+        then: "all rows loaded"
+        res.size() == 2
+        res.columnNames*.toLowerCase() == ['id', 'len']
+        res.getLongs('len').toArray() == [1, 2] as long[]
+    }
+
+    def "Check empty result"() {
+
+        when: "selecting empty columnar result with repository"
+        ColumnarResult res = repository.columns()
+        then: "empty result with columns"
+        res != null
+        res.size() == 0
+        res.columnNames*.toLowerCase() == ['id', 'len']
+        res.getLongs('len').toArray().length == 0
+
+        when: "collecting empty result manually"
+        res = template.inTransaction({ h ->
+            h.createQuery("select id / 2.0 as half from sample").collectInto(ColumnarResult)
+        })
+        then: "empty result with columns"
+        res.size() == 0
+        res.getDoubles('half').toArray().length == 0
+
+        when: "mapping empty result without collector"
+        Optional<ColumnarResult> one = template.inTransaction({ h ->
+            h.createQuery("select id from sample").mapTo(ColumnarResult).findOne()
+        })
+        and: "collecting other empty result after it"
+        res = template.inTransaction({ h ->
+            h.createQuery("select id / 2.0 as half from sample").collectInto(ColumnarResult)
+        })
+        then: "no result for mapper and collected result not affected"
+        !one.present
+        res.columnNames*.toLowerCase() == ['half']
+    }
+}
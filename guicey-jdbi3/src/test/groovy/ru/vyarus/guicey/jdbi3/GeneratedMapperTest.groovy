@@ -0,0 +1,90 @@
+package ru.vyarus.guicey.jdbi3
+
+import org.jdbi.v3.core.mapper.RowMapper
+import ru.vyarus.guicey.jdbi3.mapper.GeneratedRowMapper
+import ru.vyarus.guicey.jdbi3.support.model.Sample
+import ru.vyarus.guicey.jdbi3.support.model.SampleRow
+import ru.vyarus.guicey.jdbi3.support.repository.SampleRepository
+import ru.vyarus.guicey.jdbi3.tx.TransactionTemplate
+
+import javax.inject.Inject
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class GeneratedMapperTest extends AbstractAppTest {
+
+    @Inject
+    SampleRepository repository
+    @Inject
+    TransactionTemplate template
+
+    def "Check generated mapper"() {
+
+        setup:
+        repository.save(new Sample(name: "test"))
+        repository.save(new Sample(name: null))
+
+        when: "mapping with generated mapper"
+        List<SampleRow> res = template.inTransaction({ h ->
+            h.createQuery("select id, name, length(name) as name_length, 1 as unknown from sample order by id")
+                    .mapTo(SampleRow).list()
+        })
+        then: "mapped"
+        res.size() == 2
+        res[0].id > 0
+        res[0].name == "test"
+        res[0].nameLength == 4
+        res[1].name == null
+        res[1].nameLength == null
+
+        when: "mapping different columns set"
+        res = template.inTransaction({ h ->
+            h.createQuery("select name from sample order by id").mapTo(SampleRow).list()
+        })
+        then: "mapped"
+        res[0].id == 0
+        res[0].name == "test"
+    }
+
+    def "Check direct mapping without specialization"() {
+
+        setup:
+        repository.save(new Sample(name: "test"))
+        repository.save(new Sample(name: "other"))
+        GeneratedRowMapper<SampleRow> mapper = new GeneratedRowMapper<>(SampleRow)
+        // closure mapper never specializes target mapper
+        RowMapper<SampleRow> direct = { rs, ctx -> mapper.map(rs, ctx) } as RowMapper<SampleRow>
+
+        when: "mapping rows of different result sets directly"
+        List<SampleRow> full = template.inTransaction({ h ->
+            h.createQuery("select id, name, length(name) as name_length from sample order by id").map(direct).list()
+        })
+        List<SampleRow> names = template.inTransaction({ h ->
+            h.createQuery("select name from sample order by id").map(direct).list()
+        })
+        then: "each result set mapped with its own shape"
+        full*.name == ["test", "other"]
+        full*.nameLength == [4, 5]
+        full.every { it.id > 0 }
+        names*.name == ["test", "other"]
+        names.every { it.id == 0 && it.nameLength == null }
+    }
+
+    def "Check shapes cache overflow"() {
+
+        setup:
+        repository.save(new Sample(name: "test"))
+
+        when: "mapping more shapes than cached"
+        List<SampleRow> res = template.inTransaction({ h ->
+            (0..GeneratedRowMapper.MAX_SHAPES).collect {
+                h.createQuery("select name, $it as extra_$it from sample").mapTo(SampleRow).one()
+            }
+        })
+        then: "all mapped"
+        res.size() == GeneratedRowMapper.MAX_SHAPES + 1
+        res.every { it.name == "test" }
+    }
+}
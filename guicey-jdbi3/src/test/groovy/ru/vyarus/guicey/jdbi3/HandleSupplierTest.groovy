@@ -0,0 +1,114 @@
+package ru.vyarus.guicey.jdbi3
+
+import org.jdbi.v3.core.Handle
+import org.jdbi.v3.core.TransactionalHandleSupplier
+import org.jdbi.v3.core.extension.ExtensionMethod
+import ru.vyarus.guicey.jdbi3.support.repository.SampleRepository
+import ru.vyarus.guicey.jdbi3.unit.UnitManager
+
+import javax.inject.Inject
+import java.util.concurrent.Callable
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class HandleSupplierTest extends AbstractAppTest {
+
+    @Inject
+    TransactionalHandleSupplier supplier
+    @Inject
+    UnitManager manager
+
+    def "Check handle context switch"() {
+
+        setup:
+        def method = new ExtensionMethod(SampleRepository, SampleRepository.getMethod('all'))
+        def other = new ExtensionMethod(SampleRepository, SampleRepository.getMethod('stream'))
+        manager.beginUnit()
+        Handle handle = manager.get()
+        def initialConfig = handle.getConfig()
+        def config = initialConfig.createCopy()
+        def otherConfig = initialConfig.createCopy()
+
+        when: "calling in context"
+        def inner = [:]
+        def outer = supplier.invokeInContext(method, config, {
+            supplier.invokeInContext(other, otherConfig, {
+                inner = [config: handle.getConfig(), method: handle.getExtensionMethod()]
+            } as Callable)
+            [handle: supplier.getHandle(), config: handle.getConfig(), method: handle.getExtensionMethod()]
+        } as Callable<Map>)
+
+        then: "current unit handle used"
+        outer.handle.is(handle)
+
+        and: "context installed for each call and restored after nested call"
+        inner.config.is(otherConfig)
+        inner.method.is(other)
+        outer.config.is(config)
+        outer.method.is(method)
+
+        and: "context restored after call"
+        handle.getConfig().is(initialConfig)
+        handle.getExtensionMethod() == null
+
+        cleanup:
+        manager.endUnit()
+    }
+
+    def "Check installed context not switched"() {
+
+        setup:
+        def method = new ExtensionMethod(SampleRepository, SampleRepository.getMethod('all'))
+        manager.beginUnit()
+        Handle handle = manager.get()
+        def initialConfig = handle.getConfig()
+        def config = initialConfig.createCopy()
+
+        when: "re-entrant call with the same context"
+        def inner = supplier.invokeInContext(method, config, {
+            supplier.invokeInContext(new ExtensionMethod(SampleRepository, SampleRepository.getMethod('all')),
+                    config, { [config: handle.getConfig(), method: handle.getExtensionMethod()] } as Callable<Map>)
+        } as Callable<Map>)
+
+        then: "installed context used"
+        inner.config.is(config)
+        inner.method.is(method)
+
+        and: "context restored after call"
+        handle.getConfig().is(initialConfig)
+        handle.getExtensionMethod() == null
+
+        cleanup:
+        manager.endUnit()
+    }
+
+    def "Check context restored after failure"() {
+
+        setup:
+        def method = new ExtensionMethod(SampleRepository, SampleRepository.getMethod('all'))
+        manager.beginUnit()
+        Handle handle = manager.get()
+        def initialConfig = handle.getConfig()
+
+        when: "failing call"
+        supplier.invokeInContext(method, initialConfig.createCopy(), { throw new IllegalStateException('ups') })
+        then: "context restored"
+        thrown(IllegalStateException)
+        handle.getConfig().is(initialConfig)
+        handle.getExtensionMethod() == null
+
+        cleanup:
+        manager.endUnit()
+    }
+
+    def "Check call outside of unit"() {
+
+        when: "calling without unit"
+        supplier.invokeInContext(new ExtensionMethod(SampleRepository, SampleRepository.getMethod('all')),
+                supplier.getConfig(), { 1 } as Callable)
+        then: "error"
+        thrown(IllegalStateException)
+    }
+}
@@ -0,0 +1,111 @@
+package ru.vyarus.guicey.jdbi3
+
+import org.jdbi.v3.sqlobject.statement.SqlQuery
+import ru.vyarus.guicey.jdbi3.page.BindPage
+import ru.vyarus.guicey.jdbi3.page.KeysetPaged
+import ru.vyarus.guicey.jdbi3.page.KeysetPaging
+import ru.vyarus.guicey.jdbi3.page.Page
+import ru.vyarus.guicey.jdbi3.page.PageRequest
+import ru.vyarus.guicey.jdbi3.support.model.Sample
+import ru.vyarus.guicey.jdbi3.support.repository.SampleRepository
+
+import javax.inject.Inject
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class KeysetPagingTest extends AbstractAppTest {
+
+    @Inject
+    SampleRepository repository
+
+    def "Check keyset pagination"() {
+
+        setup:
+        (1..5).each { repository.save(new Sample(name: "item$it")) }
+        repository.save(new Sample(name: 'other'))
+
+        when: "selecting first page"
+        Page<Sample> page = repository.page('item%', PageRequest.first(2))
+        then: "page selected"
+        page.items*.name == ['item1', 'item2']
+        page.hasNext()
+        page.nextCursor == page.items[1].id
+
+        when: "selecting next pages"
+        Page<Sample> page2 = repository.page('item%', page.next())
+        Page<Sample> page3 = repository.page('item%', page2.next())
+        then: "pages selected"
+        page2.items*.name == ['item3', 'item4']
+        page3.items*.name == ['item5']
+        !page3.hasNext()
+        page3.next() == null
+
+        when: "selecting page with exact size"
+        page = repository.page('item%', PageRequest.after(page.nextCursor, 3))
+        then: "no next page"
+        page.items*.name == ['item3', 'item4', 'item5']
+        !page.hasNext()
+    }
+
+    def "Check descending pages"() {
+
+        setup:
+        (1..3).each { repository.save(new Sample(name: "item$it")) }
+
+        when: "selecting pages"
+        Page<Sample> page = repository.pageDesc(PageRequest.first(2))
+        Page<Sample> page2 = repository.pageDesc(page.next())
+        then: "pages selected in reverse order"
+        page.items*.name == ['item3', 'item2']
+        page2.items*.name == ['item1']
+        !page2.hasNext()
+    }
+
+    def "Check incorrect declarations"() {
+
+        when: "no page request"
+        KeysetPaging.create(Incorrect.getMethod('noRequest'))
+        then: "error"
+        def ex = thrown(IllegalStateException)
+        ex.message.contains('must declare @BindPage PageRequest parameter')
+
+        when: "wrong return type"
+        KeysetPaging.create(Incorrect.getMethod('wrongReturn', PageRequest))
+        then: "error"
+        ex = thrown(IllegalStateException)
+        ex.message.contains('must return Page')
+
+        when: "unknown key property"
+        KeysetPaging.create(Incorrect.getMethod('wrongKey', PageRequest))
+        then: "error"
+        ex = thrown(IllegalStateException)
+        ex.message.contains("Key property 'uid' not found in Sample")
+
+        when: "sql injection in key"
+        KeysetPaging.create(Incorrect.getMethod('wrongColumn', PageRequest))
+        then: "error"
+        ex = thrown(IllegalStateException)
+        ex.message.contains('column name expected')
+    }
+
+    static interface Incorrect {
+
+        @SqlQuery("select * from sample")
+        @KeysetPaged(key = "id")
+        Page<Sample> noRequest()
+
+        @SqlQuery("select * from sample")
+        @KeysetPaged(key = "id")
+        List<Sample> wrongReturn(@BindPage PageRequest page)
+
+        @SqlQuery("select * from sample")
+        @KeysetPaged(key = "uid")
+        Page<Sample> wrongKey(@BindPage PageRequest page)
+
+        @SqlQuery("select * from sample")
+        @KeysetPaged(key = "id; drop table sample")
+        Page<Sample> wrongColumn(@BindPage PageRequest page)
+    }
+}
@@ -0,0 +1,52 @@
+package ru.vyarus.guicey.jdbi3
+
+import ru.vyarus.guicey.jdbi3.tx.LazyAsyncPool
+import spock.lang.Specification
+
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.RejectedExecutionException
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class LazyAsyncPoolTest extends Specification {
+
+    def "Check pool created on demand"() {
+
+        setup:
+        LazyAsyncPool pool = new LazyAsyncPool(1, 1)
+        pool.start()
+
+        expect: "pool not created on start"
+        !pool.created
+
+        when: "submitting task"
+        String thread = CompletableFuture.supplyAsync({ Thread.currentThread().name }, pool).join()
+        then: "pool created"
+        pool.created
+        thread.startsWith('jdbi-async-')
+
+        when: "stopping pool"
+        pool.stop()
+        pool.execute({})
+        then: "tasks rejected"
+        thrown(RejectedExecutionException)
+    }
+
+    def "Check not used pool stop"() {
+
+        setup:
+        LazyAsyncPool pool = new LazyAsyncPool(1, 1)
+
+        when: "stopping not used pool"
+        pool.stop()
+        then: "pool not created"
+        !pool.created
+
+        when: "submitting task after stop"
+        pool.execute({})
+        then: "rejected"
+        thrown(RejectedExecutionException)
+    }
+}
@@ -0,0 +1,86 @@
+package ru.vyarus.guicey.jdbi3
+
+import io.dropwizard.Application
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import org.jdbi.v3.core.Handle
+import org.jdbi.v3.core.transaction.LocalTransactionHandler
+import org.jdbi.v3.core.transaction.TransactionException
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.spock.UseGuiceyApp
+import ru.vyarus.guicey.jdbi3.support.SampleApp
+import ru.vyarus.guicey.jdbi3.support.SampleConfiguration
+import ru.vyarus.guicey.jdbi3.support.model.Sample
+import ru.vyarus.guicey.jdbi3.support.repository.SampleRepository
+import ru.vyarus.guicey.jdbi3.tx.TransactionTemplate
+import ru.vyarus.guicey.jdbi3.tx.TxConfig
+
+import javax.inject.Inject
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@UseGuiceyApp(value = App, config = 'src/test/resources/test-config.yml')
+class LazyTxCommitFailureTest extends AbstractTest {
+
+    @Inject
+    TransactionTemplate template
+    @Inject
+    SampleRepository repo
+
+    def "Check failed lazy tx commit rolled back"() {
+
+        setup:
+        FailingCommitHandler.fail = true
+
+        when: "commit fails"
+        template.inLazyTransaction(new TxConfig(), { repo.save(new Sample(name: 'test')) })
+        then: "transaction rolled back"
+        thrown(TransactionException)
+        FailingCommitHandler.rollbacks == 1
+
+        when: "checking data"
+        FailingCommitHandler.fail = false
+        then: "not committed"
+        repo.all().isEmpty()
+
+        cleanup:
+        FailingCommitHandler.fail = false
+    }
+
+    static class FailingCommitHandler extends LocalTransactionHandler {
+        static volatile boolean fail
+        static volatile int rollbacks
+
+        @Override
+        void commit(Handle handle) {
+            if (fail) {
+                throw new TransactionException("Commit failed")
+            }
+            super.commit(handle)
+        }
+
+        @Override
+        void rollback(Handle handle) {
+            rollbacks++
+            super.rollback(handle)
+        }
+    }
+
+    static class App extends Application<SampleConfiguration> {
+
+        @Override
+        void initialize(Bootstrap<SampleConfiguration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .enableAutoConfig(SampleApp.package.name)
+                    .bundles(JdbiBundle.<SampleConfiguration> forDatabase { conf, env -> conf.database }
+                            .withConfig { jdbi -> jdbi.setTransactionHandler(new FailingCommitHandler()) })
+                    .build())
+        }
+
+        @Override
+        void run(SampleConfiguration configuration, Environment environment) throws Exception {
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package ru.vyarus.guicey.jdbi3
+
+import org.jdbi.v3.core.transaction.TransactionException
+import ru.vyarus.guicey.jdbi3.support.model.Sample
+import ru.vyarus.guicey.jdbi3.support.repository.CustTxRepository
+import ru.vyarus.guicey.jdbi3.support.repository.SampleRepository
+import ru.vyarus.guicey.jdbi3.tx.InTransaction
+import ru.vyarus.guicey.jdbi3.unit.UnitManager
+
+import javax.inject.Inject
+import javax.inject.Singleton
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class LazyTxTest extends AbstractAppTest {
+
+    @Inject
+    LazyService service
+    @Inject
+    SampleRepository repo
+
+    def "Check lazy handle opening"() {
+
+        expect:
+        !service.noAccess()
+        service.repoAccess()
+    }
+
+    def "Check lazy tx commit and rollback"() {
+
+        when: "saving in lazy tx"
+        service.save()
+        then: "committed"
+        repo.all().size() == 1
+
+        when: "failing lazy tx"
+        service.saveAndFail()
+        then: "rolled back"
+        thrown(IllegalStateException)
+        repo.all().size() == 1
+    }
+
+    def "Check nested tx compatibility"() {
+
+        when: "calling write tx inside readonly lazy tx"
+        service.readOnlyOuter()
+        then: "incompatible"
+        thrown(TransactionException)
+    }
+
+    @Singleton
+    static class LazyService {
+
+        @Inject
+        UnitManager manager
+        @Inject
+        CustTxRepository repo
+
+        @InTransaction(lazy = true)
+        boolean noAccess() {
+            return manager.isHandleOpened()
+        }
+
+        @InTransaction(lazy = true)
+        boolean repoAccess() {
+            assert !manager.isHandleOpened()
+            repo.all()
+            return manager.isHandleOpened()
+        }
+
+        @InTransaction(lazy = true)
+        void save() {
+            repo.save(new Sample(name: 'test'))
+        }
+
+        @InTransaction(lazy = true)
+        void saveAndFail() {
+            repo.save(new Sample(name: 'test2'))
+            throw new IllegalStateException("ups")
+        }
+
+        @InTransaction(lazy = true, readOnly = true)
+        void readOnlyOuter() {
+            nested()
+        }
+
+        @InTransaction
+        void nested() {
+        }
+    }
+}
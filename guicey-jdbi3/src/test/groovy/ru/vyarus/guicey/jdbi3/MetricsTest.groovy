@@ -0,0 +1,90 @@
+package ru.vyarus.guicey.jdbi3
+
+import com.codahale.metrics.MetricRegistry
+import io.dropwizard.Application
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.spock.UseGuiceyApp
+import ru.vyarus.guicey.jdbi3.metrics.JdbiMetrics
+import ru.vyarus.guicey.jdbi3.support.SampleApp
+import ru.vyarus.guicey.jdbi3.support.SampleConfiguration
+import ru.vyarus.guicey.jdbi3.support.model.Sample
+import ru.vyarus.guicey.jdbi3.support.repository.SampleRepository
+import ru.vyarus.guicey.jdbi3.tx.InTransaction
+import ru.vyarus.guicey.jdbi3.tx.TransactionTemplate
+
+import javax.inject.Inject
+import javax.inject.Singleton
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@UseGuiceyApp(value = App, config = 'src/test/resources/test-config.yml')
+class MetricsTest extends AbstractTest {
+
+    @Inject
+    JdbiMetrics metrics
+    @Inject
+    SampleRepository repo
+    @Inject
+    TransactionTemplate template
+    @Inject
+    FailingService service
+
+    def "Check metrics"() {
+
+        setup:
+        MetricRegistry registry = metrics.registry
+        String tx = 'jdbi3.tx.' + SampleRepository.name + '.all'
+
+        when: "calling transactional repository"
+        repo.all()
+        template.inTransaction { repo.all() }
+        then: "metrics collected"
+        metrics.enabled
+        registry.timer(tx).count == 2
+        registry.meter(tx + '.commit').count == 1
+        registry.meter(tx + '.nested').count == 1
+        registry.meter(tx + '.rollback').count == 0
+        registry.timer('jdbi3.repository.' + SampleRepository.name + '.all').count == 2
+        registry.timer('jdbi3.handle.hold').count == 2
+
+        when: "failed call"
+        service.fail()
+        then: "rollback counted"
+        thrown(IllegalStateException)
+        registry.meter('jdbi3.tx.' + FailingService.name + '.fail.rollback').count == 1
+        registry.meter('jdbi3.tx.' + SampleRepository.name + '.save.nested').count == 1
+    }
+
+    @Singleton
+    static class FailingService {
+
+        @Inject
+        SampleRepository repo
+
+        @InTransaction
+        void fail() {
+            repo.save(new Sample(name: 'test'))
+            throw new IllegalStateException('ups')
+        }
+    }
+
+    static class App extends Application<SampleConfiguration> {
+
+        @Override
+        void initialize(Bootstrap<SampleConfiguration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .enableAutoConfig(SampleApp.package.name)
+                    .bundles(JdbiBundle.<SampleConfiguration> forDatabase { conf, env -> conf.database }
+                            .withMetrics())
+                    .build())
+        }
+
+        @Override
+        void run(SampleConfiguration configuration, Environment environment) throws Exception {
+        }
+    }
+}
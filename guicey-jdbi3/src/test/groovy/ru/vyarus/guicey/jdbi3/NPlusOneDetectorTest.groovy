@@ -0,0 +1,75 @@
+package ru.vyarus.guicey.jdbi3
+
+import io.dropwizard.Application
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.spock.UseGuiceyApp
+import ru.vyarus.guicey.jdbi3.support.SampleApp
+import ru.vyarus.guicey.jdbi3.support.SampleConfiguration
+import ru.vyarus.guicey.jdbi3.support.repository.SampleRepository
+import ru.vyarus.guicey.jdbi3.tx.InTransaction
+import ru.vyarus.guicey.jdbi3.unit.NPlusOneDetector
+
+import javax.inject.Inject
+import javax.inject.Singleton
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@UseGuiceyApp(value = App, config = 'src/test/resources/test-config.yml')
+class NPlusOneDetectorTest extends AbstractTest {
+
+    @Inject
+    NPlusOneDetector detector
+    @Inject
+    LoopService service
+
+    def "Check repeated queries detection"() {
+
+        when: "executing query under threshold"
+        service.select(3)
+        then: "not detected"
+        detector.getDetected().isEmpty()
+
+        when: "executing query in loop"
+        service.select(5)
+        then: "detected"
+        detector.getDetected().size() == 1
+        with(detector.getDetected()[0]) {
+            count == 5
+            sql == 'select * from sample'
+            repositoryMethod.name == 'all'
+            transactionMethod.name == 'select'
+        }
+    }
+
+    @Singleton
+    static class LoopService {
+
+        @Inject
+        SampleRepository repo
+
+        @InTransaction
+        void select(int times) {
+            times.times { repo.all() }
+        }
+    }
+
+    static class App extends Application<SampleConfiguration> {
+
+        @Override
+        void initialize(Bootstrap<SampleConfiguration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .enableAutoConfig(SampleApp.package.name)
+                    .bundles(JdbiBundle.<SampleConfiguration> forDatabase({ conf, env -> conf.database })
+                            .withNPlusOneDetector(3))
+                    .build())
+        }
+
+        @Override
+        void run(SampleConfiguration configuration, Environment environment) throws Exception {
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package ru.vyarus.guicey.jdbi3
+
+import io.dropwizard.Application
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.spock.UseGuiceyApp
+import ru.vyarus.guicey.jdbi3.dbi.replica.LeastActiveBalancer
+import ru.vyarus.guicey.jdbi3.dbi.replica.Replicas
+import ru.vyarus.guicey.jdbi3.support.SampleApp
+import ru.vyarus.guicey.jdbi3.support.SampleConfiguration
+import ru.vyarus.guicey.jdbi3.tx.TransactionTemplate
+import ru.vyarus.guicey.jdbi3.tx.TxConfig
+
+import javax.inject.Inject
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@UseGuiceyApp(value = App, config = 'src/test/resources/test-config.yml')
+class ReplicaRoutingTest extends AbstractTest {
+
+    @Inject
+    Replicas replicas
+    @Inject
+    TransactionTemplate template
+
+    def "Check read only units routing"() {
+
+        expect: "replicas configured"
+        replicas.getReplicas().size() == 2
+
+        and: "read only unit use replica"
+        template.inTransaction(new TxConfig().readOnly(true), { h ->
+            h.createQuery('select count(*) from sample').mapTo(Integer).one()
+            replicas.getReplicas().collect { it.active }.sum()
+        }) == 1
+
+        and: "write unit use primary"
+        template.inTransaction({ h ->
+            h.createQuery('select count(*) from sample').mapTo(Integer).one()
+            replicas.getReplicas().collect { it.active }.sum()
+        }) == 0
+
+        and: "all handles released"
+        replicas.getReplicas().every { it.active == 0 }
+    }
+
+    static class App extends Application<SampleConfiguration> {
+
+        @Override
+        void initialize(Bootstrap<SampleConfiguration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .enableAutoConfig(SampleApp.package.name)
+                    // same in-memory database used for replicas
+                    .bundles(JdbiBundle.<SampleConfiguration> forReplicatedDatabase(
+                            { conf, env -> conf.database },
+                            { conf, env -> [conf.database, conf.database] })
+                            .withReplicaBalancer(new LeastActiveBalancer()))
+                    .build())
+        }
+
+        @Override
+        void run(SampleConfiguration configuration, Environment environment) throws Exception {
+        }
+    }
+}
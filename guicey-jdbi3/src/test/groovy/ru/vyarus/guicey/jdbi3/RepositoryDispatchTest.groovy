@@ -0,0 +1,69 @@
+package ru.vyarus.guicey.jdbi3
+
+import org.jdbi.v3.core.statement.UnableToExecuteStatementException
+import ru.vyarus.guicey.jdbi3.support.model.Sample
+import ru.vyarus.guicey.jdbi3.support.repository.DispatchRepository
+import ru.vyarus.guicey.jdbi3.support.repository.SampleRepository
+
+import javax.inject.Inject
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class RepositoryDispatchTest extends AbstractAppTest {
+
+    @Inject
+    DispatchRepository repository
+    @Inject
+    SampleRepository samples
+
+    def "Check arguments passing"() {
+
+        setup:
+        samples.save(new Sample(name: 'a'))
+        samples.save(new Sample(name: 'b'))
+        long id = samples.all().find { it.name == 'b' }.id
+
+        expect: "object and primitive arguments passed"
+        repository.count('a', id) == 2
+        repository.count('a', -1) == 1
+        repository.count(null, -1) == 0
+
+        and: "varargs passed"
+        repository.findByNames('a', 'b').size() == 2
+        repository.findByNames('b')*.name == ['b']
+    }
+
+    def "Check default methods"() {
+
+        setup:
+        samples.save(new Sample(name: 'a'))
+
+        expect: "default method calls other repository method"
+        repository.countTwice('a') == 2
+    }
+
+    def "Check sql error not wrapped"() {
+
+        when: "calling failing query"
+        repository.broken()
+        then: "jdbi exception thrown as is"
+        thrown(UnableToExecuteStatementException)
+    }
+
+    def "Check default method errors not wrapped"() {
+
+        when: "checked exception in default method"
+        repository.failChecked()
+        then: "thrown as is"
+        def ex = thrown(IOException)
+        ex.message == 'ups'
+
+        when: "runtime exception in default method"
+        repository.failRuntime()
+        then: "thrown as is"
+        ex = thrown(IllegalStateException)
+        ex.message == 'ups'
+    }
+}
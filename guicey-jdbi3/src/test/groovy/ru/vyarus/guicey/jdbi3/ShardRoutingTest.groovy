@@ -0,0 +1,121 @@
+package ru.vyarus.guicey.jdbi3
+
+import io.dropwizard.Application
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import org.jdbi.v3.core.Handle
+import org.jdbi.v3.core.statement.SqlStatements
+import org.jdbi.v3.core.transaction.TransactionException
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.spock.UseGuiceyApp
+import ru.vyarus.guicey.jdbi3.dbi.shard.ShardKey
+import ru.vyarus.guicey.jdbi3.dbi.shard.Shards
+import ru.vyarus.guicey.jdbi3.dbi.shard.ShardsProvider
+import ru.vyarus.guicey.jdbi3.support.SampleApp
+import ru.vyarus.guicey.jdbi3.support.SampleConfiguration
+import ru.vyarus.guicey.jdbi3.support.repository.SampleRepository
+import ru.vyarus.guicey.jdbi3.tx.InTransaction
+import ru.vyarus.guicey.jdbi3.tx.TransactionTemplate
+import ru.vyarus.guicey.jdbi3.tx.TxConfig
+
+import javax.inject.Inject
+import javax.inject.Provider
+import javax.inject.Singleton
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@UseGuiceyApp(value = App, config = 'src/test/resources/test-config.yml')
+class ShardRoutingTest extends AbstractTest {
+
+    @Inject
+    Shards shards
+    @Inject
+    TransactionTemplate template
+    @Inject
+    ShardedService service
+
+    def "Check shard routing"() {
+
+        expect: "shards configured"
+        shards.getShards().size() == 2
+
+        and: "unit without key use the first shard"
+        template.inTransaction({ h -> shard(h) }) == 0
+
+        and: "unit with key use resolved shard"
+        template.inTransaction(new TxConfig().shardKey(1), { h -> shard(h) }) == 1
+        template.inTransaction(new TxConfig().shardKey(2), { h -> shard(h) }) == 0
+
+        and: "shard key parameter used"
+        service.shard(1) == 1
+        service.shard(2) == 0
+        service.shard(null) == 0
+
+        and: "repositories use unit shard"
+        service.count(1) == 0
+    }
+
+    def "Check nested shard compatibility"() {
+
+        expect: "same shard allowed"
+        service.nested(1, 3) == 1
+
+        when: "calling nested transaction on another shard"
+        service.nested(1, 2)
+        then: "incompatible"
+        thrown(TransactionException)
+    }
+
+    static int shard(Handle handle) {
+        return handle.getConfig(SqlStatements).getAttribute('shard') as int
+    }
+
+    @Singleton
+    static class ShardedService {
+
+        @Inject
+        Provider<Handle> handle
+        @Inject
+        SampleRepository repo
+        @Inject
+        ShardedService self
+
+        @InTransaction
+        int shard(@ShardKey Integer id) {
+            return ShardRoutingTest.shard(handle.get())
+        }
+
+        @InTransaction
+        int count(@ShardKey Integer id) {
+            return repo.all().size()
+        }
+
+        @InTransaction
+        int nested(@ShardKey Integer id, Integer nestedId) {
+            return self.shard(nestedId)
+        }
+    }
+
+    static class App extends Application<SampleConfiguration> {
+
+        @Override
+        void initialize(Bootstrap<SampleConfiguration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .enableAutoConfig(SampleApp.package.name)
+                    // same in-memory database used for shards, shard index stored as attribute
+                    .bundles(JdbiBundle.<SampleConfiguration> forShardedDbi({ conf, env ->
+                        def res = new ShardsProvider<SampleConfiguration>({ c, e -> [c.database, c.database] })
+                                .get(conf, env)
+                        res.eachWithIndex { jdbi, idx -> jdbi.define('shard', idx) }
+                        res
+                    }))
+                    .build())
+        }
+
+        @Override
+        void run(SampleConfiguration configuration, Environment environment) throws Exception {
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package ru.vyarus.guicey.jdbi3
+
+import com.google.inject.Provider
+import org.jdbi.v3.core.Handle
+import ru.vyarus.guicey.jdbi3.cache.RepositoryCaches
+import ru.vyarus.guicey.jdbi3.support.model.Sample
+import ru.vyarus.guicey.jdbi3.support.repository.CachedRepository
+import ru.vyarus.guicey.jdbi3.support.repository.LogicfulRepository
+import ru.vyarus.guicey.jdbi3.tx.TransactionTemplate
+import ru.vyarus.guicey.jdbi3.unit.UnitManager
+
+import javax.inject.Inject
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class SharedCacheTest extends AbstractAppTest {
+
+    @Inject
+    CachedRepository repo
+    @Inject
+    Provider<Handle> handle
+    @Inject
+    TransactionTemplate template
+    @Inject
+    RepositoryCaches caches
+    @Inject
+    LogicfulRepository logicRepo
+    @Inject
+    UnitManager manager
+
+    def "Check shared cache"() {
+
+        expect: "cache filled"
+        repo.sharedCount() == 0
+
+        when: "not tracked modification"
+        template.inTransaction { handle.get().execute("insert into sample (name) values ('raw')") }
+        then: "cached value used"
+        repo.sharedCount() == 0
+        caches.getStats()['CachedRepository.sharedCount'].hitCount() == 1
+
+        when: "tracked modification"
+        template.inTransaction {
+            repo.saveAndInvalidate(new Sample(name: 'test'))
+            // cache not used inside modifying transaction
+            assert repo.sharedCount() == 2
+        }
+        then: "cache invalidated after commit"
+        caches.getSizes()['CachedRepository.sharedCount'] == 0
+        repo.sharedCount() == 2
+
+        when: "modification rolled back"
+        template.inTransaction {
+            repo.saveAndInvalidate(new Sample(name: 'test'))
+            throw new IllegalStateException("ups")
+        }
+        then: "cache not invalidated"
+        thrown(IllegalStateException)
+        caches.getSizes()['CachedRepository.sharedCount'] == 1
+    }
+
+    def "Check value loaded before invalidation not cached"() {
+
+        when: "cache invalidated during value loading"
+        logicRepo.countInvalidatedDuringLoad()
+        then: "loaded value not cached"
+        caches.getSizes()['LogicfulRepository.countInvalidatedDuringLoad'] == 0
+        caches.getStats()['LogicfulRepository.countInvalidatedDuringLoad'].missCount() == 1
+
+        when: "calling again"
+        logicRepo.countInvalidatedDuringLoad()
+        then: "value loaded again"
+        caches.getSizes()['LogicfulRepository.countInvalidatedDuringLoad'] == 0
+        caches.getStats()['LogicfulRepository.countInvalidatedDuringLoad'].missCount() == 2
+    }
+
+    def "Check invalidation in manual unit"() {
+
+        setup: "cache filled"
+        assert repo.sharedCount() == 0
+        manager.beginUnit()
+
+        when: "failed modification"
+        repo.brokenInvalidate(new Sample(name: 'test'))
+        then: "cache not invalidated"
+        thrown(Exception)
+        caches.getSizes()['CachedRepository.sharedCount'] == 1
+
+        when: "modification"
+        repo.saveAndInvalidate(new Sample(name: 'test'))
+        then: "cache invalidated immediately after modification"
+        caches.getSizes()['CachedRepository.sharedCount'] == 0
+
+        cleanup:
+        manager.endUnit()
+    }
+}
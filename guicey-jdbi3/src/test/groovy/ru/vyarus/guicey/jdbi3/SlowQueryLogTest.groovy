@@ -0,0 +1,100 @@
+package ru.vyarus.guicey.jdbi3
+
+import io.dropwizard.Application
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.spock.UseGuiceyApp
+import ru.vyarus.guicey.jdbi3.slowlog.SlowQuery
+import ru.vyarus.guicey.jdbi3.slowlog.SlowQueryLog
+import ru.vyarus.guicey.jdbi3.slowlog.SlowQueryTask
+import ru.vyarus.guicey.jdbi3.support.SampleApp
+import ru.vyarus.guicey.jdbi3.support.SampleConfiguration
+import ru.vyarus.guicey.jdbi3.support.model.Sample
+import ru.vyarus.guicey.jdbi3.support.repository.SampleRepository
+import ru.vyarus.guicey.jdbi3.tx.InTransaction
+
+import javax.inject.Inject
+import javax.inject.Singleton
+import java.time.Duration
+import java.time.Instant
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@UseGuiceyApp(value = App, config = 'src/test/resources/test-config.yml')
+class SlowQueryLogTest extends AbstractTest {
+
+    @Inject
+    SlowQueryLog log
+    @Inject
+    SampleService service
+
+    def "Check slow queries recording"() {
+
+        when: "executing queries"
+        log.clear()
+        service.save()
+        then: "all queries recorded (zero threshold)"
+        def queries = log.queries
+        queries.size() == 2
+        with(queries.find { it.sql.contains('insert') }) {
+            repositoryMethod.name == 'save'
+            transactionMethod.name == 'save'
+            transactionMethod.declaringClass == SampleService
+            args.contains('test')
+            !failed
+        }
+        queries.find { it.sql.contains('select') }.repositoryMethod.name == 'all'
+
+        when: "printing log"
+        def out = new StringWriter()
+        new SlowQueryTask(log).execute(['clear': ['true']], new PrintWriter(out))
+        then: "printed and cleared"
+        out.toString().contains('insert into sample')
+        log.queries.isEmpty()
+    }
+
+    def "Check ring buffer"() {
+
+        when: "recording more queries than buffer size"
+        def buffer = new SlowQueryLog(Duration.ZERO, 3)
+        5.times {
+            buffer.record(new SlowQuery(Instant.ofEpochMilli(it), "q$it", '', it, false, null, null, 'main'))
+        }
+        then: "only the latest kept"
+        buffer.recordedCount == 5
+        buffer.queries*.sql == ['q4', 'q3', 'q2']
+        buffer.slowest*.durationMs == [4, 3, 2]
+    }
+
+    @Singleton
+    static class SampleService {
+
+        @Inject
+        SampleRepository repo
+
+        @InTransaction
+        void save() {
+            repo.save(new Sample(name: 'test'))
+            repo.all()
+        }
+    }
+
+    static class App extends Application<SampleConfiguration> {
+
+        @Override
+        void initialize(Bootstrap<SampleConfiguration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .enableAutoConfig(SampleApp.package.name)
+                    .bundles(JdbiBundle.<SampleConfiguration> forDatabase { conf, env -> conf.database }
+                            .withSlowQueryLog(Duration.ZERO))
+                    .build())
+        }
+
+        @Override
+        void run(SampleConfiguration configuration, Environment environment) throws Exception {
+        }
+    }
+}
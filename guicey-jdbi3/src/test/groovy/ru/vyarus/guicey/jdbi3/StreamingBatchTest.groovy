@@ -0,0 +1,44 @@
+package ru.vyarus.guicey.jdbi3
+
+import ru.vyarus.guicey.jdbi3.support.repository.BatchRepository
+import ru.vyarus.guicey.jdbi3.support.repository.SampleRepository
+import ru.vyarus.guicey.jdbi3.tx.TransactionTemplate
+
+import javax.inject.Inject
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class StreamingBatchTest extends AbstractAppTest {
+
+    @Inject
+    BatchRepository batch
+    @Inject
+    SampleRepository repo
+    @Inject
+    TransactionTemplate template
+
+    def "Check chunked batch insert"() {
+
+        when: "inserting lazy rows"
+        int consumed = 0
+        def rows = (1..10).collect { "name$it" as String }.iterator()
+        batch.insert([hasNext: { rows.hasNext() }, next: { consumed++; rows.next() }] as Iterator)
+        then: "all rows inserted"
+        consumed == 10
+        repo.all().size() == 10
+    }
+
+    def "Check all chunks in one transaction"() {
+
+        when: "failing after batch"
+        template.inTransaction({
+            batch.insert((1..5).collect { "name$it" as String }.iterator())
+            throw new IllegalStateException("ups")
+        })
+        then: "all chunks rolled back"
+        thrown(IllegalStateException)
+        repo.all().isEmpty()
+    }
+}
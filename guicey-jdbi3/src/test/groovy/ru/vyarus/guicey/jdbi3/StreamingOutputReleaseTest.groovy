@@ -0,0 +1,118 @@
+package ru.vyarus.guicey.jdbi3
+
+import io.dropwizard.Application
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.spock.UseDropwizardApp
+import ru.vyarus.guicey.jdbi3.stream.CsvStreamingOutput
+import ru.vyarus.guicey.jdbi3.support.SampleApp
+import ru.vyarus.guicey.jdbi3.support.SampleConfiguration
+import ru.vyarus.guicey.jdbi3.support.model.Sample
+import ru.vyarus.guicey.jdbi3.support.repository.SampleRepository
+import ru.vyarus.guicey.jdbi3.tx.StreamingResult
+import ru.vyarus.guicey.jdbi3.tx.TransactionTemplate
+import ru.vyarus.guicey.jdbi3.tx.TxConfig
+import spock.util.concurrent.PollingConditions
+
+import javax.inject.Inject
+import javax.ws.rs.GET
+import javax.ws.rs.Path
+import javax.ws.rs.container.ContainerRequestContext
+import javax.ws.rs.container.ContainerResponseContext
+import javax.ws.rs.container.ContainerResponseFilter
+import javax.ws.rs.core.StreamingOutput
+import javax.ws.rs.ext.Provider
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@UseDropwizardApp(value = App, config = 'src/test/resources/test-config.yml')
+class StreamingOutputReleaseTest extends AbstractTest {
+
+    @Inject
+    SampleRepository repository
+
+    def "Check written output committed"() {
+
+        when: "calling streaming resource"
+        def res = new URL('http://localhost:8080/rest/export/written').text
+        then: "rows written and transaction committed"
+        res == 'name\r\na\r\n'
+        new PollingConditions(timeout: 2).eventually {
+            assert ExportResource.result.finished
+        }
+        repository.all().size() == 1
+    }
+
+    def "Check not written output released"() {
+
+        when: "calling resource with replaced response"
+        def res = new URL('http://localhost:8080/rest/export/replaced').text
+        then: "transaction rolled back after request"
+        res == 'replaced'
+        new PollingConditions(timeout: 2).eventually {
+            assert ExportResource.result.finished
+        }
+        repository.all().isEmpty()
+    }
+
+    static class App extends Application<SampleConfiguration> {
+
+        @Override
+        void initialize(Bootstrap<SampleConfiguration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .enableAutoConfig(SampleApp.package.name)
+                    .extensions(ExportResource, ReplaceFilter)
+                    .bundles(JdbiBundle.<SampleConfiguration> forDatabase { conf, env -> conf.database })
+                    .build())
+        }
+
+        @Override
+        void run(SampleConfiguration configuration, Environment environment) throws Exception {
+        }
+    }
+
+    @Path('/export')
+    static class ExportResource {
+        static volatile StreamingResult<Sample> result
+
+        @Inject
+        TransactionTemplate template
+        @Inject
+        SampleRepository repository
+
+        @GET
+        @Path('/written')
+        StreamingOutput written() {
+            return output()
+        }
+
+        @GET
+        @Path('/replaced')
+        StreamingOutput replaced() {
+            return output()
+        }
+
+        private StreamingOutput output() {
+            result = template.inStreamingTransaction(new TxConfig(), {
+                repository.save(new Sample(name: 'a'))
+                repository.stream()
+            })
+            return new CsvStreamingOutput<Sample>(result, ['name'] as String[], { [it.name] as Object[] })
+        }
+    }
+
+    // simulates exception mapper or filter, preventing streaming output write
+    @Provider
+    static class ReplaceFilter implements ContainerResponseFilter {
+
+        @Override
+        void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+            if (requestContext.uriInfo.path.endsWith('replaced')) {
+                responseContext.entity = 'replaced'
+            }
+        }
+    }
+}
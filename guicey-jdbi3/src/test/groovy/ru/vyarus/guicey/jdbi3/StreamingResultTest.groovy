@@ -0,0 +1,117 @@
+package ru.vyarus.guicey.jdbi3
+
+import com.fasterxml.jackson.databind.ObjectMapper
+import ru.vyarus.guicey.jdbi3.stream.CsvStreamingOutput
+import ru.vyarus.guicey.jdbi3.stream.JsonStreamingOutput
+import ru.vyarus.guicey.jdbi3.support.model.Sample
+import ru.vyarus.guicey.jdbi3.support.repository.SampleRepository
+import ru.vyarus.guicey.jdbi3.tx.StreamingResult
+import ru.vyarus.guicey.jdbi3.tx.TransactionTemplate
+import ru.vyarus.guicey.jdbi3.tx.TxConfig
+import ru.vyarus.guicey.jdbi3.unit.UnitManager
+
+import javax.inject.Inject
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class StreamingResultTest extends AbstractAppTest {
+
+    @Inject
+    TransactionTemplate template
+    @Inject
+    UnitManager manager
+    @Inject
+    SampleRepository repository
+
+    def "Check csv streaming"() {
+
+        setup:
+        repository.save(new Sample(name: 'a'))
+        repository.save(new Sample(name: 'b,"c"'))
+
+        when: "starting streaming transaction"
+        StreamingResult<Sample> result = template.inStreamingTransaction(new TxConfig().readOnly(true),
+                { repository.stream() })
+        then: "unit suspended"
+        !manager.isUnitStarted()
+        !result.finished
+
+        when: "writing response"
+        def out = new ByteArrayOutputStream()
+        new CsvStreamingOutput<Sample>(result, ['name'] as String[], { [it.name] as Object[] }).write(out)
+        then: "rows written and unit closed"
+        out.toString('UTF-8') == 'name\r\na\r\n"b,""c"""\r\n'
+        result.finished
+        !manager.isUnitStarted()
+    }
+
+    def "Check json streaming in other thread"() {
+
+        setup:
+        repository.save(new Sample(name: 'a'))
+        repository.save(new Sample(name: 'b'))
+
+        when: "writing response in other thread"
+        StreamingResult<Map<String, Object>> result = template.inStreamingTransaction(new TxConfig(), {
+            manager.get().createQuery('select name from sample order by id').mapToMap().stream()
+        })
+        def out = new ByteArrayOutputStream()
+        def thread = Thread.start {
+            new JsonStreamingOutput<Map<String, Object>>(result, new ObjectMapper()).write(out)
+        }
+        thread.join()
+        then: "rows written"
+        out.toString('UTF-8') == '[{"name":"a"},{"name":"b"}]'
+        result.finished
+    }
+
+    def "Check failed streaming rollback"() {
+
+        setup:
+        boolean rolledBack
+        StreamingResult<Sample> result = template.inStreamingTransaction(new TxConfig(), {
+            repository.save(new Sample(name: 'a'))
+            manager.afterRollback({ rolledBack = true })
+            repository.stream()
+        })
+
+        when: "failing row consumption"
+        result.forEach({ throw new IOException('ups') })
+        then: "rolled back"
+        thrown(IOException)
+        rolledBack
+        !manager.isUnitStarted()
+        repository.all().isEmpty()
+
+        when: "consuming again"
+        result.forEach({})
+        then: "error"
+        thrown(IllegalStateException)
+    }
+
+    def "Check not consumed result close"() {
+
+        setup:
+        StreamingResult<Sample> result = template.inStreamingTransaction(new TxConfig(), {
+            repository.save(new Sample(name: 'a'))
+            repository.stream()
+        })
+
+        when: "closing result"
+        result.close()
+        then: "rolled back"
+        result.finished
+        !manager.isUnitStarted()
+        repository.all().isEmpty()
+    }
+
+    def "Check streaming inside unit"() {
+
+        when: "starting streaming transaction inside transaction"
+        template.inTransaction({ template.inStreamingTransaction(new TxConfig(), { repository.stream() }) })
+        then: "not allowed"
+        thrown(IllegalStateException)
+    }
+}
@@ -0,0 +1,67 @@
+package ru.vyarus.guicey.jdbi3
+
+import io.dropwizard.Application
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.spock.UseGuiceyApp
+import ru.vyarus.guicey.jdbi3.support.SampleApp
+import ru.vyarus.guicey.jdbi3.support.SampleConfiguration
+import ru.vyarus.guicey.jdbi3.support.model.Sample
+import ru.vyarus.guicey.jdbi3.support.repository.SampleRepository
+import ru.vyarus.guicey.jdbi3.tx.TransactionTemplate
+import ru.vyarus.guicey.jdbi3.unit.ThreadMapUnitStorage
+import ru.vyarus.guicey.jdbi3.unit.UnitManager
+import ru.vyarus.guicey.jdbi3.unit.UnitStorage
+
+import javax.inject.Inject
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@UseGuiceyApp(value = App, config = 'src/test/resources/test-config.yml')
+class ThreadMapUnitStorageTest extends AbstractTest {
+
+    @Inject
+    UnitStorage storage
+    @Inject
+    UnitManager manager
+    @Inject
+    TransactionTemplate template
+    @Inject
+    SampleRepository repository
+
+    def "Check map storage"() {
+
+        expect: "configured storage used"
+        storage instanceof ThreadMapUnitStorage
+
+        when: "using transaction"
+        def res = template.inTransaction {
+            assert storage.get() != null
+            repository.save(new Sample(name: 'a'))
+            repository.all().size()
+        }
+        then: "unit works and removed from storage"
+        res == 1
+        storage.get() == null
+        !manager.isUnitStarted()
+    }
+
+    static class App extends Application<SampleConfiguration> {
+
+        @Override
+        void initialize(Bootstrap<SampleConfiguration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .enableAutoConfig(SampleApp.package.name)
+                    .bundles(JdbiBundle.<SampleConfiguration> forDatabase { conf, env -> conf.database }
+                            .withUnitStorage(new ThreadMapUnitStorage()))
+                    .build())
+        }
+
+        @Override
+        void run(SampleConfiguration configuration, Environment environment) throws Exception {
+        }
+    }
+}
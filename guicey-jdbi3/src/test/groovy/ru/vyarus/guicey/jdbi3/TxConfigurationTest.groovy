@@ -3,6 +3,8 @@ package ru.vyarus.guicey.jdbi3
 import com.google.inject.Provider
 import org.jdbi.v3.core.Handle
 import org.jdbi.v3.core.transaction.TransactionIsolationLevel
+import ru.vyarus.guicey.jdbi3.support.model.Sample
+import ru.vyarus.guicey.jdbi3.support.repository.SampleRepository
 import ru.vyarus.guicey.jdbi3.tx.InTransaction
 
 import javax.inject.Inject
@@ -16,6 +18,8 @@ class TxConfigurationTest extends AbstractAppTest {
 
     @Inject
     TxService service
+    @Inject
+    SampleRepository repo
 
     def "Check tx configuration appliance"() {
 
@@ -26,11 +30,24 @@ class TxConfigurationTest extends AbstractAppTest {
         !service.readOnly() // h2 ignores this flag
     }
 
+    def "Check statement settings appliance"() {
+
+        when: "saving rows"
+        repo.save(new Sample(name: 'one'))
+        repo.save(new Sample(name: 'two'))
+        then: "max rows applied to repository and handle calls"
+        service.limitedRepoCall().size() == 1
+        service.limitedHandleCall() == 1
+        repo.all().size() == 2
+    }
+
     @Singleton
     static class TxService {
 
         @Inject
         Provider<Handle> handle
+        @Inject
+        SampleRepository repo
 
         @InTransaction()
         TransactionIsolationLevel defLevelCall() {
@@ -51,5 +68,15 @@ class TxConfigurationTest extends AbstractAppTest {
         boolean readOnly() {
             return handle.get().isReadOnly()
         }
+
+        @InTransaction(maxRows = 1, queryTimeout = 5, fetchSize = 10)
+        List<Sample> limitedRepoCall() {
+            return repo.all()
+        }
+
+        @InTransaction(maxRows = 1)
+        int limitedHandleCall() {
+            return handle.get().createQuery('select * from sample').mapToMap().list().size()
+        }
     }
 }
@@ -0,0 +1,110 @@
+package ru.vyarus.guicey.jdbi3
+
+import ru.vyarus.guicey.jdbi3.support.model.Sample
+import ru.vyarus.guicey.jdbi3.support.repository.SampleRepository
+import ru.vyarus.guicey.jdbi3.tx.InTransaction
+import ru.vyarus.guicey.jdbi3.tx.RetryPolicy
+import ru.vyarus.guicey.jdbi3.tx.TransactionTemplate
+import ru.vyarus.guicey.jdbi3.tx.TxConfig
+import ru.vyarus.guicey.jdbi3.unit.UnitManager
+
+import javax.inject.Inject
+import javax.inject.Singleton
+import java.sql.SQLException
+import java.time.Duration
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class TxRetryTest extends AbstractAppTest {
+
+    @Inject
+    RetryService service
+    @Inject
+    SampleRepository repo
+    @Inject
+    TransactionTemplate template
+    @Inject
+    UnitManager manager
+
+    def "Check transaction retry"() {
+
+        when: "transaction fails with serialization failure"
+        service.attempts = 0
+        service.failures = 2
+        service.save()
+        then: "retried"
+        service.attempts == 3
+        // failed attempts rolled back
+        repo.all().size() == 1
+
+        when: "retries exhausted"
+        service.attempts = 0
+        service.failures = 5
+        service.save()
+        then: "failed"
+        thrown(IllegalStateException)
+        service.attempts == 3
+        repo.all().size() == 1
+
+        when: "called inside transaction"
+        service.attempts = 0
+        service.failures = 1
+        template.inTransaction { service.save() }
+        then: "not retried"
+        thrown(IllegalStateException)
+        service.attempts == 1
+    }
+
+    def "Check not retryable error"() {
+
+        when: "manual transaction fails with other error"
+        int attempts = 0
+        template.inTransaction(new TxConfig().retry(new RetryPolicy().backoff(Duration.ZERO, Duration.ZERO)), {
+            attempts++
+            throw new IllegalStateException('ups', new SQLException('fail', '23505'))
+        })
+        then: "not retried"
+        thrown(IllegalStateException)
+        attempts == 1
+    }
+
+    def "Check after commit action not retried"() {
+
+        when: "after commit action fails with retryable error"
+        int attempts = 0
+        template.inTransaction(new TxConfig().retry(new RetryPolicy().backoff(Duration.ZERO, Duration.ZERO)), {
+            attempts++
+            repo.save(new Sample(name: 'test'))
+            manager.afterCommit({
+                throw new IllegalStateException('conflict',
+                        new SQLException('serialization failure', RetryPolicy.SERIALIZATION_FAILURE))
+            })
+        })
+        then: "transaction not re-executed"
+        notThrown(IllegalStateException)
+        attempts == 1
+        repo.all().size() == 1
+    }
+
+    @Singleton
+    static class RetryService {
+
+        @Inject
+        SampleRepository repo
+
+        int attempts
+        int failures
+
+        @InTransaction(retryAttempts = 3, retryBackoff = 1L)
+        void save() {
+            attempts++
+            repo.save(new Sample(name: 'test'))
+            if (attempts <= failures) {
+                throw new IllegalStateException('conflict',
+                        new SQLException('serialization failure', RetryPolicy.SERIALIZATION_FAILURE))
+            }
+        }
+    }
+}
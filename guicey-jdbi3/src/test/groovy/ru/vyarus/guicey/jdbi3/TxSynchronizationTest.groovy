@@ -0,0 +1,94 @@
+package ru.vyarus.guicey.jdbi3
+
+import ru.vyarus.guicey.jdbi3.tx.InTransaction
+import ru.vyarus.guicey.jdbi3.tx.TxSynchronization
+import ru.vyarus.guicey.jdbi3.unit.UnitManager
+
+import javax.inject.Inject
+import javax.inject.Singleton
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.TimeUnit
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class TxSynchronizationTest extends AbstractAppTest {
+
+    @Inject
+    CallbacksService service
+
+    def "Check commit callbacks"() {
+
+        when: "committed transaction"
+        def events = []
+        service.commit(events)
+        then: "only commit callback called outside of unit"
+        events == ['commit:false']
+    }
+
+    def "Check rollback callbacks"() {
+
+        when: "rolled back transaction"
+        def events = []
+        service.rollback(events)
+        then: "only rollback callback called outside of unit"
+        thrown(IllegalStateException)
+        events == ['rollback:false']
+    }
+
+    def "Check failed commit callback"() {
+
+        when: "commit callback fails"
+        def events = []
+        service.failedCallback(events)
+        then: "transaction not failed and other callbacks called"
+        notThrown(IllegalStateException)
+        events == ['commit:false']
+    }
+
+    def "Check async callbacks"() {
+
+        when: "committed transaction with async callback"
+        def thread = new CompletableFuture<String>()
+        service.async(thread)
+        then: "callback executed in other thread"
+        thread.get(5, TimeUnit.SECONDS) != Thread.currentThread().name
+    }
+
+    @Singleton
+    static class CallbacksService {
+
+        @Inject
+        TxSynchronization sync
+        @Inject
+        UnitManager manager
+
+        @InTransaction
+        void commit(List events) {
+            register(events)
+        }
+
+        @InTransaction
+        void rollback(List events) {
+            register(events)
+            throw new IllegalStateException('ups')
+        }
+
+        @InTransaction
+        void failedCallback(List events) {
+            sync.afterCommit { throw new IllegalStateException('ups') }
+            register(events)
+        }
+
+        @InTransaction
+        void async(CompletableFuture<String> thread) {
+            sync.afterCommitAsync { thread.complete(Thread.currentThread().name) }
+        }
+
+        private void register(List events) {
+            sync.afterCommit { events << "commit:${manager.isUnitStarted()}".toString() }
+            sync.afterRollback { events << "rollback:${manager.isUnitStarted()}".toString() }
+        }
+    }
+}
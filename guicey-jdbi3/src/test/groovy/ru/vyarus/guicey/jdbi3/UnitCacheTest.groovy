@@ -0,0 +1,48 @@
+package ru.vyarus.guicey.jdbi3
+
+import com.google.inject.Provider
+import org.jdbi.v3.core.Handle
+import ru.vyarus.guicey.jdbi3.support.model.Sample
+import ru.vyarus.guicey.jdbi3.support.repository.CachedRepository
+import ru.vyarus.guicey.jdbi3.tx.TransactionTemplate
+import ru.vyarus.guicey.jdbi3.unit.UnitManager
+
+import javax.inject.Inject
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class UnitCacheTest extends AbstractAppTest {
+
+    @Inject
+    CachedRepository repo
+    @Inject
+    Provider<Handle> handle
+    @Inject
+    TransactionTemplate template
+    @Inject
+    UnitManager manager
+
+    def "Check unit cache"() {
+
+        when: "calling cached method inside unit"
+        template.inTransaction {
+            assert repo.count() == 0
+            // not tracked modification
+            handle.get().execute("insert into sample (name) values ('raw')")
+            assert repo.count() == 0
+            assert manager.getCache().size() == 1
+
+            // tracked modification
+            repo.save(new Sample(name: 'test'))
+            assert manager.getCache().size() == 0
+            assert repo.count() == 2
+        }
+        then: "cache works"
+        true
+
+        and: "cache dropped with unit"
+        repo.count() == 2
+    }
+}
@@ -0,0 +1,75 @@
+package ru.vyarus.guicey.jdbi3
+
+import ru.vyarus.guicey.jdbi3.support.model.Sample
+import ru.vyarus.guicey.jdbi3.support.repository.SampleRepository
+import ru.vyarus.guicey.jdbi3.tx.TransactionTemplate
+import ru.vyarus.guicey.jdbi3.unit.ThreadLocalUnitStorage
+import ru.vyarus.guicey.jdbi3.unit.UnitContext
+import ru.vyarus.guicey.jdbi3.unit.UnitManager
+import ru.vyarus.guicey.jdbi3.unit.UnitStorage
+
+import javax.inject.Inject
+import java.util.concurrent.Callable
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+class UnitPropagationTest extends AbstractAppTest {
+
+    @Inject
+    TransactionTemplate template
+    @Inject
+    UnitManager manager
+    @Inject
+    SampleRepository repo
+    @Inject
+    UnitStorage storage
+
+    ExecutorService executor = Executors.newSingleThreadExecutor()
+
+    void cleanup() {
+        executor.shutdown()
+    }
+
+    def "Check thread local storage used by default"() {
+
+        expect:
+        storage instanceof ThreadLocalUnitStorage
+    }
+
+    def "Check unit propagation"() {
+
+        when: "executing task in other thread within transaction"
+        def res = template.inTransaction {
+            CompletableFuture.runAsync({ repo.save(new Sample(name: 'child')) }, manager.wrap(executor)).join()
+            // child changes visible in current transaction
+            repo.all().size()
+        }
+        then: "same transaction used"
+        res == 1
+        repo.all().size() == 1
+
+        when: "parent transaction rolled back"
+        template.inTransaction {
+            executor.submit(manager.wrap({ repo.save(new Sample(name: 'child2')) } as Runnable)).get()
+            throw new IllegalStateException('ups')
+        }
+        then: "child changes rolled back"
+        thrown(IllegalStateException)
+        repo.all().size() == 1
+
+        when: "running task after unit end"
+        UnitContext ctx = template.inTransaction { manager.capture() }
+        ctx.run({ repo.all() })
+        then: "error"
+        thrown(IllegalStateException)
+        !ctx.active
+
+        and: "thread is not polluted"
+        executor.submit({ manager.isUnitStarted() } as Callable).get() == false
+    }
+}
@@ -0,0 +1,137 @@
+package ru.vyarus.guicey.jdbi3
+
+import io.dropwizard.Application
+import io.dropwizard.setup.Bootstrap
+import io.dropwizard.setup.Environment
+import ru.vyarus.dropwizard.guice.GuiceBundle
+import ru.vyarus.dropwizard.guice.test.spock.UseGuiceyApp
+import ru.vyarus.guicey.jdbi3.support.SampleApp
+import ru.vyarus.guicey.jdbi3.support.SampleConfiguration
+import ru.vyarus.guicey.jdbi3.unit.UnitContext
+import ru.vyarus.guicey.jdbi3.unit.UnitManager
+import ru.vyarus.guicey.jdbi3.unit.UnitWatchdog
+
+import javax.inject.Inject
+import java.time.Duration
+import java.util.concurrent.CountDownLatch
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@UseGuiceyApp(value = App, config = 'src/test/resources/test-config.yml')
+class UnitWatchdogTest extends AbstractTest {
+
+    @Inject
+    UnitWatchdog watchdog
+    @Inject
+    UnitManager manager
+    @Inject
+    Environment environment
+
+    def "Check active units tracking"() {
+
+        when: "starting unit"
+        manager.beginUnit()
+        then: "unit tracked"
+        watchdog.activeUnits.size() == 1
+        watchdog.activeUnits[0].thread == Thread.currentThread()
+        watchdog.activeUnits[0].stack != null
+
+        when: "exceeding budget"
+        sleep(300)
+        watchdog.check()
+        then: "reported"
+        environment.metrics().meter('jdbi3.units.overBudget').count == 1
+
+        when: "unit finished"
+        manager.endUnit()
+        then: "not tracked"
+        watchdog.activeUnits.isEmpty()
+    }
+
+    def "Check leaked unit"() {
+
+        when: "starting unit in thread without finishing it"
+        Thread thread = Thread.start { manager.beginUnit() }
+        thread.join()
+        then: "unit tracked"
+        watchdog.activeUnits.size() == 1
+
+        when: "checking units"
+        watchdog.check()
+        then: "leaked unit closed"
+        watchdog.activeUnits.isEmpty()
+        environment.metrics().meter('jdbi3.units.leaked').count == 1
+    }
+
+    def "Check unit resumed in other thread"() {
+
+        setup:
+        long leaked = environment.metrics().meter('jdbi3.units.leaked').count
+        CountDownLatch suspended = new CountDownLatch(1)
+        CountDownLatch resumed = new CountDownLatch(1)
+        CountDownLatch finish = new CountDownLatch(1)
+
+        when: "unit started and suspended in thread after timeout"
+        UnitContext unit = null
+        Thread starter = Thread.start {
+            manager.beginUnit()
+            sleep(300)
+            unit = manager.suspend()
+            suspended.countDown()
+            // thread dies after resume
+            resumed.await()
+        }
+        and: "resumed in other thread"
+        Thread consumer = Thread.start {
+            suspended.await()
+            unit.resume()
+            resumed.countDown()
+            finish.await()
+            manager.endUnit()
+        }
+        resumed.await()
+        starter.join()
+        long overBudget = environment.metrics().meter('jdbi3.units.overBudget').count
+        watchdog.check()
+        then: "unit tracked in resuming thread and not leaked"
+        watchdog.activeUnits.size() == 1
+        watchdog.activeUnits[0].thread == consumer
+        watchdog.activeUnits[0].duration.toMillis() < 200
+        unit.isActive()
+        environment.metrics().meter('jdbi3.units.leaked').count == leaked
+        environment.metrics().meter('jdbi3.units.overBudget').count == overBudget
+
+        when: "exceeding budget after resume"
+        sleep(300)
+        watchdog.check()
+        then: "reported, but not closed"
+        environment.metrics().meter('jdbi3.units.overBudget').count == overBudget + 1
+        environment.metrics().meter('jdbi3.units.leaked').count == leaked
+        unit.isActive()
+
+        when: "unit finished"
+        finish.countDown()
+        consumer.join()
+        then: "not tracked"
+        watchdog.activeUnits.isEmpty()
+    }
+
+    static class App extends Application<SampleConfiguration> {
+
+        @Override
+        void initialize(Bootstrap<SampleConfiguration> bootstrap) {
+            bootstrap.addBundle(GuiceBundle.builder()
+                    .enableAutoConfig(SampleApp.package.name)
+                    .bundles(JdbiBundle.<SampleConfiguration> forDatabase { conf, env -> conf.database }
+                            .withMetrics()
+                            .withUnitWatchdog(Duration.ofMillis(200), true, true))
+                    .build())
+        }
+
+        @Override
+        void run(SampleConfiguration configuration, Environment environment) throws Exception {
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package ru.vyarus.guicey.jdbi3.support.model
+
+import ru.vyarus.guicey.jdbi3.mapper.GeneratedMapper
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@GeneratedMapper
+class SampleRow {
+
+    long id
+    String name
+    Integer nameLength
+}
@@ -0,0 +1,20 @@
+package ru.vyarus.guicey.jdbi3.support.repository
+
+import org.jdbi.v3.sqlobject.customizer.Bind
+import org.jdbi.v3.sqlobject.statement.SqlBatch
+import ru.vyarus.guicey.jdbi3.batch.StreamingBatch
+import ru.vyarus.guicey.jdbi3.installer.repository.JdbiRepository
+import ru.vyarus.guicey.jdbi3.tx.InTransaction
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@JdbiRepository
+@InTransaction
+interface BatchRepository {
+
+    @StreamingBatch(chunkSize = 3)
+    @SqlBatch("insert into sample (name) values (:name)")
+    void insert(@Bind("name") Iterator<String> names)
+}
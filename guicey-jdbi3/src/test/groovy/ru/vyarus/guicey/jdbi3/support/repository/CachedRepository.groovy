@@ -0,0 +1,39 @@
+package ru.vyarus.guicey.jdbi3.support.repository
+
+import org.jdbi.v3.sqlobject.statement.SqlQuery
+import org.jdbi.v3.sqlobject.statement.SqlUpdate
+import ru.vyarus.guicey.jdbi3.cache.Cached
+import ru.vyarus.guicey.jdbi3.cache.InvalidateCache
+import ru.vyarus.guicey.jdbi3.cache.UnitCached
+import ru.vyarus.guicey.jdbi3.installer.repository.JdbiRepository
+import ru.vyarus.guicey.jdbi3.support.mapper.binder.SampleBind
+import ru.vyarus.guicey.jdbi3.support.model.Sample
+import ru.vyarus.guicey.jdbi3.tx.InTransaction
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@JdbiRepository
+@InTransaction
+interface CachedRepository {
+
+    @UnitCached
+    @SqlQuery("select count(*) from sample")
+    int count()
+
+    @SqlUpdate("insert into sample (name) values (:name)")
+    void save(@SampleBind Sample sample)
+
+    @Cached(tags = "sample")
+    @SqlQuery("select count(*) from sample")
+    int sharedCount()
+
+    @InvalidateCache("sample")
+    @SqlUpdate("insert into sample (name) values (:name)")
+    void saveAndInvalidate(@SampleBind Sample sample)
+
+    @InvalidateCache("sample")
+    @SqlUpdate("insert into missing_table (name) values (:name)")
+    void brokenInvalidate(@SampleBind Sample sample)
+}
@@ -0,0 +1,41 @@
+package ru.vyarus.guicey.jdbi3.support.repository;
+
+import org.jdbi.v3.sqlobject.customizer.Bind;
+import org.jdbi.v3.sqlobject.customizer.BindList;
+import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import ru.vyarus.guicey.jdbi3.installer.repository.JdbiRepository;
+import ru.vyarus.guicey.jdbi3.support.model.Sample;
+import ru.vyarus.guicey.jdbi3.tx.InTransaction;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * @author Vyacheslav Rusakov
+ * @since 18.10.2026
+ */
+@JdbiRepository
+@InTransaction
+public interface DispatchRepository {
+
+    @SqlQuery("select count(*) from sample where name = :name or id = :id")
+    int count(@Bind("name") String name, @Bind("id") long id);
+
+    @SqlQuery("select * from sample where name in (<names>)")
+    List<Sample> findByNames(@BindList("names") String... names);
+
+    @SqlQuery("select * from not_existing_table")
+    List<Sample> broken();
+
+    default int countTwice(final String name) {
+        return count(name, -1) * 2;
+    }
+
+    default void failChecked() throws IOException {
+        throw new IOException("ups");
+    }
+
+    default void failRuntime() {
+        throw new IllegalStateException("ups");
+    }
+}
@@ -2,11 +2,14 @@ package ru.vyarus.guicey.jdbi3.support.repository;
 
 import com.google.common.base.Preconditions;
 import org.jdbi.v3.sqlobject.statement.SqlQuery;
+import ru.vyarus.guicey.jdbi3.cache.Cached;
+import ru.vyarus.guicey.jdbi3.cache.RepositoryCaches;
 import ru.vyarus.guicey.jdbi3.installer.repository.JdbiRepository;
 import ru.vyarus.guicey.jdbi3.support.model.Sample;
 import ru.vyarus.guicey.jdbi3.tx.InTransaction;
 
 import javax.inject.Inject;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -23,6 +26,17 @@ public interface LogicfulRepository {
     @Inject
     CustTxRepository getCustRepo();
 
+    @Inject
+    RepositoryCaches getCaches();
+
+    @Cached(tags = "concurrent")
+    default int countInvalidatedDuringLoad() {
+        final int res = all().size();
+        // simulates concurrent transaction commit during value loading
+        getCaches().invalidate(Collections.singletonList("concurrent"));
+        return res;
+    }
+
     default List<Sample> checkInject() {
         List<Sample> all = all();
         List<Sample> all2 = getCustRepo().all();
@@ -1,13 +1,20 @@
 package ru.vyarus.guicey.jdbi3.support.repository
 
+import org.jdbi.v3.sqlobject.customizer.Bind
 import org.jdbi.v3.sqlobject.statement.SqlQuery
 import org.jdbi.v3.sqlobject.statement.SqlUpdate
 import ru.vyarus.guicey.jdbi3.installer.repository.JdbiRepository
+import ru.vyarus.guicey.jdbi3.mapper.ColumnarResult
+import ru.vyarus.guicey.jdbi3.page.BindPage
+import ru.vyarus.guicey.jdbi3.page.KeysetPaged
+import ru.vyarus.guicey.jdbi3.page.Page
+import ru.vyarus.guicey.jdbi3.page.PageRequest
 import ru.vyarus.guicey.jdbi3.support.mapper.binder.SampleBind
 import ru.vyarus.guicey.jdbi3.support.model.Sample
 import ru.vyarus.guicey.jdbi3.tx.InTransaction
 
 import javax.inject.Inject
+import java.util.stream.Stream
 
 /**
  * @author Vyacheslav Rusakov
@@ -20,6 +27,20 @@ interface SampleRepository {
     @SqlQuery("select * from sample")
     List<Sample> all()
 
+    @SqlQuery("select * from sample order by id")
+    Stream<Sample> stream()
+
+    @SqlQuery("select * from sample where name like :name")
+    @KeysetPaged(key = "id")
+    Page<Sample> page(@Bind("name") String name, @BindPage PageRequest page)
+
+    @SqlQuery("select * from sample")
+    @KeysetPaged(key = "id", desc = true)
+    Page<Sample> pageDesc(@BindPage PageRequest page)
+
+    @SqlQuery("select id, length(name) as len from sample order by id")
+    ColumnarResult columns()
+
     @SqlUpdate("insert into sample (name) values (:name)")
     void save(@SampleBind Sample sample)
 